@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.benchmark;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Creates the paths the benchmarks run over.
+ */
+public final class BenchmarkPaths {
+
+    private BenchmarkPaths() {} // No instances!
+
+    /**
+     * Creates a path heading east along a wave around Bangkok.
+     *
+     * @param count The number of vertices.
+     * @return The packed vertices, as in {@code [lat0, lng0, lat1, lng1, ...]}.
+     */
+    public static @NonNull double[] wave(int count) {
+        final double[] latLngs = new double[count * 2];
+        for (int i = 0; i < count; i++) {
+            latLngs[i * 2] = 13.7 + Math.sin(i * 0.001) * 0.5;
+            latLngs[i * 2 + 1] = 100.5 + i * 0.0001;
+        }
+        return latLngs;
+    }
+
+    /**
+     * Creates a ring around Bangkok with a jagged outline.
+     *
+     * @param count The number of vertices.
+     * @return The packed vertices, as in {@code [lat0, lng0, lat1, lng1, ...]}.
+     */
+    public static @NonNull double[] ring(int count) {
+        final double[] latLngs = new double[count * 2];
+        for (int i = 0; i < count; i++) {
+            final double angle = 2 * Math.PI * i / count;
+            final double radius = i % 2 == 0 ? 0.5 : 0.4;
+            latLngs[i * 2] = 13.7 + Math.sin(angle) * radius;
+            latLngs[i * 2 + 1] = 100.5 + Math.cos(angle) * radius;
+        }
+        return latLngs;
+    }
+
+    /**
+     * Encodes packed coordinates with the encoded polyline algorithm, of the default precision.
+     */
+    public static @NonNull String encode(@NonNull double[] latLngs) {
+        final StringBuilder builder = new StringBuilder();
+        long previousLatitude = 0;
+        long previousLongitude = 0;
+        for (int i = 0; i < latLngs.length; i += 2) {
+            final long latitude = Math.round(latLngs[i] * 1e5);
+            final long longitude = Math.round(latLngs[i + 1] * 1e5);
+            encode(latitude - previousLatitude, builder);
+            encode(longitude - previousLongitude, builder);
+            previousLatitude = latitude;
+            previousLongitude = longitude;
+        }
+        return builder.toString();
+    }
+
+    private static void encode(long value, @NonNull StringBuilder builder) {
+        long shifted = value < 0 ? ~(value << 1) : value << 1;
+        while (shifted >= 0x20) {
+            builder.append((char) ((0x20 | (shifted & 0x1f)) + 63));
+            shifted >>= 5;
+        }
+        builder.append((char) (shifted + 63));
+    }
+
+}
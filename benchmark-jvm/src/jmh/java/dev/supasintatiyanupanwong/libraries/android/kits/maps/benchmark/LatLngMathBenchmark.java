@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngMath;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LatLngMathBenchmark {
+
+    @Param({ "100", "10000" })
+    public int pointCount;
+
+    private double[] mPath;
+    private double[] mRing;
+
+    private final LatLngMath.BoundsAccumulator mBounds = new LatLngMath.BoundsAccumulator();
+
+    @Setup public void setUp() {
+        mPath = BenchmarkPaths.wave(pointCount);
+        mRing = BenchmarkPaths.ring(pointCount);
+    }
+
+    @Benchmark public double length() {
+        return LatLngMath.length(mPath);
+    }
+
+    @Benchmark public double vincentyDistance() {
+        return LatLngMath.vincentyDistance(
+                mPath[0],
+                mPath[1],
+                mPath[mPath.length - 2],
+                mPath[mPath.length - 1]
+        );
+    }
+
+    @Benchmark public double polygonArea() {
+        return LatLngMath.polygonArea(mRing);
+    }
+
+    @Benchmark public boolean polygonContains() {
+        return LatLngMath.polygonContains(mRing, 13.75, 100.55);
+    }
+
+    @Benchmark public double boundsAccumulatorInclude() {
+        mBounds.reset();
+        for (int i = 0; i < mPath.length; i += 2) {
+            mBounds.include(mPath[i], mPath[i + 1]);
+        }
+        return mBounds.getEast();
+    }
+
+}
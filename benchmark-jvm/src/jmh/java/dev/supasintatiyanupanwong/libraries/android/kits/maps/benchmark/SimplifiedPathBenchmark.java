@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.simplification.SimplifiedPath;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimplifiedPathBenchmark {
+
+    private static final float TOLERANCE = 1f;
+
+    @Param({ "100", "10000" })
+    public int pointCount;
+
+    private double[] mPath;
+
+    // Simplifications are kept per zoom level, so that each invocation needs a path of its own to
+    // measure the simplification rather than the lookup.
+    private SimplifiedPath mRanked;
+
+    @Setup public void setUp() {
+        mPath = BenchmarkPaths.wave(pointCount);
+    }
+
+    @Setup(Level.Invocation) public void setUpInvocation() {
+        mRanked = SimplifiedPath.ofPolyline(mPath, TOLERANCE);
+    }
+
+    @Benchmark public SimplifiedPath rank() {
+        return SimplifiedPath.ofPolyline(mPath, TOLERANCE);
+    }
+
+    @Benchmark public double[] simplify() {
+        return mRanked.getPackedPoints(12);
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.index;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.benchmark.BenchmarkPaths;
+
+// Lives in the package of the tree, which is not public.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RTreeBenchmark {
+
+    private static final double HALF_SIZE = 0.0005;
+
+    @Param({ "100", "10000" })
+    public int entryCount;
+
+    private double[] mPoints;
+    private RTree<Integer> mTree;
+
+    private final List<Integer> mResults = new ArrayList<>();
+
+    @Setup public void setUp() {
+        mPoints = BenchmarkPaths.wave(entryCount);
+        mTree = build();
+    }
+
+    @Benchmark public RTree<Integer> insert() {
+        return build();
+    }
+
+    @Benchmark public int search() {
+        mResults.clear();
+        mTree.search(100.5, 13.7, 100.6, 13.8, mResults);
+        return mResults.size();
+    }
+
+    @Benchmark public int nearest() {
+        final int[] visited = new int[1];
+        mTree.nearest(
+                entry -> {
+                    final double dx = Math.max(0, Math.max(entry.minX - 100.55,
+                            100.55 - entry.maxX));
+                    final double dy = Math.max(0, Math.max(entry.minY - 13.75,
+                            13.75 - entry.maxY));
+                    return dx * dx + dy * dy;
+                },
+                (value, distance) -> ++visited[0] < 10
+        );
+        return visited[0];
+    }
+
+
+    private RTree<Integer> build() {
+        final RTree<Integer> tree = new RTree<>();
+        for (int i = 0; i < entryCount; i++) {
+            final double lat = mPoints[i * 2];
+            final double lng = mPoints[i * 2 + 1];
+            tree.insert(i, lng - HALF_SIZE, lat - HALF_SIZE, lng + HALF_SIZE, lat + HALF_SIZE);
+        }
+        return tree;
+    }
+
+}
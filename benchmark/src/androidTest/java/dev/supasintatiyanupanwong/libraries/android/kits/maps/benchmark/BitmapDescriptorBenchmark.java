@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.benchmark;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.BitmapDescriptor;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.BitmapDescriptorCache;
+
+/**
+ * Measures the creation of bitmap descriptors by the backend.
+ * <p>
+ * Descriptors are cached by their input, so that the cache is cleared before each uncached
+ * measurement, outside of the measured time, to create the descriptor every time.
+ */
+@RunWith(AndroidJUnit4.class)
+public class BitmapDescriptorBenchmark {
+
+    @Rule public final BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    private BitmapDescriptor.Factory mFactory;
+    private Bitmap mBitmap;
+
+    @Before public void setUp() {
+        mFactory = MapKit.getBitmapDescriptorFactory();
+        mBitmap = Bitmap.createBitmap(64, 64, Bitmap.Config.ARGB_8888);
+        mBitmap.eraseColor(Color.RED);
+        BitmapDescriptorCache.clear();
+    }
+
+    @After public void tearDown() {
+        BitmapDescriptorCache.clear();
+        mBitmap.recycle();
+    }
+
+    @Test public void fromBitmap() {
+        final BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            clearCache(state);
+            mFactory.fromBitmap(mBitmap);
+        }
+    }
+
+    @Test public void fromBitmapCached() {
+        final BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            mFactory.fromBitmap(mBitmap);
+        }
+    }
+
+    @Test public void fromResource() {
+        final BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            clearCache(state);
+            mFactory.fromResource(R.drawable.benchmark_marker);
+        }
+    }
+
+    @Test public void fromResourceCached() {
+        final BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            mFactory.fromResource(R.drawable.benchmark_marker);
+        }
+    }
+
+    @Test public void defaultMarker() {
+        final BenchmarkState state = mBenchmarkRule.getState();
+        float hue = 0;
+        while (state.keepRunning()) {
+            clearCache(state);
+            hue = (hue + 1) % 360;
+            mFactory.defaultMarker(hue);
+        }
+    }
+
+
+    private static void clearCache(BenchmarkState state) {
+        state.pauseTiming();
+        BitmapDescriptorCache.clear();
+        state.resumeTiming();
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.benchmark;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polyline;
+
+/**
+ * Measures the conversions of points between the Map Kit and the backend.
+ */
+@RunWith(AndroidJUnit4.class)
+public class LatLngBenchmark {
+
+    private static final int POINT_COUNT = 10_000;
+
+    @Rule public final BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    private final List<LatLng> mLatLngs = new ArrayList<>(POINT_COUNT);
+    private final double[] mPacked = new double[POINT_COUNT * 2];
+
+    private Polyline.Options mOptions;
+
+    @Before public void setUp() {
+        for (int i = 0; i < POINT_COUNT; i++) {
+            final double latitude = 13.7 + Math.sin(i * 0.001) * 0.5;
+            final double longitude = 100.5 + i * 0.0001;
+            mLatLngs.add(MapKit.newLatLng(latitude, longitude));
+            mPacked[i * 2] = latitude;
+            mPacked[i * 2 + 1] = longitude;
+        }
+        mOptions = MapKit.newPolylineOptions().addPackedPoints(mPacked);
+    }
+
+    @Test public void newLatLng() {
+        final BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            final List<LatLng> latLngs = new ArrayList<>(POINT_COUNT);
+            for (int i = 0; i < mPacked.length; i += 2) {
+                latLngs.add(MapKit.newLatLng(mPacked[i], mPacked[i + 1]));
+            }
+        }
+    }
+
+    @Test public void polylineOptionsAddAll() {
+        final BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            MapKit.newPolylineOptions().addAll(mLatLngs);
+        }
+    }
+
+    @Test public void polylineOptionsAddPackedPoints() {
+        final BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            MapKit.newPolylineOptions().addPackedPoints(mPacked);
+        }
+    }
+
+    @Test public void polylineOptionsGetPoints() {
+        final BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            mOptions.getPoints();
+        }
+    }
+
+    @Test public void latLngBoundsBuilder() {
+        final BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            final LatLngBounds.Builder builder = MapKit.newLatLngBoundsBuilder();
+            for (LatLng latLng : mLatLngs) {
+                builder.include(latLng);
+            }
+            builder.build();
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.benchmark;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import androidx.annotation.Nullable;
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.TileProvider;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.UrlTileProvider;
+
+/**
+ * Measures the reading of tiles by a {@link UrlTileProvider}, from a local file so that the
+ * network does not take part in the measurements.
+ */
+@RunWith(AndroidJUnit4.class)
+public class UrlTileProviderBenchmark {
+
+    private static final int TILE_SIZE = 256;
+
+    @Rule public final BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    private File mFile;
+    private TileProvider mTileProvider;
+
+    @Before public void setUp() throws IOException {
+        mFile = new File(
+                InstrumentationRegistry.getInstrumentation().getTargetContext().getCacheDir(),
+                "benchmark_tile.png"
+        );
+        final Bitmap tile = Bitmap.createBitmap(TILE_SIZE, TILE_SIZE, Bitmap.Config.ARGB_8888);
+        tile.eraseColor(Color.BLUE);
+        try (FileOutputStream stream = new FileOutputStream(mFile)) {
+            tile.compress(Bitmap.CompressFormat.PNG, 100, stream);
+        }
+        tile.recycle();
+
+        final URL url = mFile.toURI().toURL();
+        mTileProvider = new UrlTileProvider(TILE_SIZE, TILE_SIZE) {
+            @Override public @Nullable URL getTileUrl(int x, int y, int zoom) {
+                return url;
+            }
+        };
+    }
+
+    @After public void tearDown() {
+        //noinspection ResultOfMethodCallIgnored
+        mFile.delete();
+    }
+
+    @Test public void getTile() {
+        final BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            mTileProvider.getTile(0, 0, 0);
+        }
+    }
+
+}
@@ -30,11 +30,12 @@ import com.amazon.geo.mapsv2.model.BitmapDescriptorFactory;
 import org.jetbrains.annotations.Contract;
 
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.BitmapDescriptor;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.BitmapDescriptorCache;
 
 @RestrictTo(LIBRARY)
 public class AmazonBitmapDescriptor implements BitmapDescriptor {
 
-    public static final Factory FACTORY = new Factory() {
+    private static final Factory UNCACHED_FACTORY = new Factory() {
         @Override public @NonNull BitmapDescriptor defaultMarker() {
             return wrap(BitmapDescriptorFactory.defaultMarker());
         }
@@ -99,6 +100,8 @@ public class AmazonBitmapDescriptor implements BitmapDescriptor {
         }
     };
 
+    public static final Factory FACTORY = BitmapDescriptorCache.wrap(UNCACHED_FACTORY);
+
 
     private final @NonNull com.amazon.geo.mapsv2.model.BitmapDescriptor mDelegate;
 
@@ -123,4 +123,34 @@ public class AmazonLatLng implements LatLng {
         }
         return list;
     }
+
+    static @NonNull List<com.amazon.geo.mapsv2.model.LatLng> unpack(
+            @NonNull double[] latLngs
+    ) {
+        if ((latLngs.length & 1) != 0) {
+            throw new IllegalArgumentException("latLngs must contain latitude-longitude pairs");
+        }
+
+        List<com.amazon.geo.mapsv2.model.LatLng> list = new ArrayList<>(latLngs.length >> 1);
+        for (int i = 0; i < latLngs.length; i += 2) {
+            list.add(new com.amazon.geo.mapsv2.model.LatLng(latLngs[i], latLngs[i + 1]));
+        }
+        return list;
+    }
+
+    static @NonNull double[] pack(
+            @Nullable List<com.amazon.geo.mapsv2.model.LatLng> delegates
+    ) {
+        if (delegates == null) {
+            return new double[0];
+        }
+
+        double[] latLngs = new double[delegates.size() << 1];
+        int i = 0;
+        for (com.amazon.geo.mapsv2.model.LatLng d : delegates) {
+            latLngs[i++] = d.latitude;
+            latLngs[i++] = d.longitude;
+        }
+        return latLngs;
+    }
 }
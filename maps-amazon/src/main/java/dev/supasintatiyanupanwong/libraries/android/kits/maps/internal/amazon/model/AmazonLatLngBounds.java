@@ -26,6 +26,7 @@ import java.util.Objects;
 
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngMath;
 
 @RestrictTo(LIBRARY)
 public class AmazonLatLngBounds implements LatLngBounds {
@@ -119,19 +120,23 @@ public class AmazonLatLngBounds implements LatLngBounds {
 
 
     public static class Builder implements LatLngBounds.Builder {
-        private final com.amazon.geo.mapsv2.model.LatLngBounds.Builder mDelegate;
+        private final LatLngMath.BoundsAccumulator mBounds = new LatLngMath.BoundsAccumulator();
 
-        public Builder() {
-            mDelegate = com.amazon.geo.mapsv2.model.LatLngBounds.builder();
-        }
+        public Builder() {}
 
         @Override public @NonNull LatLngBounds.Builder include(@NonNull LatLng point) {
-            mDelegate.include(Objects.requireNonNull(AmazonLatLng.unwrap(point), "point == null"));
+            mBounds.include(point.getLatitude(), point.getLongitude());
             return this;
         }
 
         @Override public @NonNull LatLngBounds build() {
-            return Objects.requireNonNull(AmazonLatLngBounds.wrap(mDelegate.build()));
+            if (mBounds.isEmpty()) {
+                throw new IllegalStateException("no included points");
+            }
+            return new AmazonLatLngBounds(new com.amazon.geo.mapsv2.model.LatLngBounds(
+                    new com.amazon.geo.mapsv2.model.LatLng(mBounds.getSouth(), mBounds.getWest()),
+                    new com.amazon.geo.mapsv2.model.LatLng(mBounds.getNorth(), mBounds.getEast())
+            ));
         }
     }
 }
@@ -29,6 +29,9 @@ import androidx.annotation.Nullable;
 import androidx.annotation.RequiresPermission;
 import androidx.annotation.RestrictTo;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.CameraPosition;
@@ -41,10 +44,12 @@ import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LocationSour
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapStyle;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Marker;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Overlays;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polygon;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polyline;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Projection;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.TileOverlay;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.WrapperRegistry;
 
 @SuppressWarnings("unused")
 @RestrictTo(LIBRARY)
@@ -59,6 +64,14 @@ public class AmazonMapClient implements MapClient {
     private final @NonNull AmazonMapClient$TagManager mPolygonTags;
     private final @NonNull AmazonMapClient$TagManager mPolylineTags;
 
+    private final @NonNull WrapperRegistry<com.amazon.geo.mapsv2.model.Circle, Circle> mCircles;
+    private final @NonNull WrapperRegistry<com.amazon.geo.mapsv2.model.GroundOverlay, GroundOverlay>
+            mGroundOverlays;
+    private final @NonNull WrapperRegistry<com.amazon.geo.mapsv2.model.Marker, Marker> mMarkers;
+    private final @NonNull WrapperRegistry<com.amazon.geo.mapsv2.model.Polygon, Polygon> mPolygons;
+    private final @NonNull WrapperRegistry<com.amazon.geo.mapsv2.model.Polyline, Polyline>
+            mPolylines;
+
     public AmazonMapClient(@NonNull com.amazon.geo.mapsv2.AmazonMap map) {
         mDelegate = map;
         mSettings = new UiSettings(map.getUiSettings());
@@ -69,6 +82,16 @@ public class AmazonMapClient implements MapClient {
         mPolygonTags = new AmazonMapClient$TagManager();
         mPolylineTags = new AmazonMapClient$TagManager();
 
+        mCircles = new WrapperRegistry<>(delegate -> AmazonCircle.wrap(delegate, mCircleTags));
+        mGroundOverlays = new WrapperRegistry<>(
+                delegate -> AmazonGroundOverlay.wrap(delegate, mGroundOverlayTags)
+        );
+        mMarkers = new WrapperRegistry<>(delegate -> AmazonMarker.wrap(delegate, mMarkerTags));
+        mPolygons = new WrapperRegistry<>(delegate -> AmazonPolygon.wrap(delegate, mPolygonTags));
+        mPolylines = new WrapperRegistry<>(
+                delegate -> AmazonPolyline.wrap(delegate, mPolylineTags)
+        );
+
         setMapType(MapClient.MAP_TYPE_NORMAL);
     }
 
@@ -144,7 +167,7 @@ public class AmazonMapClient implements MapClient {
         if (unwrap == null) {
             return null;
         } else {
-            return AmazonPolyline.wrap(mDelegate.addPolyline(unwrap), mPolylineTags);
+            return mPolylines.get(mDelegate.addPolyline(unwrap));
         }
     }
 
@@ -154,7 +177,7 @@ public class AmazonMapClient implements MapClient {
         if (unwrap == null) {
             return null;
         } else {
-            return AmazonPolygon.wrap(mDelegate.addPolygon(unwrap), mPolygonTags);
+            return mPolygons.get(mDelegate.addPolygon(unwrap));
         }
     }
 
@@ -164,7 +187,7 @@ public class AmazonMapClient implements MapClient {
         if (unwrap == null) {
             return null;
         } else {
-            return AmazonCircle.wrap(mDelegate.addCircle(unwrap), mCircleTags);
+            return mCircles.get(mDelegate.addCircle(unwrap));
         }
     }
 
@@ -174,7 +197,7 @@ public class AmazonMapClient implements MapClient {
         if (unwrap == null) {
             return null;
         } else {
-            return AmazonMarker.wrap(mDelegate.addMarker(unwrap), mMarkerTags);
+            return mMarkers.get(mDelegate.addMarker(unwrap));
         }
     }
 
@@ -185,7 +208,7 @@ public class AmazonMapClient implements MapClient {
         if (unwrap == null) {
             return null;
         } else {
-            return AmazonGroundOverlay.wrap(mDelegate.addGroundOverlay(unwrap), mGroundOverlayTags);
+            return mGroundOverlays.get(mDelegate.addGroundOverlay(unwrap));
         }
     }
 
@@ -199,6 +222,58 @@ public class AmazonMapClient implements MapClient {
         }
     }
 
+    @Override public @NonNull List<Polyline> addPolylines(@NonNull List<Polyline.Options> options) {
+        final List<Polyline> polylines = new ArrayList<>(options.size());
+        for (Polyline.Options option : options) {
+            final @Nullable com.amazon.geo.mapsv2.model.PolylineOptions unwrap =
+                    AmazonPolyline.Options.unwrap(option);
+            polylines.add(unwrap == null
+                    ? null
+                    : mPolylines.get(mDelegate.addPolyline(unwrap)));
+        }
+        return polylines;
+    }
+
+    @Override public @NonNull List<Polygon> addPolygons(@NonNull List<Polygon.Options> options) {
+        final List<Polygon> polygons = new ArrayList<>(options.size());
+        for (Polygon.Options option : options) {
+            final @Nullable com.amazon.geo.mapsv2.model.PolygonOptions unwrap =
+                    AmazonPolygon.Options.unwrap(option);
+            polygons.add(unwrap == null
+                    ? null
+                    : mPolygons.get(mDelegate.addPolygon(unwrap)));
+        }
+        return polygons;
+    }
+
+    @Override public @NonNull List<Circle> addCircles(@NonNull List<Circle.Options> options) {
+        final List<Circle> circles = new ArrayList<>(options.size());
+        for (Circle.Options option : options) {
+            final @Nullable com.amazon.geo.mapsv2.model.CircleOptions unwrap =
+                    AmazonCircle.Options.unwrap(option);
+            circles.add(unwrap == null
+                    ? null
+                    : mCircles.get(mDelegate.addCircle(unwrap)));
+        }
+        return circles;
+    }
+
+    @Override public @NonNull List<Marker> addMarkers(@NonNull List<Marker.Options> options) {
+        final List<Marker> markers = new ArrayList<>(options.size());
+        for (Marker.Options option : options) {
+            final @Nullable com.amazon.geo.mapsv2.model.MarkerOptions unwrap =
+                    AmazonMarker.Options.unwrap(option);
+            markers.add(unwrap == null
+                    ? null
+                    : mMarkers.get(mDelegate.addMarker(unwrap)));
+        }
+        return markers;
+    }
+
+    @Override public void removeAll(@NonNull Collection<?> overlays) {
+        Overlays.removeAll(overlays);
+    }
+
     @Override public void clear() {
         mCircleTags.clear();
         mGroundOverlayTags.clear();
@@ -206,6 +281,12 @@ public class AmazonMapClient implements MapClient {
         mPolygonTags.clear();
         mPolylineTags.clear();
 
+        mCircles.clear();
+        mGroundOverlays.clear();
+        mMarkers.clear();
+        mPolygons.clear();
+        mPolylines.clear();
+
         mDelegate.clear();
     }
 
@@ -344,7 +425,7 @@ public class AmazonMapClient implements MapClient {
     ) {
         mDelegate.setOnMarkerClickListener(listener == null
                 ? null
-                : marker -> listener.onMarkerClick(AmazonMarker.wrap(marker, mMarkerTags))
+                : marker -> listener.onMarkerClick(mMarkers.get(marker))
         );
     }
 
@@ -357,19 +438,19 @@ public class AmazonMapClient implements MapClient {
                     @Override public void onMarkerDragStart(
                             @NonNull com.amazon.geo.mapsv2.model.Marker marker
                     ) {
-                        listener.onMarkerDragStart(AmazonMarker.wrap(marker, mMarkerTags));
+                        listener.onMarkerDragStart(mMarkers.get(marker));
                     }
 
                     @Override public void onMarkerDrag(
                             @NonNull com.amazon.geo.mapsv2.model.Marker marker
                     ) {
-                        listener.onMarkerDrag(AmazonMarker.wrap(marker, mMarkerTags));
+                        listener.onMarkerDrag(mMarkers.get(marker));
                     }
 
                     @Override public void onMarkerDragEnd(
                             @NonNull com.amazon.geo.mapsv2.model.Marker marker
                     ) {
-                        listener.onMarkerDragEnd(AmazonMarker.wrap(marker, mMarkerTags));
+                        listener.onMarkerDragEnd(mMarkers.get(marker));
                     }
                 }
         );
@@ -380,7 +461,7 @@ public class AmazonMapClient implements MapClient {
     ) {
         mDelegate.setOnInfoWindowClickListener(listener == null
                 ? null
-                : marker -> listener.onInfoWindowClick(AmazonMarker.wrap(marker, mMarkerTags))
+                : marker -> listener.onInfoWindowClick(mMarkers.get(marker))
         );
     }
 
@@ -403,13 +484,13 @@ public class AmazonMapClient implements MapClient {
                     @Override public View getInfoWindow(
                             @NonNull com.amazon.geo.mapsv2.model.Marker marker
                     ) {
-                        return adapter.getInfoWindow(AmazonMarker.wrap(marker, mMarkerTags));
+                        return adapter.getInfoWindow(mMarkers.get(marker));
                     }
 
                     @Override public View getInfoContents(
                             @NonNull com.amazon.geo.mapsv2.model.Marker marker
                     ) {
-                        return adapter.getInfoContents(AmazonMarker.wrap(marker, mMarkerTags));
+                        return adapter.getInfoContents(mMarkers.get(marker));
                     }
                 }
         );
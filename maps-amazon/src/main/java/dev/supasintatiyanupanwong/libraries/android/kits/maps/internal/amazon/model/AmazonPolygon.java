@@ -81,6 +81,22 @@ public class AmazonPolygon implements Polygon {
         return holes;
     }
 
+    @Override public void setPackedPoints(@NonNull double[] latLngs) {
+        mDelegate.setPoints(AmazonLatLng.unpack(latLngs));
+    }
+
+    @Override public @NonNull double[] getPackedPoints() {
+        return AmazonLatLng.pack(mDelegate.getPoints());
+    }
+
+    @Override public void setPackedHoles(@NonNull List<double[]> holes) {
+        List<List<com.amazon.geo.mapsv2.model.LatLng>> gHoles = new ArrayList<>(holes.size());
+        for (double[] hole : holes) {
+            gHoles.add(AmazonLatLng.unpack(hole));
+        }
+        mDelegate.setHoles(gHoles);
+    }
+
     @Override public void setStrokeWidth(float width) {
         mDelegate.setStrokeWidth(width);
     }
@@ -225,6 +241,16 @@ public class AmazonPolygon implements Polygon {
             return this;
         }
 
+        @Override public @NonNull Polygon.Options addPackedPoints(@NonNull double[] latLngs) {
+            mDelegate.addAll(AmazonLatLng.unpack(latLngs));
+            return this;
+        }
+
+        @Override public @NonNull Polygon.Options addPackedHole(@NonNull double[] latLngs) {
+            mDelegate.addHole(AmazonLatLng.unpack(latLngs));
+            return this;
+        }
+
         @Override public @NonNull Polygon.Options strokeWidth(float width) {
             mDelegate.strokeWidth(width);
             return this;
@@ -276,6 +302,10 @@ public class AmazonPolygon implements Polygon {
             return Objects.requireNonNull(AmazonLatLng.wrap(mDelegate.getPoints()));
         }
 
+        @Override public @NonNull double[] getPackedPoints() {
+            return AmazonLatLng.pack(mDelegate.getPoints());
+        }
+
         @Override public @NonNull List<List<LatLng>> getHoles() {
             List<List<LatLng>> holes = new ArrayList<>();
             for (List<com.amazon.geo.mapsv2.model.LatLng> hole : mDelegate.getHoles()) {
@@ -66,6 +66,14 @@ public class AmazonPolyline implements Polyline {
         return AmazonLatLng.wrap(mDelegate.getPoints());
     }
 
+    @Override public void setPackedPoints(@NonNull double[] latLngs) {
+        mDelegate.setPoints(AmazonLatLng.unpack(latLngs));
+    }
+
+    @Override public @NonNull double[] getPackedPoints() {
+        return AmazonLatLng.pack(mDelegate.getPoints());
+    }
+
     @Override public void setWidth(float width) {
         mDelegate.setWidth(width);
     }
@@ -208,6 +216,11 @@ public class AmazonPolyline implements Polyline {
             return this;
         }
 
+        @Override public @NonNull Polyline.Options addPackedPoints(@NonNull double[] latLngs) {
+            mDelegate.addAll(AmazonLatLng.unpack(latLngs));
+            return this;
+        }
+
         @Override public @NonNull Polyline.Options width(float width) {
             mDelegate.width(width);
             return this;
@@ -262,6 +275,10 @@ public class AmazonPolyline implements Polyline {
             return AmazonLatLng.wrap(mDelegate.getPoints());
         }
 
+        @Override public @NonNull double[] getPackedPoints() {
+            return AmazonLatLng.pack(mDelegate.getPoints());
+        }
+
         @Override public float getWidth() {
             return mDelegate.getWidth();
         }
@@ -58,8 +58,8 @@ import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.VisibleRegio
  */
 public final class MapKit {
 
-    private static Context sApplicationContext;
-    private static MapKitBackend sBackend;
+    private static volatile Context sApplicationContext;
+    private static volatile MapKitBackend sBackend;
 
     private MapKit() {} // No instances!
 
@@ -301,12 +301,22 @@ public final class MapKit {
     }
 
     static @NonNull MapKitBackend getBackend() {
-        return sBackend;
+        final MapKitBackend backend = sBackend;
+        return backend != null ? backend : resolveBackend();
     }
 
-    static void init(@NonNull Context context, @NonNull MapKitBackend backend) {
+    static void attach(@NonNull Context context) {
         sApplicationContext = context;
-        sBackend = backend;
+    }
+
+    private static synchronized @NonNull MapKitBackend resolveBackend() {
+        if (sBackend == null) {
+            if (sApplicationContext == null) {
+                throw new IllegalStateException("MapKitInitProvider has not been created");
+            }
+            sBackend = MapKitBackendResolver.resolve(sApplicationContext);
+        }
+        return sBackend;
     }
 
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Resolves the backend of {@link MapKit} from the backends on the classpath, in order of
+ * preference.
+ * <p>
+ * Every backend on the classpath is probed in order on every launch, since whether it is supported
+ * may change between launches, e.g. as its services are installed or updated. Only the backends
+ * whose modules are absent from the classpath are remembered across launches, until the app is
+ * updated, so that the next launches skip loading them.
+ */
+final class MapKitBackendResolver {
+
+    private static final @NonNull String[] IMPL_FULLY_QUALIFIED_CLASS_NAMES = new String[] {
+            BuildConfig.LIBRARY_PACKAGE_NAME + ".internal.tomtom.TomTomMapsBackend",
+
+            BuildConfig.LIBRARY_PACKAGE_NAME + ".internal.amazon.AmazonMapsBackend",
+            BuildConfig.LIBRARY_PACKAGE_NAME + ".internal.google.GoogleMapsBackend",
+            BuildConfig.LIBRARY_PACKAGE_NAME + ".internal.huawei.HuaweiMapsBackend",
+
+            BuildConfig.LIBRARY_PACKAGE_NAME + ".internal.nil.NilMapsBackend"
+    };
+
+    private static final String PREFERENCES_NAME = BuildConfig.LIBRARY_PACKAGE_NAME + ".backend";
+    private static final String KEY_ABSENT_CLASS_NAMES = "absent_class_names";
+    private static final String KEY_APP_VERSION = "app_version";
+
+    private MapKitBackendResolver() {} // No instances!
+
+    static @NonNull MapKitBackend resolve(@NonNull Context context) {
+        final SharedPreferences preferences =
+                context.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+        final long appVersion = getAppVersion(context);
+
+        final Set<String> knownAbsent = new HashSet<>();
+        if (preferences.getLong(KEY_APP_VERSION, 0) == appVersion) {
+            final @Nullable Set<String> stored =
+                    preferences.getStringSet(KEY_ABSENT_CLASS_NAMES, null);
+            if (stored != null) {
+                knownAbsent.addAll(stored);
+            }
+        }
+
+        final Set<String> absent = new HashSet<>();
+        @Nullable MapKitBackend resolved = null;
+        for (String className : IMPL_FULLY_QUALIFIED_CLASS_NAMES) {
+            if (knownAbsent.contains(className)) {
+                absent.add(className);
+                continue;
+            }
+
+            final @Nullable Class<?> backendClass = loadClass(className);
+            if (backendClass == null) {
+                absent.add(className);
+                continue;
+            }
+
+            resolved = buildIfSupported(backendClass, context);
+            if (resolved != null) {
+                break;
+            }
+        }
+
+        if (!absent.equals(knownAbsent)) {
+            preferences.edit()
+                    .putStringSet(KEY_ABSENT_CLASS_NAMES, absent)
+                    .putLong(KEY_APP_VERSION, appVersion)
+                    .apply();
+        }
+
+        if (resolved == null) {
+            throw new IllegalStateException("MapKit cannot be initialized");
+        }
+        return resolved;
+    }
+
+    private static @Nullable Class<?> loadClass(@NonNull String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException ignored) {
+            return null;
+        }
+    }
+
+    private static @Nullable MapKitBackend buildIfSupported(
+            @NonNull Class<?> backendClass,
+            @NonNull Context context
+    ) {
+        try {
+            return (MapKitBackend) backendClass
+                    .getMethod("buildIfSupported", Context.class)
+                    .invoke(null, context);
+        } catch (Exception ignored) {
+            // Failed to be built.
+            return null;
+        }
+    }
+
+    /**
+     * Gets a version of the installed app, which changes whenever the app is updated, hence its
+     * backend modules may have changed.
+     */
+    private static long getAppVersion(@NonNull Context context) {
+        final long lastModified = new File(context.getApplicationInfo().sourceDir).lastModified();
+        return lastModified != 0 ? lastModified : -1;
+    }
+
+}
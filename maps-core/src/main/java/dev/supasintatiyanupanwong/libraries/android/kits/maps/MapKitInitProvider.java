@@ -18,7 +18,6 @@ package dev.supasintatiyanupanwong.libraries.android.kits.maps;
 
 import android.content.ContentProvider;
 import android.content.ContentValues;
-import android.content.Context;
 import android.database.Cursor;
 import android.net.Uri;
 
@@ -27,35 +26,21 @@ import androidx.annotation.Nullable;
 
 public final class MapKitInitProvider extends ContentProvider {
 
-    private static final @NonNull String[] IMPL_FULLY_QUALIFIED_CLASS_NAMES = new String[] {
-            BuildConfig.LIBRARY_PACKAGE_NAME + ".internal.tomtom.TomTomMapsBackend",
-
-            BuildConfig.LIBRARY_PACKAGE_NAME + ".internal.amazon.AmazonMapsBackend",
-            BuildConfig.LIBRARY_PACKAGE_NAME + ".internal.google.GoogleMapsBackend",
-            BuildConfig.LIBRARY_PACKAGE_NAME + ".internal.huawei.HuaweiMapsBackend",
-
-            BuildConfig.LIBRARY_PACKAGE_NAME + ".internal.nil.NilMapsBackend"
-    };
-
     @Override public boolean onCreate() {
         //noinspection DataFlowIssue
-        final Context context = getContext().getApplicationContext();
+        MapKit.attach(getContext().getApplicationContext());
 
-        for (String className : IMPL_FULLY_QUALIFIED_CLASS_NAMES) {
+        // Resolves the backend off the main thread, instead of blocking the app startup on the
+        // availability checks of the backends. The first use of MapKit waits for it if needed, or
+        // resolves it again to throw if it failed.
+        new Thread(() -> {
             try {
-                final @Nullable MapKitBackend backend = (MapKitBackend) Class.forName(className)
-                        .getMethod("buildIfSupported", Context.class)
-                        .invoke(null, context);
-                if (backend != null) {
-                    MapKit.init(context, backend);
-                    return true;
-                }
-            } catch (Exception ignored) {
-                // continue
+                MapKit.getBackend();
+            } catch (IllegalStateException ignored) {
+                // Thrown again on the first use.
             }
-        }
-
-        throw new IllegalStateException("MapKit cannot be initialized");
+        }, "MapKit-Init").start();
+        return true;
     }
 
     @Override public @Nullable Cursor query(
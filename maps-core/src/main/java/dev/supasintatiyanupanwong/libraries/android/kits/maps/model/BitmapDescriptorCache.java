@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.util.LruCache;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+
+/**
+ * A memory-bounded cache of the {@link BitmapDescriptor}s created from resources, default marker
+ * hues and bitmaps, shared by the {@link BitmapDescriptor.Factory} of every backend.
+ * <p>
+ * Creating a descriptor from a resource inflates and rasterizes it into a new bitmap, so that
+ * markers of the same icon would otherwise each hold an identical copy. Bitmaps are cached by
+ * identity and generation, so that a bitmap modified since is not served stale. Entries are
+ * evicted least recently used first, and trimmed as the system runs low on memory.
+ */
+@RestrictTo(LIBRARY_GROUP)
+public final class BitmapDescriptorCache {
+
+    private static final int KIND_RESOURCE = 0;
+    private static final int KIND_DEFAULT_MARKER = 1;
+    private static final int KIND_BITMAP = 2;
+
+    private static final float NO_HUE = -1;
+
+    private static final int MAX_SIZE_BYTES = 16 * 1024 * 1024;
+
+    // The descriptors of default markers do not expose their bitmaps to be measured.
+    private static final int DEFAULT_MARKER_SIZE_BYTES = 64 * 64 * 4;
+
+    private static final LruCache<Key, Entry> sCache = new LruCache<Key, Entry>(
+            (int) Math.min(Runtime.getRuntime().maxMemory() / 32, MAX_SIZE_BYTES)
+    ) {
+        @Override protected int sizeOf(@NonNull Key key, @NonNull Entry entry) {
+            return entry.sizeBytes;
+        }
+    };
+
+    private static volatile boolean sCallbacksRegistered = false;
+
+    private BitmapDescriptorCache() {} // No instances!
+
+    /**
+     * Wraps the factory of a backend so that the descriptors it creates are cached.
+     *
+     * @param delegate The factory of the backend.
+     * @return The caching factory.
+     */
+    public static @NonNull BitmapDescriptor.Factory wrap(
+            @NonNull BitmapDescriptor.Factory delegate
+    ) {
+        return new CachingFactory(delegate);
+    }
+
+    /**
+     * Evicts every cached descriptor.
+     */
+    public static void clear() {
+        sCache.evictAll();
+    }
+
+
+    private static @Nullable BitmapDescriptor get(@NonNull Key key) {
+        final @Nullable Entry entry = sCache.get(key);
+        return entry == null ? null : entry.descriptor;
+    }
+
+    private static void put(@NonNull Key key, @NonNull BitmapDescriptor descriptor, int sizeBytes) {
+        registerCallbacksIfNeeded();
+        sCache.put(key, new Entry(descriptor, Math.max(1, sizeBytes)));
+    }
+
+    private static void registerCallbacksIfNeeded() {
+        if (sCallbacksRegistered) {
+            return;
+        }
+        synchronized (BitmapDescriptorCache.class) {
+            if (sCallbacksRegistered) {
+                return;
+            }
+            MapKit.getApplicationContext().registerComponentCallbacks(new ComponentCallbacks2() {
+                @Override public void onTrimMemory(int level) {
+                    if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+                        sCache.evictAll();
+                    } else if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND
+                            || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW
+                            || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+                        sCache.trimToSize(sCache.maxSize() / 2);
+                    }
+                }
+
+                @Override public void onConfigurationChanged(@NonNull Configuration newConfig) {
+                    // Resources may resolve to other drawables under the new configuration.
+                    sCache.evictAll();
+                }
+
+                @Override public void onLowMemory() {
+                    sCache.evictAll();
+                }
+            });
+            sCallbacksRegistered = true;
+        }
+    }
+
+
+    private static final class CachingFactory implements BitmapDescriptor.Factory {
+        private final @NonNull BitmapDescriptor.Factory mDelegate;
+
+        CachingFactory(@NonNull BitmapDescriptor.Factory delegate) {
+            mDelegate = delegate;
+        }
+
+        @Override public @Nullable BitmapDescriptor fromResource(@DrawableRes int resourceId) {
+            if (resourceId == 0) {
+                return null;
+            }
+
+            final Key key = new Key(mDelegate, KIND_RESOURCE, resourceId, NO_HUE, null);
+            @Nullable BitmapDescriptor descriptor = get(key);
+            if (descriptor == null) {
+                final @Nullable Bitmap bitmap;
+                try {
+                    bitmap = BitmapDescriptor.fromResourceInternal(resourceId);
+                } catch (Exception ignored) {
+                    return null;
+                }
+                if (bitmap == null) {
+                    return null;
+                }
+
+                descriptor = mDelegate.fromBitmap(bitmap);
+                if (descriptor != null) {
+                    put(key, descriptor, bitmap.getByteCount());
+                }
+            }
+            return descriptor;
+        }
+
+        @Override public @Nullable BitmapDescriptor fromAsset(@NonNull String assetName) {
+            return mDelegate.fromAsset(assetName);
+        }
+
+        @Override public @Nullable BitmapDescriptor fromFile(@NonNull String fileName) {
+            return mDelegate.fromFile(fileName);
+        }
+
+        @Override public @Nullable BitmapDescriptor fromPath(@NonNull String absolutePath) {
+            return mDelegate.fromPath(absolutePath);
+        }
+
+        @Override public @NonNull BitmapDescriptor defaultMarker(float hue) {
+            final Key key = new Key(mDelegate, KIND_DEFAULT_MARKER, 0, hue, null);
+            @Nullable BitmapDescriptor descriptor = get(key);
+            if (descriptor == null) {
+                descriptor = mDelegate.defaultMarker(hue);
+                put(key, descriptor, DEFAULT_MARKER_SIZE_BYTES);
+            }
+            return descriptor;
+        }
+
+        @Override public @NonNull BitmapDescriptor defaultMarker() {
+            final Key key = new Key(mDelegate, KIND_DEFAULT_MARKER, 0, NO_HUE, null);
+            @Nullable BitmapDescriptor descriptor = get(key);
+            if (descriptor == null) {
+                descriptor = mDelegate.defaultMarker();
+                put(key, descriptor, DEFAULT_MARKER_SIZE_BYTES);
+            }
+            return descriptor;
+        }
+
+        @Override public @Nullable BitmapDescriptor fromBitmap(@NonNull Bitmap image) {
+            //noinspection ConstantConditions
+            if (image == null || image.isRecycled()) {
+                return mDelegate.fromBitmap(image);
+            }
+
+            final Key key = new Key(mDelegate, KIND_BITMAP, image.getGenerationId(), NO_HUE, image);
+            @Nullable BitmapDescriptor descriptor = get(key);
+            if (descriptor == null) {
+                descriptor = mDelegate.fromBitmap(image);
+                if (descriptor != null) {
+                    put(key, descriptor, image.getByteCount());
+                }
+            }
+            return descriptor;
+        }
+    }
+
+    private static final class Key {
+        private final @NonNull BitmapDescriptor.Factory mFactory;
+        private final int mKind;
+        private final int mId;
+        private final float mHue;
+        private final @Nullable Bitmap mBitmap;
+
+        Key(
+                @NonNull BitmapDescriptor.Factory factory,
+                int kind,
+                int id,
+                float hue,
+                @Nullable Bitmap bitmap
+        ) {
+            mFactory = factory;
+            mKind = kind;
+            mId = id;
+            mHue = hue;
+            mBitmap = bitmap;
+        }
+
+        @Override public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+
+            Key that = (Key) obj;
+
+            // Bitmaps are compared by identity, as their contents may change.
+            return mFactory == that.mFactory
+                    && mKind == that.mKind
+                    && mId == that.mId
+                    && Float.compare(mHue, that.mHue) == 0
+                    && mBitmap == that.mBitmap;
+        }
+
+        @Override public int hashCode() {
+            int result = System.identityHashCode(mFactory);
+            result = 31 * result + mKind;
+            result = 31 * result + mId;
+            result = 31 * result + Float.floatToIntBits(mHue);
+            result = 31 * result + System.identityHashCode(mBitmap);
+            return result;
+        }
+    }
+
+    private static final class Entry {
+        final @NonNull BitmapDescriptor descriptor;
+        final int sizeBytes;
+
+        Entry(@NonNull BitmapDescriptor descriptor, int sizeBytes) {
+            this.descriptor = descriptor;
+            this.sizeBytes = sizeBytes;
+        }
+    }
+
+}
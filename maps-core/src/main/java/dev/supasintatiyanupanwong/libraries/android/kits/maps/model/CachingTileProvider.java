@@ -0,0 +1,438 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+
+/**
+ * A {@link TileProvider} which caches the tiles of another provider in memory and on disk.
+ * <p>
+ * Tiles are kept in a least-recently-used memory cache bounded by the total size of their data,
+ * backed by a least-recently-used disk cache which survives app restarts. Cached tiles are served
+ * without consulting the wrapped provider until their time to live has passed. Expired tiles of
+ * a {@link UrlTileProvider} are revalidated with a conditional request using their {@code ETag},
+ * so that unchanged tiles are not downloaded again. If the wrapped provider fails to provide a
+ * tile, the expired tile is served instead.
+ * <p>
+ * Tiles are cached by their coordinates and the provider ID, which must be unique among the
+ * providers sharing the same disk cache directory.
+ *
+ * @since 2.4.0
+ */
+public class CachingTileProvider implements TileProvider {
+
+    private static final Pattern PROVIDER_ID_PATTERN = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private static final Entry NONE = new Entry(0, 0, new byte[0], 0, null);
+
+    private final @NonNull TileProvider mDelegate;
+    private final long mTimeToLiveMillis;
+    private final @Nullable LruCache<String, Entry> mMemoryCache;
+    private final @Nullable DiskCache mDiskCache;
+
+    private CachingTileProvider(@NonNull Builder builder) {
+        mDelegate = builder.mDelegate;
+        mTimeToLiveMillis = builder.mTimeToLiveMillis;
+        mMemoryCache = builder.mMemoryCacheSize > 0
+                ? new MemoryCache(builder.mMemoryCacheSize)
+                : null;
+        mDiskCache = builder.mDiskCacheDirectory != null && builder.mDiskCacheSize > 0
+                ? new DiskCache(
+                        new File(builder.mDiskCacheDirectory, builder.mProviderId),
+                        builder.mDiskCacheSize
+                )
+                : null;
+    }
+
+    @WorkerThread
+    @Override public @Nullable Tile getTile(int x, int y, int zoom) {
+        final String key = zoom + "-" + x + "-" + y;
+        final long now = System.currentTimeMillis();
+
+        @Nullable Entry cached = mMemoryCache != null ? mMemoryCache.get(key) : null;
+        if (cached == null && mDiskCache != null) {
+            cached = mDiskCache.get(key);
+            if (cached != null && mMemoryCache != null) {
+                mMemoryCache.put(key, cached);
+            }
+        }
+        if (cached != null && now - cached.fetchedAt < mTimeToLiveMillis) {
+            return cached.toTile();
+        }
+
+        final @Nullable Entry fetched = fetch(x, y, zoom, cached, now);
+        if (fetched == null) {
+            // The tile is unavailable at this point in time, serve the expired tile if any.
+            return cached != null ? cached.toTile() : null;
+        }
+        if (fetched == NONE) {
+            return NO_TILE;
+        }
+
+        if (mMemoryCache != null) {
+            mMemoryCache.put(key, fetched);
+        }
+        if (mDiskCache != null) {
+            mDiskCache.put(key, fetched);
+        }
+        return fetched.toTile();
+    }
+
+    /**
+     * Removes all tiles of this provider from the memory and disk caches.
+     */
+    @WorkerThread
+    public void clearCache() {
+        if (mMemoryCache != null) {
+            mMemoryCache.evictAll();
+        }
+        if (mDiskCache != null) {
+            mDiskCache.clear();
+        }
+    }
+
+
+    /**
+     * Fetches the tile from the wrapped provider.
+     *
+     * @return The tile, {@link #NONE} if there is no tile at the coordinate, or {@code null} if
+     * the tile is unavailable at this point in time.
+     */
+    private @Nullable Entry fetch(int x, int y, int zoom, @Nullable Entry cached, long now) {
+        if (mDelegate instanceof UrlTileProvider) {
+            return fetchUrl((UrlTileProvider) mDelegate, x, y, zoom, cached, now);
+        }
+
+        final @Nullable Tile tile = mDelegate.getTile(x, y, zoom);
+        if (tile == null) {
+            return null;
+        }
+        final @Nullable byte[] data = tile.getData();
+        if (tile == NO_TILE || data == null) {
+            return NONE;
+        }
+        return new Entry(tile.getWidth(), tile.getHeight(), data, now, null);
+    }
+
+    private static @Nullable Entry fetchUrl(
+            @NonNull UrlTileProvider provider,
+            int x,
+            int y,
+            int zoom,
+            @Nullable Entry cached,
+            long now
+    ) {
+        final @Nullable URL url = provider.getTileUrl(x, y, zoom);
+        if (url == null) {
+            return NONE;
+        }
+
+        try {
+            final UrlTileProvider.Response response = provider.download(
+                    url,
+                    cached != null ? cached.etag : null,
+                    cached != null ? cached.fetchedAt : 0
+            );
+            if (response.code == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+                return new Entry(cached.width, cached.height, cached.data, now, cached.etag);
+            }
+            if (response.data == null) {
+                return null;
+            }
+            return new Entry(
+                    provider.getWidth(), provider.getHeight(), response.data, now, response.etag
+            );
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+
+    /**
+     * Builder for {@link CachingTileProvider}.
+     *
+     * @since 2.4.0
+     */
+    public static final class Builder {
+        private final @NonNull TileProvider mDelegate;
+        private final @NonNull String mProviderId;
+
+        private int mMemoryCacheSize = 4 * 1024 * 1024;
+        private @Nullable File mDiskCacheDirectory =
+                new File(MapKit.getApplicationContext().getCacheDir(), "map-kit-tiles");
+        private long mDiskCacheSize = 64 * 1024 * 1024;
+        private long mTimeToLiveMillis = TimeUnit.DAYS.toMillis(1);
+
+        /**
+         * @param delegate The provider whose tiles are to be cached.
+         * @param providerId The ID of the provider, consisting of letters, digits, {@code .},
+         *                   {@code _} and {@code -}.
+         */
+        public Builder(@NonNull TileProvider delegate, @NonNull String providerId) {
+            if (!PROVIDER_ID_PATTERN.matcher(providerId).matches()) {
+                throw new IllegalArgumentException("Invalid provider ID: " + providerId);
+            }
+            mDelegate = delegate;
+            mProviderId = providerId;
+        }
+
+        /**
+         * Sets the maximum total size of the tile data kept in memory. The default is 4 MiB.
+         *
+         * @param bytes The maximum size in bytes, or {@code 0} to disable the memory cache.
+         */
+        public @NonNull Builder memoryCacheSize(int bytes) {
+            mMemoryCacheSize = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the directory and the maximum total size of the disk cache. The default is 64 MiB
+         * in the app's cache directory.
+         *
+         * @param directory The directory, or {@code null} to disable the disk cache.
+         * @param bytes The maximum size in bytes.
+         */
+        public @NonNull Builder diskCache(@Nullable File directory, long bytes) {
+            mDiskCacheDirectory = directory;
+            mDiskCacheSize = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the duration for which cached tiles are served without consulting the wrapped
+         * provider. The default is 1 day.
+         */
+        public @NonNull Builder timeToLive(long duration, @NonNull TimeUnit unit) {
+            mTimeToLiveMillis = unit.toMillis(duration);
+            return this;
+        }
+
+        public @NonNull CachingTileProvider build() {
+            return new CachingTileProvider(this);
+        }
+    }
+
+
+    private static final class Entry {
+        final int width;
+        final int height;
+        final @NonNull byte[] data;
+        final long fetchedAt;
+        final @Nullable String etag;
+
+        Entry(int width, int height, @NonNull byte[] data, long fetchedAt, @Nullable String etag) {
+            this.width = width;
+            this.height = height;
+            this.data = data;
+            this.fetchedAt = fetchedAt;
+            this.etag = etag;
+        }
+
+        @NonNull Tile toTile() {
+            return MapKit.newTile(width, height, data);
+        }
+    }
+
+    private static final class MemoryCache extends LruCache<String, Entry> {
+        MemoryCache(int maxSize) {
+            super(maxSize);
+        }
+
+        @Override protected int sizeOf(@NonNull String key, @NonNull Entry value) {
+            return value.data.length;
+        }
+    }
+
+    /**
+     * A least-recently-used cache of one file per tile. Files are written to a temporary file
+     * and renamed into place, so that they can be read without holding the lock.
+     */
+    private static final class DiskCache {
+        private static final int MAGIC = 0x4D4B5443;
+        private static final int VERSION = 1;
+        private static final String SUFFIX = ".tile";
+
+        // Temporary files this old are leftovers of interrupted writes, rather than in flight.
+        private static final long TEMP_FILE_MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+        private final @NonNull File mDirectory;
+        private final long mMaxSize;
+
+        private final Map<String, Long> mSizes = new LinkedHashMap<>(16, .75f, true);
+        private long mSize;
+        private boolean mLoaded;
+
+        DiskCache(@NonNull File directory, long maxSize) {
+            mDirectory = directory;
+            mMaxSize = maxSize;
+        }
+
+        @Nullable Entry get(@NonNull String key) {
+            synchronized (this) {
+                ensureLoadedLocked();
+                // Looked up rather than tested, so that the access order is updated.
+                if (mSizes.get(key) == null) {
+                    return null;
+                }
+            }
+
+            final File file = new File(mDirectory, key + SUFFIX);
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(file))
+            )) {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    throw new IOException("Unknown format");
+                }
+                final int width = in.readInt();
+                final int height = in.readInt();
+                final long fetchedAt = in.readLong();
+                final @Nullable String etag = in.readBoolean() ? in.readUTF() : null;
+                final byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+
+                //noinspection ResultOfMethodCallIgnored
+                file.setLastModified(System.currentTimeMillis());
+                return new Entry(width, height, data, fetchedAt, etag);
+            } catch (IOException ex) {
+                remove(key);
+                return null;
+            }
+        }
+
+        void put(@NonNull String key, @NonNull Entry entry) {
+            final File file = new File(mDirectory, key + SUFFIX);
+            final File temp =
+                    new File(mDirectory, key + SUFFIX + "." + Thread.currentThread().getId());
+            try {
+                //noinspection ResultOfMethodCallIgnored
+                mDirectory.mkdirs();
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(temp))
+                )) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    out.writeInt(entry.width);
+                    out.writeInt(entry.height);
+                    out.writeLong(entry.fetchedAt);
+                    out.writeBoolean(entry.etag != null);
+                    if (entry.etag != null) {
+                        out.writeUTF(entry.etag);
+                    }
+                    out.writeInt(entry.data.length);
+                    out.write(entry.data);
+                }
+                if (!temp.renameTo(file)) {
+                    throw new IOException("Failed to rename " + temp);
+                }
+            } catch (IOException ex) {
+                //noinspection ResultOfMethodCallIgnored
+                temp.delete();
+                return;
+            }
+
+            synchronized (this) {
+                ensureLoadedLocked();
+                final @Nullable Long previous = mSizes.put(key, file.length());
+                mSize += file.length() - (previous != null ? previous : 0);
+                trimLocked();
+            }
+        }
+
+        synchronized void clear() {
+            ensureLoadedLocked();
+            for (String key : mSizes.keySet()) {
+                //noinspection ResultOfMethodCallIgnored
+                new File(mDirectory, key + SUFFIX).delete();
+            }
+            mSizes.clear();
+            mSize = 0;
+        }
+
+        private synchronized void remove(@NonNull String key) {
+            final @Nullable Long size = mSizes.remove(key);
+            if (size != null) {
+                mSize -= size;
+            }
+            //noinspection ResultOfMethodCallIgnored
+            new File(mDirectory, key + SUFFIX).delete();
+        }
+
+        private void trimLocked() {
+            while (mSize > mMaxSize && !mSizes.isEmpty()) {
+                final Map.Entry<String, Long> eldest = mSizes.entrySet().iterator().next();
+                mSizes.remove(eldest.getKey());
+                mSize -= eldest.getValue();
+                //noinspection ResultOfMethodCallIgnored
+                new File(mDirectory, eldest.getKey() + SUFFIX).delete();
+            }
+        }
+
+        private void ensureLoadedLocked() {
+            if (mLoaded) {
+                return;
+            }
+            mLoaded = true;
+
+            final @Nullable File[] files = mDirectory.listFiles();
+            if (files == null) {
+                return;
+            }
+
+            final long staleBefore = System.currentTimeMillis() - TEMP_FILE_MAX_AGE_MILLIS;
+
+            // Restore the access order from the modification times.
+            Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+            for (File file : files) {
+                final String name = file.getName();
+                if (name.endsWith(SUFFIX)) {
+                    final long size = file.length();
+                    mSizes.put(name.substring(0, name.length() - SUFFIX.length()), size);
+                    mSize += size;
+                } else if (file.lastModified() < staleBefore) {
+                    // Leftover of an interrupted write.
+                    //noinspection ResultOfMethodCallIgnored
+                    file.delete();
+                }
+            }
+            trimLocked();
+        }
+    }
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Decodes polylines in the
+ * <a href="https://developers.google.com/maps/documentation/utilities/polylinealgorithm">Encoded
+ * Polyline Algorithm Format</a> into packed coordinates, or straight into overlay options.
+ * <p>
+ * No {@link LatLng} is created per vertex. Decoding from a {@link Reader} adds the vertices to
+ * the options in chunks of a fixed size, so that payloads of any length are decoded with constant
+ * extra memory.
+ *
+ * @since 2.4.0
+ */
+public final class EncodedPolylineDecoder {
+
+    /**
+     * The precision of the format as originally defined, i.e. coordinates rounded to 5 decimal
+     * places.
+     */
+    public static final int DEFAULT_PRECISION = 5;
+
+    private static final int CHUNK_SIZE = 1024;
+    private static final int BUFFER_SIZE = 4096;
+
+    private EncodedPolylineDecoder() {} // No instances!
+
+    /**
+     * Decodes a polyline of the default precision into packed coordinates.
+     *
+     * @param encoded The encoded polyline.
+     * @return The packed vertices, as in {@code [lat0, lng0, lat1, lng1, ...]}.
+     * @throws IllegalArgumentException If the polyline is malformed.
+     */
+    public static @NonNull double[] decode(@NonNull CharSequence encoded) {
+        return decode(encoded, DEFAULT_PRECISION);
+    }
+
+    /**
+     * Decodes a polyline into packed coordinates.
+     *
+     * @param encoded   The encoded polyline.
+     * @param precision The number of decimal places the coordinates were rounded to, e.g. 6 for
+     *                  polylines encoded by OSRM or Valhalla.
+     * @return The packed vertices, as in {@code [lat0, lng0, lat1, lng1, ...]}.
+     * @throws IllegalArgumentException If the polyline is malformed.
+     */
+    public static @NonNull double[] decode(
+            @NonNull CharSequence encoded,
+            @IntRange(from = 0) int precision
+    ) {
+        final int length = encoded.length();
+
+        // Every value ends with a character without the continuation bit.
+        int values = 0;
+        for (int i = 0; i < length; i++) {
+            if (encoded.charAt(i) - 63 < 0x20) {
+                values++;
+            }
+        }
+        if (values % 2 != 0) {
+            throw new IllegalArgumentException("Malformed encoded polyline");
+        }
+
+        final double[] latLngs = new double[values];
+        final Decoder decoder = new Decoder(precision);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (!decoder.accept(encoded.charAt(i))) {
+                throw new IllegalArgumentException("Malformed encoded polyline");
+            }
+            if (decoder.hasVertex()) {
+                latLngs[count++] = decoder.lat;
+                latLngs[count++] = decoder.lng;
+            }
+        }
+        if (!decoder.isComplete()) {
+            throw new IllegalArgumentException("Malformed encoded polyline");
+        }
+        return latLngs;
+    }
+
+    /**
+     * Decodes a polyline from a stream, adding its vertices to the given polyline options.
+     *
+     * @param in        The stream of the encoded polyline, which is not closed.
+     * @param precision The number of decimal places the coordinates were rounded to.
+     * @param options   The options to add the vertices to.
+     * @return The given options.
+     * @throws IOException If the stream cannot be read or the polyline is malformed.
+     */
+    public static @NonNull Polyline.Options decode(
+            @NonNull Reader in,
+            @IntRange(from = 0) int precision,
+            final @NonNull Polyline.Options options
+    ) throws IOException {
+        decode(in, precision, options::addPackedPoints);
+        return options;
+    }
+
+    /**
+     * Decodes a polyline from a stream, adding its vertices to the outline of the given polygon
+     * options.
+     *
+     * @param in        The stream of the encoded polyline, which is not closed.
+     * @param precision The number of decimal places the coordinates were rounded to.
+     * @param options   The options to add the vertices to.
+     * @return The given options.
+     * @throws IOException If the stream cannot be read or the polyline is malformed.
+     */
+    public static @NonNull Polygon.Options decode(
+            @NonNull Reader in,
+            @IntRange(from = 0) int precision,
+            final @NonNull Polygon.Options options
+    ) throws IOException {
+        decode(in, precision, options::addPackedPoints);
+        return options;
+    }
+
+
+    private interface Sink {
+        void add(@NonNull double[] latLngs);
+    }
+
+    private static void decode(@NonNull Reader in, int precision, @NonNull Sink sink)
+            throws IOException {
+        final char[] buffer = new char[BUFFER_SIZE];
+        final double[] chunk = new double[CHUNK_SIZE * 2];
+        final Decoder decoder = new Decoder(precision);
+        int count = 0;
+
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                if (!decoder.accept(buffer[i])) {
+                    throw new IOException("Malformed encoded polyline");
+                }
+                if (decoder.hasVertex()) {
+                    chunk[count++] = decoder.lat;
+                    chunk[count++] = decoder.lng;
+                    if (count == chunk.length) {
+                        sink.add(chunk);
+                        count = 0;
+                    }
+                }
+            }
+        }
+
+        if (!decoder.isComplete()) {
+            throw new IOException("Malformed encoded polyline");
+        }
+        if (count > 0) {
+            sink.add(Arrays.copyOf(chunk, count));
+        }
+    }
+
+
+    /**
+     * Decodes the characters of a polyline one at a time.
+     */
+    private static final class Decoder {
+        private final double mFactor;
+
+        private long mValue = 0;
+        private int mShift = 0;
+        private boolean mLatitude = true;
+        private boolean mHasVertex = false;
+
+        private long mLat = 0;
+        private long mLng = 0;
+
+        double lat;
+        double lng;
+
+        Decoder(int precision) {
+            mFactor = Math.pow(10, precision);
+        }
+
+        /**
+         * @return {@code false} if the character is not part of the format.
+         */
+        boolean accept(char c) {
+            mHasVertex = false;
+
+            final int b = c - 63;
+            if (b < 0 || b > 0x3F || mShift > 60) {
+                return false;
+            }
+
+            mValue |= (long) (b & 0x1F) << mShift;
+            mShift += 5;
+            if (b >= 0x20) {
+                return true;
+            }
+
+            final long delta = (mValue & 1) != 0 ? ~(mValue >> 1) : mValue >> 1;
+            mValue = 0;
+            mShift = 0;
+
+            if (mLatitude) {
+                mLat += delta;
+            } else {
+                mLng += delta;
+                lat = mLat / mFactor;
+                lng = mLng / mFactor;
+                mHasVertex = true;
+            }
+            mLatitude = !mLatitude;
+            return true;
+        }
+
+        /**
+         * @return Whether the last character accepted completed a vertex.
+         */
+        boolean hasVertex() {
+            return mHasVertex;
+        }
+
+        /**
+         * @return Whether the characters accepted so far end on a complete vertex.
+         */
+        boolean isComplete() {
+            return mShift == 0 && mLatitude;
+        }
+    }
+
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+
+/**
+ * Decodes <a href="https://datatracker.ietf.org/doc/html/rfc7946">GeoJSON</a> straight into
+ * overlay options, as it is read from a stream.
+ * <p>
+ * Points become markers, line strings become polylines, and polygons become polygons with holes;
+ * their multi-part variants become one overlay per part. Geometries are decoded within features,
+ * feature collections and geometry collections, nested to any depth. Feature properties and
+ * unknown members are skipped.
+ * <p>
+ * No {@link LatLng} is created per vertex, and only the coordinates of the geometry being decoded
+ * are held at once, in buffers reused from one geometry to the next, so that payloads of many
+ * megabytes are decoded with memory bounded by their largest geometry.
+ *
+ * @since 2.4.0
+ */
+public final class GeoJsonDecoder {
+
+    /**
+     * Receives the options of the overlays decoded, in document order. The options may be
+     * further customized before being added to a map.
+     */
+    public interface Callback {
+        void onMarker(@NonNull Marker.Options options);
+
+        void onPolyline(@NonNull Polyline.Options options);
+
+        void onPolygon(@NonNull Polygon.Options options);
+    }
+
+    private final @NonNull Callback mCallback;
+
+    // The coordinates of the current geometry, packed as latitude then longitude.
+    private @NonNull double[] mCoordinates = new double[256];
+    private int mCoordinateCount;
+
+    // The end of each line or ring in mCoordinates, and of each polygon in mRingEnds.
+    private @NonNull int[] mRingEnds = new int[16];
+    private int mRingCount;
+    private @NonNull int[] mPolygonEnds = new int[4];
+    private int mPolygonCount;
+
+    // The array depth at which positions were found within the current coordinates.
+    private int mPositionDepth;
+
+    private GeoJsonDecoder(@NonNull Callback callback) {
+        mCallback = callback;
+    }
+
+    /**
+     * Decodes a GeoJSON document from a stream of UTF-8.
+     *
+     * @param in       The stream, which is not closed.
+     * @param callback The callback receiving the options of the overlays decoded.
+     * @throws IOException If the stream cannot be read or the document is malformed.
+     */
+    public static void decode(@NonNull InputStream in, @NonNull Callback callback)
+            throws IOException {
+        decode(new BufferedReader(new InputStreamReader(in, Charset.forName("UTF-8"))), callback);
+    }
+
+    /**
+     * Decodes a GeoJSON document.
+     *
+     * @param in       The document, which is not closed.
+     * @param callback The callback receiving the options of the overlays decoded.
+     * @throws IOException If the document cannot be read or is malformed.
+     */
+    public static void decode(@NonNull Reader in, @NonNull Callback callback) throws IOException {
+        // Not closed, as that would close the given reader.
+        final JsonReader reader = new JsonReader(in);
+        new GeoJsonDecoder(callback).readObject(reader);
+    }
+
+
+    private void readObject(@NonNull JsonReader reader) throws IOException {
+        @Nullable String type = null;
+        boolean hasCoordinates = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    type = reader.nextString();
+                    break;
+                case "coordinates":
+                    // The type may only come later, so coordinates are held until the end.
+                    mCoordinateCount = 0;
+                    mRingCount = 0;
+                    mPolygonCount = 0;
+                    mPositionDepth = -1;
+                    readCoordinates(reader, 0);
+                    hasCoordinates = true;
+                    break;
+                case "geometry":
+                    if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        readObject(reader);
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                case "features":
+                case "geometries":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        readObject(reader);
+                    }
+                    reader.endArray();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (hasCoordinates && type != null) {
+            emit(type);
+        }
+    }
+
+    private void readCoordinates(@NonNull JsonReader reader, int depth) throws IOException {
+        reader.beginArray();
+
+        if (reader.peek() == JsonToken.NUMBER) {
+            // A position, as longitude, latitude and an optional altitude.
+            final double lng = reader.nextDouble();
+            final double lat = reader.nextDouble();
+            while (reader.hasNext()) {
+                reader.skipValue();
+            }
+            reader.endArray();
+
+            if (mCoordinateCount + 2 > mCoordinates.length) {
+                mCoordinates = Arrays.copyOf(mCoordinates, mCoordinates.length * 2);
+            }
+            mCoordinates[mCoordinateCount++] = lat;
+            mCoordinates[mCoordinateCount++] = lng;
+            mPositionDepth = depth;
+            return;
+        }
+
+        while (reader.hasNext()) {
+            readCoordinates(reader, depth + 1);
+        }
+        reader.endArray();
+
+        if (mPositionDepth == depth + 1) {
+            // An array of positions, i.e. a line or a ring.
+            if (mRingCount == mRingEnds.length) {
+                mRingEnds = Arrays.copyOf(mRingEnds, mRingEnds.length * 2);
+            }
+            mRingEnds[mRingCount++] = mCoordinateCount;
+        } else if (mPositionDepth == depth + 2) {
+            // An array of rings, i.e. a polygon.
+            if (mPolygonCount == mPolygonEnds.length) {
+                mPolygonEnds = Arrays.copyOf(mPolygonEnds, mPolygonEnds.length * 2);
+            }
+            mPolygonEnds[mPolygonCount++] = mRingCount;
+        }
+    }
+
+    private void emit(@NonNull String type) {
+        switch (type) {
+            case "Point":
+                if (mPositionDepth == 0) {
+                    emitMarker(0);
+                }
+                break;
+            case "MultiPoint":
+                if (mPositionDepth == 1) {
+                    for (int i = 0; i < mCoordinateCount; i += 2) {
+                        emitMarker(i);
+                    }
+                }
+                break;
+            case "LineString":
+            case "MultiLineString":
+                if (mPositionDepth == (type.equals("LineString") ? 1 : 2)) {
+                    for (int ring = 0; ring < mRingCount; ring++) {
+                        mCallback.onPolyline(
+                                MapKit.newPolylineOptions().addPackedPoints(ringAt(ring))
+                        );
+                    }
+                }
+                break;
+            case "Polygon":
+                if (mPositionDepth == 2) {
+                    emitPolygon(0, mRingCount);
+                }
+                break;
+            case "MultiPolygon":
+                if (mPositionDepth == 3) {
+                    int start = 0;
+                    for (int polygon = 0; polygon < mPolygonCount; polygon++) {
+                        emitPolygon(start, mPolygonEnds[polygon]);
+                        start = mPolygonEnds[polygon];
+                    }
+                }
+                break;
+            default:
+                // Not a geometry with coordinates.
+                break;
+        }
+    }
+
+    private void emitMarker(int offset) {
+        mCallback.onMarker(MapKit.newMarkerOptions().position(
+                MapKit.newLatLng(mCoordinates[offset], mCoordinates[offset + 1])
+        ));
+    }
+
+    private void emitPolygon(int startRing, int endRing) {
+        if (startRing >= endRing) {
+            return;
+        }
+
+        final Polygon.Options options =
+                MapKit.newPolygonOptions().addPackedPoints(ringAt(startRing));
+        for (int ring = startRing + 1; ring < endRing; ring++) {
+            options.addPackedHole(ringAt(ring));
+        }
+        mCallback.onPolygon(options);
+    }
+
+    private @NonNull double[] ringAt(int ring) {
+        final int from = ring == 0 ? 0 : mRingEnds[ring - 1];
+        return Arrays.copyOfRange(mCoordinates, from, mRingEnds[ring]);
+    }
+
+}
@@ -0,0 +1,636 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.util.LruCache;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.FloatRange;
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+
+/**
+ * A {@link TileProvider} which renders a heatmap of weighted points on the device.
+ * <p>
+ * The points are indexed once when set. Each tile is rendered by summing the weights of the
+ * points nearby per pixel, blurring the sums with a Gaussian kernel of the given radius, and
+ * coloring the intensities through the given gradient, relative to the maximum intensity expected
+ * at the zoom level. Tiles are rendered on the threads of the map SDK into buffers reused by each
+ * thread, and kept in a memory cache.
+ * <p>
+ * After the data is changed, {@link TileOverlay#clearTileCache()} must be called for the map to
+ * request the tiles again.
+ *
+ * @since 2.4.0
+ */
+public class HeatmapTileProvider implements TileProvider {
+
+    /**
+     * The default radius of the kernel, in pixels.
+     */
+    public static final int DEFAULT_RADIUS = 20;
+
+    /**
+     * The default opacity of the heatmap.
+     */
+    public static final float DEFAULT_OPACITY = 0.7f;
+
+    /**
+     * The default gradient, from green to red.
+     */
+    public static final Gradient DEFAULT_GRADIENT = new Gradient(
+            new int[] { Color.argb(255, 102, 225, 0), Color.argb(255, 255, 0, 0) },
+            new float[] { 0.2f, 1f }
+    );
+
+    private static final int TILE_SIZE = 256;
+    private static final int MAX_ZOOM = 22;
+    private static final int DEFAULT_CACHE_SIZE = 4 * 1024 * 1024;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int mRadius;
+    private final @NonNull double[] mKernel;
+    private final @NonNull int[] mColorMap;
+    private final double mMaxIntensity;
+
+    private final @Nullable LruCache<Long, byte[]> mCache;
+    private final @NonNull ThreadLocal<Buffers> mBuffers = new ThreadLocal<>();
+
+    private volatile @NonNull Index mIndex = new Index(new double[0], new double[0]);
+    private final @NonNull double[] mMaxIntensities = new double[MAX_ZOOM + 1];
+
+    private HeatmapTileProvider(@NonNull Builder builder) {
+        mRadius = builder.mRadius;
+        mKernel = kernel(builder.mRadius);
+        mColorMap = builder.mGradient.colorMap(builder.mOpacity);
+        mMaxIntensity = builder.mMaxIntensity;
+        mCache = builder.mCacheSize > 0
+                ? new LruCache<Long, byte[]>(builder.mCacheSize) {
+                    @Override protected int sizeOf(@NonNull Long key, @NonNull byte[] data) {
+                        return Math.max(1, data.length);
+                    }
+                }
+                : null;
+        setIndex(builder.mLatLngs, builder.mWeights);
+    }
+
+    /**
+     * Replaces the points of the heatmap.
+     *
+     * @param points The points, all of weight 1.
+     */
+    public void setData(@NonNull Collection<LatLng> points) {
+        final double[] latLngs = new double[points.size() * 2];
+        int i = 0;
+        for (LatLng point : points) {
+            latLngs[i++] = point.getLatitude();
+            latLngs[i++] = point.getLongitude();
+        }
+        setIndex(latLngs, null);
+    }
+
+    /**
+     * Replaces the points of the heatmap.
+     *
+     * @param points The weighted points.
+     */
+    public void setWeightedData(@NonNull Collection<WeightedLatLng> points) {
+        final double[] latLngs = new double[points.size() * 2];
+        final double[] weights = new double[points.size()];
+        int i = 0;
+        for (WeightedLatLng point : points) {
+            latLngs[i * 2] = point.getLatLng().getLatitude();
+            latLngs[i * 2 + 1] = point.getLatLng().getLongitude();
+            weights[i++] = point.getWeight();
+        }
+        setIndex(latLngs, weights);
+    }
+
+    /**
+     * Replaces the points of the heatmap from packed coordinates.
+     *
+     * @param latLngs The packed points, as in {@code [lat0, lng0, lat1, lng1, ...]}.
+     * @param weights The weight of each point, or {@code null} for all of weight 1.
+     */
+    public void setPackedData(@NonNull double[] latLngs, @Nullable double[] weights) {
+        setIndex(latLngs, weights);
+    }
+
+    @WorkerThread
+    @Override public @Nullable Tile getTile(int x, int y, int zoom) {
+        final Index index = mIndex;
+        final Long key = ((long) zoom << 58) | ((long) x << 29) | y;
+
+        @Nullable byte[] data = mCache != null ? mCache.get(key) : null;
+        if (data == null) {
+            data = render(index, x, y, zoom);
+            if (mCache != null && index == mIndex) {
+                mCache.put(key, data);
+            }
+        }
+        return data == EMPTY ? NO_TILE : MapKit.newTile(TILE_SIZE, TILE_SIZE, data);
+    }
+
+
+    private void setIndex(@NonNull double[] latLngs, @Nullable double[] weights) {
+        if (latLngs.length % 2 != 0) {
+            throw new IllegalArgumentException("latLngs must hold pairs of coordinates");
+        }
+        if (weights != null && weights.length != latLngs.length / 2) {
+            throw new IllegalArgumentException("weights must hold one weight per point");
+        }
+
+        if (weights != null) {
+            mIndex = new Index(latLngs, weights.clone());
+        } else {
+            final double[] ones = new double[latLngs.length / 2];
+            Arrays.fill(ones, 1);
+            mIndex = new Index(latLngs, ones);
+        }
+
+        synchronized (mMaxIntensities) {
+            Arrays.fill(mMaxIntensities, 0);
+        }
+        if (mCache != null) {
+            mCache.evictAll();
+        }
+    }
+
+    private @NonNull byte[] render(@NonNull Index index, int x, int y, int zoom) {
+        final double scale = (double) TILE_SIZE * (1L << zoom);
+        final double pad = mRadius / scale;
+        final double minX = x / (double) (1L << zoom);
+        final double minY = y / (double) (1L << zoom);
+        final double maxX = (x + 1) / (double) (1L << zoom);
+        final double maxY = (y + 1) / (double) (1L << zoom);
+
+        final int dimension = TILE_SIZE + 2 * mRadius;
+        @Nullable Buffers buffers = mBuffers.get();
+        if (buffers == null) {
+            buffers = new Buffers(dimension);
+            mBuffers.set(buffers);
+        }
+        final double[] sums = buffers.sums;
+        Arrays.fill(sums, 0);
+
+        // Sum the weights per pixel, including the points of the margin, and those across the
+        // antimeridian.
+        boolean any = false;
+        for (int offset = -1; offset <= 1; offset++) {
+            final double queryMinX = minX - pad - offset;
+            final double queryMaxX = maxX + pad - offset;
+            if (queryMaxX < 0 || queryMinX >= 1) {
+                continue;
+            }
+            any |= index.accumulate(
+                    queryMinX, minY - pad, queryMaxX, maxY + pad,
+                    (minX - offset) - pad, minY - pad, scale, dimension, sums
+            );
+        }
+        if (!any) {
+            return EMPTY;
+        }
+
+        // Blur horizontally into the temporary buffer, then vertically into the intensities.
+        final double[] blurred = buffers.blurred;
+        final double[] kernel = mKernel;
+        final int radius = mRadius;
+        for (int row = 0; row < dimension; row++) {
+            final int base = row * dimension;
+            for (int column = radius; column < radius + TILE_SIZE; column++) {
+                double sum = 0;
+                for (int k = -radius; k <= radius; k++) {
+                    sum += sums[base + column + k] * kernel[k + radius];
+                }
+                blurred[base + column] = sum;
+            }
+        }
+
+        final double maxIntensity = mMaxIntensity > 0 ? mMaxIntensity : maxIntensity(index, zoom);
+        final int[] colorMap = mColorMap;
+        final int[] pixels = buffers.pixels;
+        boolean painted = false;
+        for (int row = 0; row < TILE_SIZE; row++) {
+            for (int column = 0; column < TILE_SIZE; column++) {
+                double intensity = 0;
+                for (int k = -radius; k <= radius; k++) {
+                    intensity += blurred[(row + radius + k) * dimension + column + radius]
+                            * kernel[k + radius];
+                }
+
+                int color = Color.TRANSPARENT;
+                if (intensity > 0) {
+                    final int i = (int) (intensity / maxIntensity * (colorMap.length - 1));
+                    color = colorMap[Math.min(i, colorMap.length - 1)];
+                    painted |= color != Color.TRANSPARENT;
+                }
+                pixels[row * TILE_SIZE + column] = color;
+            }
+        }
+        if (!painted) {
+            return EMPTY;
+        }
+
+        buffers.bitmap.setPixels(pixels, 0, TILE_SIZE, 0, 0, TILE_SIZE, TILE_SIZE);
+        buffers.stream.reset();
+        buffers.bitmap.compress(Bitmap.CompressFormat.PNG, 100, buffers.stream);
+        return buffers.stream.toByteArray();
+    }
+
+    /**
+     * Estimates the maximum intensity at a zoom level as the largest sum of weights within a cell
+     * of the size of the kernel radius.
+     */
+    private double maxIntensity(@NonNull Index index, int zoom) {
+        final int level = Math.min(zoom, MAX_ZOOM);
+        synchronized (mMaxIntensities) {
+            if (mMaxIntensities[level] > 0) {
+                return mMaxIntensities[level];
+            }
+        }
+
+        final double cells = (double) TILE_SIZE * (1L << level) / mRadius;
+        final double max = Math.max(index.maxCellSum(cells), 1e-9);
+        synchronized (mMaxIntensities) {
+            if (index == mIndex) {
+                mMaxIntensities[level] = max;
+            }
+        }
+        return max;
+    }
+
+    private static @NonNull double[] kernel(int radius) {
+        final double sigma = radius / 3.0;
+        final double[] kernel = new double[radius * 2 + 1];
+        for (int i = -radius; i <= radius; i++) {
+            kernel[i + radius] = Math.exp(-i * i / (2 * sigma * sigma));
+        }
+        return kernel;
+    }
+
+
+    /**
+     * A point with a weight, for {@link #setWeightedData(Collection)}.
+     */
+    public static final class WeightedLatLng {
+        private final @NonNull LatLng mLatLng;
+        private final double mWeight;
+
+        public WeightedLatLng(@NonNull LatLng latLng, @FloatRange(from = 0) double weight) {
+            mLatLng = latLng;
+            mWeight = weight;
+        }
+
+        public @NonNull LatLng getLatLng() {
+            return mLatLng;
+        }
+
+        public double getWeight() {
+            return mWeight;
+        }
+    }
+
+    /**
+     * A gradient of colors for intensities, from the lowest to the maximum intensity.
+     */
+    public static final class Gradient {
+        private static final int COLOR_MAP_SIZE = 1000;
+
+        private final @NonNull int[] mColors;
+        private final @NonNull float[] mStartPoints;
+
+        /**
+         * @param colors      The colors of the gradient.
+         * @param startPoints The fraction of the maximum intensity at which each color starts, in
+         *                    increasing order within (0, 1]. Intensities below the first fade in
+         *                    from transparent.
+         */
+        public Gradient(@NonNull @ColorInt int[] colors, @NonNull float[] startPoints) {
+            if (colors.length == 0 || colors.length != startPoints.length) {
+                throw new IllegalArgumentException(
+                        "colors and startPoints must be of the same nonzero length"
+                );
+            }
+            for (int i = 0; i < startPoints.length; i++) {
+                if (startPoints[i] <= 0 || startPoints[i] > 1
+                        || (i > 0 && startPoints[i] <= startPoints[i - 1])) {
+                    throw new IllegalArgumentException("startPoints must increase within (0, 1]");
+                }
+            }
+            mColors = colors.clone();
+            mStartPoints = startPoints.clone();
+        }
+
+        @NonNull int[] colorMap(float opacity) {
+            final int[] colorMap = new int[COLOR_MAP_SIZE];
+            int segment = 0;
+            for (int i = 0; i < COLOR_MAP_SIZE; i++) {
+                final float fraction = (float) i / (COLOR_MAP_SIZE - 1);
+
+                final int color;
+                if (fraction < mStartPoints[0]) {
+                    color = interpolate(
+                            mColors[0] & 0x00FFFFFF,
+                            mColors[0],
+                            fraction / mStartPoints[0]
+                    );
+                } else {
+                    while (segment < mStartPoints.length - 1
+                            && fraction >= mStartPoints[segment + 1]) {
+                        segment++;
+                    }
+                    color = segment == mStartPoints.length - 1
+                            ? mColors[segment]
+                            : interpolate(
+                                    mColors[segment],
+                                    mColors[segment + 1],
+                                    (fraction - mStartPoints[segment])
+                                            / (mStartPoints[segment + 1] - mStartPoints[segment])
+                            );
+                }
+
+                final int alpha = Math.round(Color.alpha(color) * opacity);
+                colorMap[i] = (alpha << 24) | (color & 0x00FFFFFF);
+            }
+            return colorMap;
+        }
+
+        private static int interpolate(int from, int to, float fraction) {
+            return Color.argb(
+                    lerp(Color.alpha(from), Color.alpha(to), fraction),
+                    lerp(Color.red(from), Color.red(to), fraction),
+                    lerp(Color.green(from), Color.green(to), fraction),
+                    lerp(Color.blue(from), Color.blue(to), fraction)
+            );
+        }
+
+        private static int lerp(int from, int to, float fraction) {
+            return Math.round(from + (to - from) * fraction);
+        }
+    }
+
+    /**
+     * Builds a {@link HeatmapTileProvider}.
+     */
+    public static final class Builder {
+        private @NonNull double[] mLatLngs = new double[0];
+        private @Nullable double[] mWeights = null;
+        private int mRadius = DEFAULT_RADIUS;
+        private @NonNull Gradient mGradient = DEFAULT_GRADIENT;
+        private float mOpacity = DEFAULT_OPACITY;
+        private double mMaxIntensity = 0;
+        private int mCacheSize = DEFAULT_CACHE_SIZE;
+
+        /**
+         * Sets the points of the heatmap, all of weight 1.
+         */
+        public @NonNull Builder data(@NonNull Collection<LatLng> points) {
+            final double[] latLngs = new double[points.size() * 2];
+            int i = 0;
+            for (LatLng point : points) {
+                latLngs[i++] = point.getLatitude();
+                latLngs[i++] = point.getLongitude();
+            }
+            mLatLngs = latLngs;
+            mWeights = null;
+            return this;
+        }
+
+        /**
+         * Sets the weighted points of the heatmap.
+         */
+        public @NonNull Builder weightedData(@NonNull Collection<WeightedLatLng> points) {
+            final double[] latLngs = new double[points.size() * 2];
+            final double[] weights = new double[points.size()];
+            int i = 0;
+            for (WeightedLatLng point : points) {
+                latLngs[i * 2] = point.getLatLng().getLatitude();
+                latLngs[i * 2 + 1] = point.getLatLng().getLongitude();
+                weights[i++] = point.getWeight();
+            }
+            mLatLngs = latLngs;
+            mWeights = weights;
+            return this;
+        }
+
+        /**
+         * Sets the points of the heatmap from packed coordinates.
+         *
+         * @param latLngs The packed points, as in {@code [lat0, lng0, lat1, lng1, ...]}.
+         * @param weights The weight of each point, or {@code null} for all of weight 1.
+         */
+        public @NonNull Builder packedData(@NonNull double[] latLngs, @Nullable double[] weights) {
+            mLatLngs = latLngs;
+            mWeights = weights;
+            return this;
+        }
+
+        /**
+         * Sets the radius of the Gaussian kernel, in pixels. The default is 20.
+         */
+        public @NonNull Builder radius(@IntRange(from = 1, to = 64) int radius) {
+            if (radius < 1 || radius > 64) {
+                throw new IllegalArgumentException("radius must be within [1, 64]");
+            }
+            mRadius = radius;
+            return this;
+        }
+
+        public @NonNull Builder gradient(@NonNull Gradient gradient) {
+            mGradient = gradient;
+            return this;
+        }
+
+        /**
+         * Sets the opacity of the heatmap. The default is 0.7.
+         */
+        public @NonNull Builder opacity(@FloatRange(from = 0, to = 1) float opacity) {
+            mOpacity = opacity;
+            return this;
+        }
+
+        /**
+         * Sets the intensity mapped to the last color of the gradient at every zoom level. By
+         * default, it is estimated per zoom level from the densest area of the data.
+         */
+        public @NonNull Builder maxIntensity(@FloatRange(from = 0) double maxIntensity) {
+            mMaxIntensity = maxIntensity;
+            return this;
+        }
+
+        /**
+         * Sets the size of the memory cache of rendered tiles, in bytes, or 0 to disable it. The
+         * default is 4 MiB.
+         */
+        public @NonNull Builder cacheSize(@IntRange(from = 0) int bytes) {
+            mCacheSize = bytes;
+            return this;
+        }
+
+        public @NonNull HeatmapTileProvider build() {
+            return new HeatmapTileProvider(this);
+        }
+    }
+
+
+    /**
+     * The points in normalized Web Mercator coordinates, bucketed into a uniform grid.
+     */
+    private static final class Index {
+        private final @NonNull double[] mXs;
+        private final @NonNull double[] mYs;
+        private final @NonNull double[] mWeights;
+
+        private final int mGridSize;
+        // The points of cell i are mOrder[mCellStarts[i]] to mOrder[mCellStarts[i + 1] - 1].
+        private final @NonNull int[] mCellStarts;
+        private final @NonNull int[] mOrder;
+
+        Index(@NonNull double[] latLngs, @NonNull double[] weights) {
+            final int count = latLngs.length / 2;
+            mXs = new double[count];
+            mYs = new double[count];
+            mWeights = weights;
+            for (int i = 0; i < count; i++) {
+                mXs[i] = (LatLngMath.mercatorX(latLngs[i * 2 + 1]) % 1 + 1) % 1;
+                mYs[i] = LatLngMath.mercatorY(latLngs[i * 2]);
+            }
+
+            mGridSize = (int) Math.max(1, Math.min(1024, Math.ceil(Math.sqrt(count / 8.0))));
+            mCellStarts = new int[mGridSize * mGridSize + 1];
+            final int[] cells = new int[count];
+            for (int i = 0; i < count; i++) {
+                cells[i] = cellOf(mXs[i], mYs[i]);
+                mCellStarts[cells[i] + 1]++;
+            }
+            for (int i = 0; i < mGridSize * mGridSize; i++) {
+                mCellStarts[i + 1] += mCellStarts[i];
+            }
+            mOrder = new int[count];
+            final int[] next = Arrays.copyOf(mCellStarts, mCellStarts.length - 1);
+            for (int i = 0; i < count; i++) {
+                mOrder[next[cells[i]]++] = i;
+            }
+        }
+
+        /**
+         * Adds the weights of the points within the given bounds to the pixels of the given grid.
+         *
+         * @return Whether any point was found.
+         */
+        boolean accumulate(
+                double minX, double minY, double maxX, double maxY,
+                double originX, double originY, double scale,
+                int dimension, @NonNull double[] sums
+        ) {
+            if (mOrder.length == 0) {
+                return false;
+            }
+
+            final int minColumn = clamp((int) Math.floor(minX * mGridSize));
+            final int maxColumn = clamp((int) Math.floor(maxX * mGridSize));
+            final int minRow = clamp((int) Math.floor(minY * mGridSize));
+            final int maxRow = clamp((int) Math.floor(maxY * mGridSize));
+
+            boolean any = false;
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int column = minColumn; column <= maxColumn; column++) {
+                    final int cell = row * mGridSize + column;
+                    for (int j = mCellStarts[cell]; j < mCellStarts[cell + 1]; j++) {
+                        final int i = mOrder[j];
+                        final double x = mXs[i];
+                        final double y = mYs[i];
+                        if (x < minX || x >= maxX || y < minY || y >= maxY) {
+                            continue;
+                        }
+
+                        final int px = (int) ((x - originX) * scale);
+                        final int py = (int) ((y - originY) * scale);
+                        if (px >= 0 && px < dimension && py >= 0 && py < dimension) {
+                            sums[py * dimension + px] += mWeights[i];
+                            any = true;
+                        }
+                    }
+                }
+            }
+            return any;
+        }
+
+        /**
+         * Gets the largest sum of weights within a cell of a grid of the given number of cells
+         * per side.
+         */
+        double maxCellSum(double cells) {
+            final int count = mXs.length;
+            if (count == 0) {
+                return 0;
+            }
+
+            final HashMap<Long, double[]> sums = new HashMap<>();
+            double max = 0;
+            for (int i = 0; i < count; i++) {
+                final Long key = ((long) (mXs[i] * cells) << 32) | (long) (mYs[i] * cells);
+                @Nullable double[] sum = sums.get(key);
+                if (sum == null) {
+                    sum = new double[1];
+                    sums.put(key, sum);
+                }
+                sum[0] += mWeights[i];
+                max = Math.max(max, sum[0]);
+            }
+            return max;
+        }
+
+        private int cellOf(double x, double y) {
+            return clamp((int) (y * mGridSize)) * mGridSize + clamp((int) (x * mGridSize));
+        }
+
+        private int clamp(int cell) {
+            return Math.max(0, Math.min(mGridSize - 1, cell));
+        }
+    }
+
+    /**
+     * The buffers a thread renders tiles into.
+     */
+    private static final class Buffers {
+        final @NonNull double[] sums;
+        final @NonNull double[] blurred;
+        final @NonNull int[] pixels = new int[TILE_SIZE * TILE_SIZE];
+        final @NonNull Bitmap bitmap =
+                Bitmap.createBitmap(TILE_SIZE, TILE_SIZE, Bitmap.Config.ARGB_8888);
+        final @NonNull ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        Buffers(int dimension) {
+            sums = new double[dimension * dimension];
+            blurred = new double[dimension * dimension];
+        }
+    }
+
+}
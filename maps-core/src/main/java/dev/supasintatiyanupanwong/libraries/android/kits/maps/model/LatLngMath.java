@@ -0,0 +1,485 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import androidx.annotation.NonNull;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+
+/**
+ * Geometry on latitudes and longitudes in degrees, computed on primitive values without any
+ * allocation, so that it can run over many points in a tight loop.
+ * <p>
+ * Distances are in meters and areas in square meters, on a sphere of the mean radius of the Earth
+ * unless stated otherwise. Polygons and polylines are given as packed points, as in
+ * {@code [lat0, lng0, lat1, lng1, ...]}. Bounds are given by their south, west, north and east
+ * edges, and cross the antimeridian where west is greater than east.
+ *
+ * @since 2.4.0
+ */
+public final class LatLngMath {
+
+    /**
+     * The mean radius of the Earth, in meters.
+     */
+    public static final double EARTH_RADIUS = 6371009;
+
+    /**
+     * The latitude beyond which the Web Mercator projection is cut off, so that its world is
+     * square.
+     */
+    public static final double MAX_MERCATOR_LATITUDE = 85.05112877980659;
+
+    // The WGS 84 ellipsoid.
+    private static final double WGS84_A = 6378137;
+    private static final double WGS84_F = 1 / 298.257223563;
+    private static final double WGS84_B = WGS84_A * (1 - WGS84_F);
+
+    private static final int VINCENTY_MAX_ITERATIONS = 200;
+
+    private LatLngMath() {} // No instances!
+
+
+    /**
+     * Returns whether the given bounds contain the given point. The bounds may cross the
+     * antimeridian.
+     */
+    public static boolean boundsContains(
+            double south, double west, double north, double east,
+            double lat, double lng
+    ) {
+        return south <= lat && lat <= north && longitudeSpanContains(west, east, lng);
+    }
+
+    /**
+     * Returns whether the given bounds intersect. Either may cross the antimeridian.
+     */
+    public static boolean boundsIntersect(
+            double south1, double west1, double north1, double east1,
+            double south2, double west2, double north2, double east2
+    ) {
+        return south1 <= north2 && south2 <= north1
+                && (longitudeSpanContains(west1, east1, west2)
+                || longitudeSpanContains(west2, east2, west1));
+    }
+
+    /**
+     * Returns whether the longitude span from west eastward to east contains the given longitude.
+     */
+    public static boolean longitudeSpanContains(double west, double east, double lng) {
+        return west <= east
+                ? west <= lng && lng <= east
+                : west <= lng || lng <= east;
+    }
+
+    /**
+     * Returns the longitude at the center of the longitude span from west eastward to east.
+     */
+    public static double longitudeSpanCenter(double west, double east) {
+        return wrapLongitude(west + eastwardDistance(west, east) / 2);
+    }
+
+    /**
+     * Returns the distance between two points along the great circle, with the haversine formula.
+     */
+    public static double distance(double lat1, double lng1, double lat2, double lng2) {
+        return EARTH_RADIUS * angularDistance(lat1, lng1, lat2, lng2);
+    }
+
+    /**
+     * Returns the distance between two points along the geodesic on the WGS 84 ellipsoid, with
+     * the Vincenty inverse formula. This is accurate within millimeters, but several times as
+     * costly as {@link #distance}.
+     *
+     * @return The distance, or the result of {@link #distance} for nearly antipodal points for
+     * which the formula does not converge.
+     */
+    public static double vincentyDistance(double lat1, double lng1, double lat2, double lng2) {
+        final double l = Math.toRadians(lng2 - lng1);
+        final double u1 = Math.atan((1 - WGS84_F) * Math.tan(Math.toRadians(lat1)));
+        final double u2 = Math.atan((1 - WGS84_F) * Math.tan(Math.toRadians(lat2)));
+        final double sinU1 = Math.sin(u1);
+        final double cosU1 = Math.cos(u1);
+        final double sinU2 = Math.sin(u2);
+        final double cosU2 = Math.cos(u2);
+
+        double lambda = l;
+        for (int i = 0; i < VINCENTY_MAX_ITERATIONS; i++) {
+            final double sinLambda = Math.sin(lambda);
+            final double cosLambda = Math.cos(lambda);
+            final double sinSigma = Math.sqrt(
+                    (cosU2 * sinLambda) * (cosU2 * sinLambda)
+                            + (cosU1 * sinU2 - sinU1 * cosU2 * cosLambda)
+                            * (cosU1 * sinU2 - sinU1 * cosU2 * cosLambda)
+            );
+            if (sinSigma == 0) {
+                return 0; // Coincident points.
+            }
+            final double cosSigma = sinU1 * sinU2 + cosU1 * cosU2 * cosLambda;
+            final double sigma = Math.atan2(sinSigma, cosSigma);
+            final double sinAlpha = cosU1 * cosU2 * sinLambda / sinSigma;
+            final double cosSqAlpha = 1 - sinAlpha * sinAlpha;
+            // Along the equator, cosSqAlpha is 0.
+            final double cos2SigmaM =
+                    cosSqAlpha == 0 ? 0 : cosSigma - 2 * sinU1 * sinU2 / cosSqAlpha;
+            final double c = WGS84_F / 16 * cosSqAlpha * (4 + WGS84_F * (4 - 3 * cosSqAlpha));
+
+            final double previous = lambda;
+            lambda = l + (1 - c) * WGS84_F * sinAlpha * (sigma + c * sinSigma
+                    * (cos2SigmaM + c * cosSigma * (-1 + 2 * cos2SigmaM * cos2SigmaM)));
+
+            if (Math.abs(lambda - previous) < 1e-12) {
+                final double uSq = cosSqAlpha
+                        * (WGS84_A * WGS84_A - WGS84_B * WGS84_B) / (WGS84_B * WGS84_B);
+                final double a = 1 + uSq / 16384
+                        * (4096 + uSq * (-768 + uSq * (320 - 175 * uSq)));
+                final double b = uSq / 1024 * (256 + uSq * (-128 + uSq * (74 - 47 * uSq)));
+                final double deltaSigma = b * sinSigma * (cos2SigmaM + b / 4
+                        * (cosSigma * (-1 + 2 * cos2SigmaM * cos2SigmaM)
+                        - b / 6 * cos2SigmaM * (-3 + 4 * sinSigma * sinSigma)
+                        * (-3 + 4 * cos2SigmaM * cos2SigmaM)));
+                return WGS84_B * a * (sigma - deltaSigma);
+            }
+        }
+        return distance(lat1, lng1, lat2, lng2);
+    }
+
+    /**
+     * Returns the length of a polyline along the great circles between its points.
+     *
+     * @param latLngs The packed points of the polyline.
+     */
+    public static double length(@NonNull double[] latLngs) {
+        double length = 0;
+        for (int i = 2; i + 1 < latLngs.length; i += 2) {
+            length += angularDistance(latLngs[i - 2], latLngs[i - 1], latLngs[i], latLngs[i + 1]);
+        }
+        return EARTH_RADIUS * length;
+    }
+
+    /**
+     * Returns the initial bearing from the first point to the second along the great circle, in
+     * degrees clockwise from north within [0, 360).
+     */
+    public static double bearing(double lat1, double lng1, double lat2, double lng2) {
+        final double phi1 = Math.toRadians(lat1);
+        final double phi2 = Math.toRadians(lat2);
+        final double deltaLambda = Math.toRadians(lng2 - lng1);
+        final double y = Math.sin(deltaLambda) * Math.cos(phi2);
+        final double x = Math.cos(phi1) * Math.sin(phi2)
+                - Math.sin(phi1) * Math.cos(phi2) * Math.cos(deltaLambda);
+        final double bearing = Math.toDegrees(Math.atan2(y, x));
+        return bearing < 0 ? bearing + 360 : bearing;
+    }
+
+    /**
+     * Computes the point at the given fraction of the way between two points along the great
+     * circle.
+     *
+     * @param fraction The fraction, where 0 is the first point and 1 the second.
+     * @param out      The array to store the latitude and longitude of the point in, at 0 and 1.
+     */
+    public static void interpolate(
+            double lat1, double lng1, double lat2, double lng2,
+            double fraction,
+            @NonNull double[] out
+    ) {
+        final double angle = angularDistance(lat1, lng1, lat2, lng2);
+        // Nearly coincident or antipodal points have no well defined great circle.
+        if (angle < 1e-9 || Math.PI - angle < 1e-9) {
+            out[0] = lat1 + (lat2 - lat1) * fraction;
+            out[1] = wrapLongitude(lng1 + wrapLongitude(lng2 - lng1) * fraction);
+            return;
+        }
+
+        final double phi1 = Math.toRadians(lat1);
+        final double phi2 = Math.toRadians(lat2);
+        final double lambda1 = Math.toRadians(lng1);
+        final double lambda2 = Math.toRadians(lng2);
+        final double sinAngle = Math.sin(angle);
+        final double a = Math.sin((1 - fraction) * angle) / sinAngle;
+        final double b = Math.sin(fraction * angle) / sinAngle;
+        final double x = a * Math.cos(phi1) * Math.cos(lambda1)
+                + b * Math.cos(phi2) * Math.cos(lambda2);
+        final double y = a * Math.cos(phi1) * Math.sin(lambda1)
+                + b * Math.cos(phi2) * Math.sin(lambda2);
+        final double z = a * Math.sin(phi1) + b * Math.sin(phi2);
+        out[0] = Math.toDegrees(Math.atan2(z, Math.sqrt(x * x + y * y)));
+        out[1] = Math.toDegrees(Math.atan2(y, x));
+    }
+
+    /**
+     * Returns the area of a polygon on the sphere. The polygon is closed implicitly, and its
+     * edges are great circle segments.
+     *
+     * @param latLngs The packed points of the polygon.
+     */
+    public static double polygonArea(@NonNull double[] latLngs) {
+        return Math.abs(signedPolygonArea(latLngs));
+    }
+
+    /**
+     * Returns the signed area of a polygon on the sphere, which is positive when its points are
+     * counterclockwise.
+     *
+     * @param latLngs The packed points of the polygon.
+     */
+    public static double signedPolygonArea(@NonNull double[] latLngs) {
+        final int count = latLngs.length / 2;
+        if (count < 3) {
+            return 0;
+        }
+
+        double total = 0;
+        double prevTanLat = Math.tan((Math.PI / 2 - Math.toRadians(latLngs[count * 2 - 2])) / 2);
+        double prevLng = Math.toRadians(latLngs[count * 2 - 1]);
+        for (int i = 0; i < count; i++) {
+            final double tanLat = Math.tan((Math.PI / 2 - Math.toRadians(latLngs[i * 2])) / 2);
+            final double lng = Math.toRadians(latLngs[i * 2 + 1]);
+            total += polarTriangleArea(tanLat, lng, prevTanLat, prevLng);
+            prevTanLat = tanLat;
+            prevLng = lng;
+        }
+        return total * EARTH_RADIUS * EARTH_RADIUS;
+    }
+
+    /**
+     * Returns whether a polygon contains the given point, with the even-odd rule. The polygon is
+     * closed implicitly, and its edges are straight in latitude and longitude, taking the shorter
+     * way around, so that they may cross the antimeridian.
+     *
+     * @param latLngs The packed points of the polygon.
+     */
+    public static boolean polygonContains(@NonNull double[] latLngs, double lat, double lng) {
+        final int count = latLngs.length / 2;
+        if (count < 3) {
+            return false;
+        }
+
+        boolean inside = false;
+        // Longitudes are taken relative to the point, so that it is at 0 and edges crossing the
+        // antimeridian do not wrap around the whole world.
+        double prevLat = latLngs[count * 2 - 2];
+        double prevLng = wrapLongitude(latLngs[count * 2 - 1] - lng);
+        for (int i = 0; i < count; i++) {
+            final double curLat = latLngs[i * 2];
+            final double curLng = wrapLongitude(latLngs[i * 2 + 1] - lng);
+
+            // Edges crossing the antimeridian behind the point never cross its meridian.
+            if (Math.abs(curLng - prevLng) <= 180 && (curLng > 0) != (prevLng > 0)) {
+                final double crossLat =
+                        prevLat + (curLat - prevLat) * (0 - prevLng) / (curLng - prevLng);
+                if (crossLat > lat) {
+                    inside = !inside;
+                }
+            }
+            prevLat = curLat;
+            prevLng = curLng;
+        }
+        return inside;
+    }
+
+    /**
+     * Wraps a longitude into [-180, 180).
+     */
+    public static double wrapLongitude(double lng) {
+        return lng >= -180 && lng < 180 ? lng : ((lng + 180) % 360 + 360) % 360 - 180;
+    }
+
+    /**
+     * Projects a longitude onto the x coordinate of the Web Mercator world, which is 0 at the
+     * antimeridian in the west and 1 at the antimeridian in the east. The longitude is not
+     * wrapped.
+     */
+    public static double mercatorX(double lng) {
+        return lng / 360 + 0.5;
+    }
+
+    /**
+     * Projects a latitude onto the y coordinate of the Web Mercator world, which is 0 at the north
+     * edge and 1 at the south edge. The latitude is clamped to
+     * {@link #MAX_MERCATOR_LATITUDE}.
+     */
+    public static double mercatorY(double lat) {
+        final double sin = Math.sin(Math.toRadians(
+                Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, lat))
+        ));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+
+    /**
+     * The inverse of {@link #mercatorX(double)}.
+     */
+    public static double mercatorLongitude(double x) {
+        return (x - 0.5) * 360;
+    }
+
+    /**
+     * The inverse of {@link #mercatorY(double)}.
+     */
+    public static double mercatorLatitude(double y) {
+        return 90 - Math.toDegrees(2 * Math.atan(Math.exp((y - 0.5) * 2 * Math.PI)));
+    }
+
+
+    /**
+     * Returns the angle between two points from the center of the sphere, in radians.
+     */
+    private static double angularDistance(double lat1, double lng1, double lat2, double lng2) {
+        final double phi1 = Math.toRadians(lat1);
+        final double phi2 = Math.toRadians(lat2);
+        final double sinDeltaPhi = Math.sin((phi2 - phi1) / 2);
+        final double sinDeltaLambda = Math.sin(Math.toRadians(lng2 - lng1) / 2);
+        final double h = sinDeltaPhi * sinDeltaPhi
+                + Math.cos(phi1) * Math.cos(phi2) * sinDeltaLambda * sinDeltaLambda;
+        return 2 * Math.asin(Math.sqrt(Math.min(1, h)));
+    }
+
+    /**
+     * Returns the signed area of the triangle between two points and the north pole, on the unit
+     * sphere. The latitudes are given as tangents of half their colatitude.
+     */
+    private static double polarTriangleArea(
+            double tanLat1, double lng1, double tanLat2, double lng2
+    ) {
+        final double deltaLng = lng1 - lng2;
+        final double t = tanLat1 * tanLat2;
+        return 2 * Math.atan2(t * Math.sin(deltaLng), 1 + t * Math.cos(deltaLng));
+    }
+
+    /**
+     * Returns the distance eastward from one longitude to another, in degrees within [0, 360).
+     */
+    private static double eastwardDistance(double from, double to) {
+        final double distance = (to - from) % 360;
+        return distance < 0 ? distance + 360 : distance;
+    }
+
+
+    /**
+     * Accumulates the smallest bounds containing a set of points, without allocating per point.
+     * <p>
+     * As with {@link LatLngBounds.Builder}, each point extends the bounds eastward or westward,
+     * whichever is shorter, or eastward if both are as long, so that the bounds may cross the
+     * antimeridian.
+     */
+    public static final class BoundsAccumulator {
+        private double mSouth = Double.POSITIVE_INFINITY;
+        private double mNorth = Double.NEGATIVE_INFINITY;
+        private double mWest = Double.NaN;
+        private double mEast = Double.NaN;
+
+        /**
+         * Includes a point in the bounds.
+         */
+        public @NonNull BoundsAccumulator include(double lat, double lng) {
+            mSouth = Math.min(mSouth, lat);
+            mNorth = Math.max(mNorth, lat);
+
+            if (Double.isNaN(mWest)) {
+                mWest = lng;
+                mEast = lng;
+            } else if (!longitudeSpanContains(mWest, mEast, lng)) {
+                if (eastwardDistance(lng, mWest) < eastwardDistance(mEast, lng)) {
+                    mWest = lng;
+                } else {
+                    mEast = lng;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Includes a point in the bounds.
+         */
+        public @NonNull BoundsAccumulator include(@NonNull LatLng point) {
+            return include(point.getLatitude(), point.getLongitude());
+        }
+
+        /**
+         * Replaces the bounds with the given ones, to extend them with further points.
+         */
+        public @NonNull BoundsAccumulator set(
+                double south, double west, double north, double east
+        ) {
+            mSouth = south;
+            mWest = west;
+            mNorth = north;
+            mEast = east;
+            return this;
+        }
+
+        /**
+         * Includes the packed points, as in {@code [lat0, lng0, lat1, lng1, ...]}, in the bounds.
+         */
+        public @NonNull BoundsAccumulator includePacked(@NonNull double[] latLngs) {
+            for (int i = 0; i + 1 < latLngs.length; i += 2) {
+                include(latLngs[i], latLngs[i + 1]);
+            }
+            return this;
+        }
+
+        /**
+         * Clears the bounds, to accumulate another set of points.
+         */
+        public void reset() {
+            mSouth = Double.POSITIVE_INFINITY;
+            mNorth = Double.NEGATIVE_INFINITY;
+            mWest = Double.NaN;
+            mEast = Double.NaN;
+        }
+
+        /**
+         * Returns whether no point has been included.
+         */
+        public boolean isEmpty() {
+            return Double.isNaN(mWest);
+        }
+
+        public double getSouth() {
+            return mSouth;
+        }
+
+        public double getWest() {
+            return mWest;
+        }
+
+        public double getNorth() {
+            return mNorth;
+        }
+
+        public double getEast() {
+            return mEast;
+        }
+
+        /**
+         * Creates the bounds with {@link MapKit#newLatLngBounds}.
+         *
+         * @throws IllegalStateException If no point has been included.
+         */
+        public @NonNull LatLngBounds build() {
+            if (isEmpty()) {
+                throw new IllegalStateException("no included points");
+            }
+            return MapKit.newLatLngBounds(
+                    MapKit.newLatLng(mSouth, mWest),
+                    MapKit.newLatLng(mNorth, mEast)
+            );
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+
+/**
+ * A {@link TileProvider} that reads raster tiles from a local
+ * <a href="https://github.com/mapbox/mbtiles-spec">MBTiles</a> archive, for use without
+ * connectivity.
+ * <p>
+ * The archive is opened read-only with SQLite memory-mapped I/O, so that reading a tile looks it
+ * up through the index of the {@code tiles} table and copies only its image out of the mapping.
+ * <p>
+ * Note that this class requires that all the images have the same dimensions. The provider must
+ * be closed once it is no longer used by any tile overlay.
+ *
+ * @since 2.4.0
+ */
+public class MBTilesTileProvider implements TileProvider, Closeable {
+
+    private static final long MMAP_SIZE = 256L * 1024 * 1024;
+
+    private static final String QUERY_TILE = "SELECT tile_data FROM tiles"
+            + " WHERE zoom_level = ? AND tile_column = ? AND tile_row = ?";
+
+    private final @NonNull SQLiteDatabase mDatabase;
+    private final int mWidth;
+    private final int mHeight;
+
+    /**
+     * Opens an MBTiles archive of 256 by 256 tiles.
+     *
+     * @param file The MBTiles archive.
+     * @throws IOException If the archive cannot be opened.
+     */
+    public MBTilesTileProvider(@NonNull File file) throws IOException {
+        this(file, 256, 256);
+    }
+
+    /**
+     * Opens an MBTiles archive.
+     *
+     * @param file   The MBTiles archive.
+     * @param width  The width of the images used for tiles.
+     * @param height The height of the images used for tiles.
+     * @throws IOException If the archive cannot be opened.
+     */
+    public MBTilesTileProvider(@NonNull File file, int width, int height) throws IOException {
+        try {
+            mDatabase = SQLiteDatabase.openDatabase(
+                    file.getPath(),
+                    null,
+                    SQLiteDatabase.OPEN_READONLY | SQLiteDatabase.NO_LOCALIZED_COLLATORS
+            );
+        } catch (SQLiteException ex) {
+            throw new IOException("Cannot open " + file, ex);
+        }
+        mWidth = width;
+        mHeight = height;
+
+        // Best effort; SQLite silently caps or ignores the size where mapping is unavailable.
+        try (Cursor cursor = mDatabase.rawQuery("PRAGMA mmap_size = " + MMAP_SIZE, null)) {
+            cursor.moveToFirst();
+        } catch (SQLiteException ignored) {
+        }
+    }
+
+    /**
+     * Gets a value of the {@code metadata} table of the archive, e.g. {@code "format"} or
+     * {@code "bounds"}.
+     *
+     * @param name The name of the value.
+     * @return The value, or {@code null} if the archive has none by the given name.
+     */
+    public @Nullable String getMetadata(@NonNull String name) {
+        try (Cursor cursor = mDatabase.rawQuery(
+                "SELECT value FROM metadata WHERE name = ?",
+                new String[] { name }
+        )) {
+            return cursor.moveToFirst() ? cursor.getString(0) : null;
+        } catch (SQLiteException ex) {
+            return null;
+        }
+    }
+
+    @Override public @Nullable Tile getTile(int x, int y, int zoom) {
+        // MBTiles rows are numbered from the south, as in TMS.
+        final int row = (1 << zoom) - 1 - y;
+
+        try (Cursor cursor = mDatabase.rawQuery(
+                QUERY_TILE,
+                new String[] { Integer.toString(zoom), Integer.toString(x), Integer.toString(row) }
+        )) {
+            return cursor.moveToFirst()
+                    ? MapKit.newTile(mWidth, mHeight, cursor.getBlob(0))
+                    : NO_TILE;
+        } catch (SQLiteException | IllegalStateException ex) {
+            // The archive is corrupted, or has been closed.
+            return null;
+        }
+    }
+
+    @Override public void close() {
+        mDatabase.close();
+    }
+
+}
@@ -29,6 +29,9 @@ import androidx.annotation.Nullable;
 import androidx.annotation.RequiresPermission;
 import androidx.annotation.UiThread;
 
+import java.util.Collection;
+import java.util.List;
+
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapFragment;
 
 /**
@@ -238,6 +241,59 @@ public interface MapClient {
      */
     @Nullable TileOverlay addTileOverlay(@NonNull TileOverlay.Options options);
 
+    /**
+     * Adds polylines to this map in a single pass.
+     *
+     * @param options The polyline options objects that define how to render the polylines.
+     * @return The {@link Polyline}s that were added to the map, in the order of {@code options}.
+     * An element might be {@code null} if there's an error adding the corresponding polyline.
+     * @since 2.4.0
+     */
+    @NonNull List<Polyline> addPolylines(@NonNull List<Polyline.Options> options);
+
+    /**
+     * Adds polygons to this map in a single pass.
+     *
+     * @param options The polygon options objects that define how to render the polygons.
+     * @return The {@link Polygon}s that were added to the map, in the order of {@code options}.
+     * An element might be {@code null} if there's an error adding the corresponding polygon.
+     * @since 2.4.0
+     */
+    @NonNull List<Polygon> addPolygons(@NonNull List<Polygon.Options> options);
+
+    /**
+     * Adds circles to this map in a single pass.
+     *
+     * @param options The circle options objects that define how to render the circles.
+     * @return The {@link Circle}s that were added to the map, in the order of {@code options}.
+     * An element might be {@code null} if there's an error adding the corresponding circle.
+     * @since 2.4.0
+     */
+    @NonNull List<Circle> addCircles(@NonNull List<Circle.Options> options);
+
+    /**
+     * Adds markers to this map in a single pass, using the bulk API of the underlying map where
+     * available.
+     *
+     * @param options The marker options objects that define how to render the markers.
+     * @return The {@link Marker}s that were added to the map, in the order of {@code options}. An
+     * element might be {@code null} if there's an error adding the corresponding marker.
+     * @since 2.4.0
+     */
+    @NonNull List<Marker> addMarkers(@NonNull List<Marker.Options> options);
+
+    /**
+     * Removes the given overlays from this map.
+     *
+     * @param overlays The {@link Marker}s, {@link Polyline}s, {@link Polygon}s, {@link Circle}s,
+     *                 {@link GroundOverlay}s and {@link TileOverlay}s to be removed. {@code null}
+     *                 elements are ignored.
+     * @throws IllegalArgumentException if an element is not one of the above, in which case none
+     *                                  of the overlays is removed.
+     * @since 2.4.0
+     */
+    void removeAll(@NonNull Collection<?> overlays);
+
     /**
      * Removes all markers, polylines, polygons, overlays, etc from the map.
      */
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import android.view.Choreographer;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+
+/**
+ * Animates the position and rotation of many markers at once, e.g. of a fleet of vehicles whose
+ * positions are updated every few seconds.
+ * <p>
+ * Every animation is driven by a single {@link Choreographer} frame callback, which only runs
+ * while there are markers to animate. Starting an animation on a marker which is already animated
+ * continues from its current interpolated position, so that frequent updates do not make markers
+ * jump. Markers far outside the visible region are not moved until they come near it or reach
+ * their destination, so that the markers off screen cost no calls into the map SDK.
+ * <p>
+ * Markers are identified by instance, as returned by {@link MapClient#addMarker}. Setting the
+ * position of a marker directly while it is animated has no lasting effect; {@link #cancel} it
+ * first.
+ *
+ * @since 2.4.0
+ */
+@UiThread
+public class MarkerAnimator implements Choreographer.FrameCallback {
+
+    /**
+     * Interpolates latitude and longitude linearly, crossing the antimeridian where shorter.
+     */
+    public static final int INTERPOLATION_LINEAR = 0;
+
+    /**
+     * Interpolates along the great circle between the positions.
+     */
+    public static final int INTERPOLATION_GREAT_CIRCLE = 1;
+
+    // Fraction of the visible span around the visible region within which markers are moved.
+    private static final double VISIBLE_MARGIN = 0.25;
+
+    private final @NonNull MapClient mMap;
+    private final @NonNull IdentityHashMap<Marker, Animation> mAnimations = new IdentityHashMap<>();
+
+    private int mInterpolation = INTERPOLATION_LINEAR;
+    private boolean mFrameScheduled = false;
+
+    public MarkerAnimator(@NonNull MapClient map) {
+        mMap = map;
+    }
+
+    /**
+     * Sets the interpolation of the animations started from now on, either
+     * {@link #INTERPOLATION_LINEAR} (the default) or {@link #INTERPOLATION_GREAT_CIRCLE}.
+     */
+    public void setInterpolation(int interpolation) {
+        if (interpolation != INTERPOLATION_LINEAR && interpolation != INTERPOLATION_GREAT_CIRCLE) {
+            throw new IllegalArgumentException("Unknown interpolation " + interpolation);
+        }
+        mInterpolation = interpolation;
+    }
+
+    public int getInterpolation() {
+        return mInterpolation;
+    }
+
+    /**
+     * Animates the position of the given marker, keeping its rotation.
+     *
+     * @param marker         The marker to animate.
+     * @param position       The position to animate the marker to.
+     * @param durationMillis The duration of the animation, or {@code 0} to move the marker now.
+     */
+    public void animateTo(
+            @NonNull Marker marker,
+            @NonNull LatLng position,
+            @IntRange(from = 0) long durationMillis
+    ) {
+        animate(marker, position, false, 0, durationMillis);
+    }
+
+    /**
+     * Animates the position and rotation of the given marker. The rotation is animated the
+     * shorter way around.
+     *
+     * @param marker         The marker to animate.
+     * @param position       The position to animate the marker to.
+     * @param rotation       The rotation to animate the marker to, in degrees clockwise.
+     * @param durationMillis The duration of the animation, or {@code 0} to move the marker now.
+     */
+    public void animateTo(
+            @NonNull Marker marker,
+            @NonNull LatLng position,
+            float rotation,
+            @IntRange(from = 0) long durationMillis
+    ) {
+        animate(marker, position, true, rotation, durationMillis);
+    }
+
+    /**
+     * Stops animating the given marker, leaving it where it was last moved to.
+     */
+    public void cancel(@NonNull Marker marker) {
+        mAnimations.remove(marker);
+    }
+
+    /**
+     * Stops animating every marker, leaving them where they were last moved to.
+     */
+    public void cancelAll() {
+        mAnimations.clear();
+    }
+
+    /**
+     * Moves every animated marker to its destination now.
+     */
+    public void endAll() {
+        for (Animation animation : mAnimations.values()) {
+            animation.end();
+        }
+        mAnimations.clear();
+    }
+
+    public boolean isAnimating(@NonNull Marker marker) {
+        return mAnimations.containsKey(marker);
+    }
+
+    public int getAnimatingCount() {
+        return mAnimations.size();
+    }
+
+    @Override public void doFrame(long frameTimeNanos) {
+        mFrameScheduled = false;
+
+        final LatLngBounds bounds = mMap.getProjection().getVisibleRegion().getLatLngBounds();
+        final double south = bounds.getSouthwest().getLatitude();
+        final double west = bounds.getSouthwest().getLongitude();
+        final double north = bounds.getNortheast().getLatitude();
+        final double east = bounds.getNortheast().getLongitude();
+        final double latMargin = (north - south) * VISIBLE_MARGIN;
+        final double lngSpan = east >= west ? east - west : east + 360 - west;
+        final double lngMargin = lngSpan * VISIBLE_MARGIN;
+        final double minLat = south - latMargin;
+        final double maxLat = north + latMargin;
+        final double minLng = west - lngMargin;
+        final double paddedLngSpan = lngSpan + 2 * lngMargin;
+
+        final Iterator<Animation> iterator = mAnimations.values().iterator();
+        while (iterator.hasNext()) {
+            final Animation animation = iterator.next();
+            final double fraction = animation.fractionAt(frameTimeNanos);
+            if (fraction >= 1) {
+                animation.end();
+                iterator.remove();
+                continue;
+            }
+
+            animation.interpolate(fraction);
+            if (animation.lat >= minLat && animation.lat <= maxLat
+                    && (paddedLngSpan >= 360
+                    || ((animation.lng - minLng) % 360 + 360) % 360 <= paddedLngSpan)) {
+                animation.marker.setPosition(MapKit.newLatLng(animation.lat, animation.lng));
+                if (animation.rotates) {
+                    animation.marker.setRotation(animation.rotation);
+                }
+            }
+        }
+
+        scheduleFrameIfNeeded();
+    }
+
+
+    private void animate(
+            @NonNull Marker marker,
+            @NonNull LatLng position,
+            boolean rotates,
+            float rotation,
+            long durationMillis
+    ) {
+        final Animation animation;
+        final Animation current = mAnimations.get(marker);
+        if (current != null) {
+            // Continue from where the marker is meant to be now, even if it was not moved there.
+            current.interpolate(current.fractionAt(System.nanoTime()));
+            animation = new Animation(marker, current.lat, current.lng, current.rotation,
+                    position, rotates, rotation, durationMillis, mInterpolation);
+        } else {
+            final LatLng start = marker.getPosition();
+            animation = new Animation(marker, start.getLatitude(), start.getLongitude(),
+                    marker.getRotation(), position, rotates, rotation, durationMillis,
+                    mInterpolation);
+        }
+
+        if (durationMillis <= 0) {
+            mAnimations.remove(marker);
+            animation.end();
+        } else {
+            mAnimations.put(marker, animation);
+            scheduleFrameIfNeeded();
+        }
+    }
+
+    private void scheduleFrameIfNeeded() {
+        if (!mFrameScheduled && !mAnimations.isEmpty()) {
+            mFrameScheduled = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+
+    private static final class Animation {
+        final @NonNull Marker marker;
+        final boolean rotates;
+
+        private final @NonNull LatLng mEnd;
+        private final float mEndRotation;
+        private final long mStartNanos;
+        private final long mDurationNanos;
+        private final int mInterpolation;
+
+        private final double mStartLat;
+        private final double mStartLng;
+        private final double mDeltaLat;
+        private final double mDeltaLng;
+        private final float mStartRotation;
+        private final float mDeltaRotation;
+
+        // Unit vectors of the start and end positions, and the angle between them, in radians.
+        private final double[] mStartVector;
+        private final double[] mEndVector;
+        private final double mAngle;
+
+        // The position and rotation as of the last interpolation.
+        double lat;
+        double lng;
+        float rotation;
+
+        Animation(
+                @NonNull Marker marker,
+                double startLat,
+                double startLng,
+                float startRotation,
+                @NonNull LatLng end,
+                boolean rotates,
+                float endRotation,
+                long durationMillis,
+                int interpolation
+        ) {
+            this.marker = marker;
+            this.rotates = rotates;
+            mEnd = end;
+            mEndRotation = rotates ? endRotation : startRotation;
+            mStartNanos = System.nanoTime();
+            mDurationNanos = durationMillis * 1_000_000L;
+            mInterpolation = interpolation;
+
+            mStartLat = startLat;
+            mStartLng = startLng;
+            mDeltaLat = end.getLatitude() - startLat;
+            mDeltaLng = wrap(end.getLongitude() - startLng, 360);
+            mStartRotation = startRotation;
+            mDeltaRotation = (float) wrap(mEndRotation - startRotation, 360);
+
+            mStartVector = toVector(startLat, startLng);
+            mEndVector = toVector(end.getLatitude(), end.getLongitude());
+            final double dot = mStartVector[0] * mEndVector[0]
+                    + mStartVector[1] * mEndVector[1]
+                    + mStartVector[2] * mEndVector[2];
+            mAngle = Math.acos(Math.max(-1, Math.min(1, dot)));
+
+            lat = startLat;
+            lng = startLng;
+            rotation = startRotation;
+        }
+
+        double fractionAt(long timeNanos) {
+            return Math.max(0, (double) (timeNanos - mStartNanos) / mDurationNanos);
+        }
+
+        void interpolate(double fraction) {
+            if (fraction >= 1) {
+                lat = mEnd.getLatitude();
+                lng = mEnd.getLongitude();
+                rotation = mEndRotation;
+                return;
+            }
+
+            // Nearly coincident or antipodal positions have no well defined great circle.
+            if (mInterpolation == INTERPOLATION_GREAT_CIRCLE
+                    && mAngle > 1e-9 && Math.PI - mAngle > 1e-9) {
+                final double sinAngle = Math.sin(mAngle);
+                final double a = Math.sin((1 - fraction) * mAngle) / sinAngle;
+                final double b = Math.sin(fraction * mAngle) / sinAngle;
+                final double x = a * mStartVector[0] + b * mEndVector[0];
+                final double y = a * mStartVector[1] + b * mEndVector[1];
+                final double z = a * mStartVector[2] + b * mEndVector[2];
+                lat = Math.toDegrees(Math.atan2(z, Math.sqrt(x * x + y * y)));
+                lng = Math.toDegrees(Math.atan2(y, x));
+            } else {
+                lat = mStartLat + mDeltaLat * fraction;
+                lng = wrap(mStartLng + mDeltaLng * fraction, 360);
+            }
+            rotation = (float) (mStartRotation + mDeltaRotation * fraction);
+        }
+
+        void end() {
+            interpolate(1);
+            marker.setPosition(mEnd);
+            if (rotates) {
+                marker.setRotation(mEndRotation);
+            }
+        }
+
+        /**
+         * Wraps the given value into [-period / 2, period / 2).
+         */
+        private static double wrap(double value, double period) {
+            final double half = period / 2;
+            return ((value + half) % period + period) % period - half;
+        }
+
+        private static @NonNull double[] toVector(double lat, double lng) {
+            final double phi = Math.toRadians(lat);
+            final double lambda = Math.toRadians(lng);
+            return new double[] {
+                    Math.cos(phi) * Math.cos(lambda),
+                    Math.cos(phi) * Math.sin(lambda),
+                    Math.sin(phi)
+            };
+        }
+    }
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import android.graphics.Point;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+
+/**
+ * An immutable snapshot of the Web Mercator projection of a map, captured from its camera
+ * position, padding and view size, to translate between geographic coordinates and screen
+ * locations in bulk on any thread, without going through the {@link Projection} of the map.
+ * <p>
+ * As with {@link Projection}, screen locations are in screen pixels relative to the top left of
+ * the map. The snapshot follows the bearing of the camera, but not its tilt, so it matches the map
+ * only while the camera is not tilted. It is not updated as the camera moves; capture a new one
+ * for each {@link CameraPosition} of interest.
+ *
+ * @since 2.4.0
+ */
+public final class MercatorProjection {
+
+    /**
+     * The width of the world at zoom level 0, in display pixels, as defined by
+     * {@link CameraPosition.Builder#zoom(float)}.
+     */
+    public static final float DEFAULT_WORLD_SIZE_DP = 256f;
+
+    private final double mCenterX;
+    private final double mCenterY;
+    private final double mWorldSize;
+    private final double mCos;
+    private final double mSin;
+    private final float mAnchorX;
+    private final float mAnchorY;
+    private final int mWidth;
+    private final int mHeight;
+
+    private MercatorProjection(@NonNull Builder builder) {
+        final LatLng target = builder.mCamera.getTarget();
+        mCenterX = LatLngMath.mercatorX(target.getLongitude());
+        mCenterY = LatLngMath.mercatorY(target.getLatitude());
+        mWorldSize = builder.mWorldSizeDp * builder.mDensity
+                * Math.pow(2, builder.mCamera.getZoom());
+
+        final double bearing = Math.toRadians(builder.mCamera.getBearing());
+        mCos = Math.cos(bearing);
+        mSin = Math.sin(bearing);
+
+        mWidth = builder.mWidth;
+        mHeight = builder.mHeight;
+        mAnchorX = builder.mPaddingLeft
+                + (mWidth - builder.mPaddingLeft - builder.mPaddingRight) / 2f;
+        mAnchorY = builder.mPaddingTop
+                + (mHeight - builder.mPaddingTop - builder.mPaddingBottom) / 2f;
+    }
+
+    /**
+     * Returns the width of the map view this projection was captured for, in screen pixels.
+     */
+    public int getWidth() {
+        return mWidth;
+    }
+
+    /**
+     * Returns the height of the map view this projection was captured for, in screen pixels.
+     */
+    public int getHeight() {
+        return mHeight;
+    }
+
+    /**
+     * Returns the width of the whole world at the zoom level of this projection, in screen pixels.
+     */
+    public double getWorldSize() {
+        return mWorldSize;
+    }
+
+    /**
+     * Translates packed points, as in {@code [lat0, lng0, lat1, lng1, ...]}, to screen locations,
+     * as in {@code [x0, y0, x1, y1, ...]}. Of the copies of the world side by side, each point is
+     * placed on the one nearest to the camera target.
+     *
+     * @param latLngs The packed points to translate.
+     * @param out     The array to store the screen locations in, at least as long as
+     *                {@code latLngs}.
+     */
+    public void toScreenLocations(@NonNull double[] latLngs, @NonNull float[] out) {
+        toScreenLocations(latLngs, 0, out, 0, latLngs.length / 2);
+    }
+
+    /**
+     * Translates {@code count} packed points, starting at {@code latLngsOffset}, to screen
+     * locations stored from {@code outOffset}.
+     *
+     * @see #toScreenLocations(double[], float[])
+     */
+    public void toScreenLocations(
+            @NonNull double[] latLngs, int latLngsOffset,
+            @NonNull float[] out, int outOffset,
+            int count
+    ) {
+        final double halfWorld = mWorldSize / 2;
+        for (int i = 0; i < count; i++) {
+            final int in = latLngsOffset + i * 2;
+            double dx = (LatLngMath.mercatorX(latLngs[in + 1]) - mCenterX) * mWorldSize;
+            final double dy = (LatLngMath.mercatorY(latLngs[in]) - mCenterY) * mWorldSize;
+            if (dx < -halfWorld) {
+                dx += mWorldSize;
+            } else if (dx >= halfWorld) {
+                dx -= mWorldSize;
+            }
+
+            // Rotates counterclockwise by the bearing, with y pointing down.
+            final int o = outOffset + i * 2;
+            out[o] = (float) (mAnchorX + dx * mCos + dy * mSin);
+            out[o + 1] = (float) (mAnchorY - dx * mSin + dy * mCos);
+        }
+    }
+
+    /**
+     * Translates screen locations, as in {@code [x0, y0, x1, y1, ...]}, to packed points, as in
+     * {@code [lat0, lng0, lat1, lng1, ...]}. Latitudes beyond the edges of the Web Mercator world
+     * are clamped to them.
+     *
+     * @param points The screen locations to translate.
+     * @param out    The array to store the packed points in, at least as long as {@code points}.
+     */
+    public void fromScreenLocations(@NonNull float[] points, @NonNull double[] out) {
+        fromScreenLocations(points, 0, out, 0, points.length / 2);
+    }
+
+    /**
+     * Translates {@code count} screen locations, starting at {@code pointsOffset}, to packed
+     * points stored from {@code outOffset}.
+     *
+     * @see #fromScreenLocations(float[], double[])
+     */
+    public void fromScreenLocations(
+            @NonNull float[] points, int pointsOffset,
+            @NonNull double[] out, int outOffset,
+            int count
+    ) {
+        for (int i = 0; i < count; i++) {
+            final int in = pointsOffset + i * 2;
+            final double sx = points[in] - mAnchorX;
+            final double sy = points[in + 1] - mAnchorY;
+
+            // Rotates clockwise by the bearing, with y pointing down.
+            final double wx = mCenterX + (sx * mCos - sy * mSin) / mWorldSize;
+            final double wy = mCenterY + (sx * mSin + sy * mCos) / mWorldSize;
+
+            final int o = outOffset + i * 2;
+            out[o] = LatLngMath.mercatorLatitude(Math.max(0, Math.min(1, wy)));
+            out[o + 1] = LatLngMath.wrapLongitude(LatLngMath.mercatorLongitude(wx));
+        }
+    }
+
+    /**
+     * Measures how far this projection is from the given one of the map, as the largest distance
+     * between the screen locations of the given points translated by each, in screen pixels.
+     * <p>
+     * This is meant to check a projection captured for the current camera position of a map
+     * against its backend, and goes through the {@link Projection} for every point.
+     *
+     * @param reference The projection of the map.
+     * @param latLngs   The packed points to compare the screen locations of.
+     * @return The largest distance, or {@code 0} if there are no points.
+     */
+    @UiThread
+    public float measureError(@NonNull Projection reference, @NonNull double[] latLngs) {
+        final int count = latLngs.length / 2;
+        final float[] points = new float[count * 2];
+        toScreenLocations(latLngs, 0, points, 0, count);
+
+        float error = 0;
+        for (int i = 0; i < count; i++) {
+            final Point expected = reference.toScreenLocation(
+                    MapKit.newLatLng(latLngs[i * 2], latLngs[i * 2 + 1]));
+            error = Math.max(error, (float) Math.hypot(
+                    points[i * 2] - expected.x, points[i * 2 + 1] - expected.y));
+        }
+        return error;
+    }
+
+    @Override public @NonNull String toString() {
+        return "MercatorProjection(centerX=" + mCenterX + ", centerY=" + mCenterY
+                + ", worldSize=" + mWorldSize + ", width=" + mWidth + ", height=" + mHeight + ')';
+    }
+
+
+    /**
+     * Builds a {@link MercatorProjection} for a map.
+     */
+    public static final class Builder {
+        private final CameraPosition mCamera;
+        private final int mWidth;
+        private final int mHeight;
+        private final float mDensity;
+
+        private int mPaddingLeft;
+        private int mPaddingTop;
+        private int mPaddingRight;
+        private int mPaddingBottom;
+        private float mWorldSizeDp = DEFAULT_WORLD_SIZE_DP;
+
+        /**
+         * Creates a builder for the projection of a map.
+         *
+         * @param camera  The camera position of the map, from {@link MapClient#getCameraPosition}.
+         * @param width   The width of the map view, in screen pixels.
+         * @param height  The height of the map view, in screen pixels.
+         * @param density The logical density of the display, as in
+         *                {@link android.util.DisplayMetrics#density}.
+         */
+        public Builder(@NonNull CameraPosition camera, int width, int height, float density) {
+            mCamera = camera;
+            mWidth = width;
+            mHeight = height;
+            mDensity = density;
+        }
+
+        /**
+         * Sets the padding of the map, as set with {@link MapClient#setPadding}. The camera
+         * target is at the center of the area inside the padding.
+         */
+        public @NonNull Builder padding(int left, int top, int right, int bottom) {
+            mPaddingLeft = left;
+            mPaddingTop = top;
+            mPaddingRight = right;
+            mPaddingBottom = bottom;
+            return this;
+        }
+
+        /**
+         * Sets the width of the world at zoom level 0, in display pixels, for backends whose zoom
+         * levels are not those of {@link CameraPosition.Builder#zoom(float)}.
+         * Defaults to {@link #DEFAULT_WORLD_SIZE_DP}.
+         */
+        public @NonNull Builder worldSize(float worldSizeDp) {
+            if (worldSizeDp <= 0) {
+                throw new IllegalArgumentException("worldSizeDp <= 0");
+            }
+            mWorldSizeDp = worldSizeDp;
+            return this;
+        }
+
+        public @NonNull MercatorProjection build() {
+            return new MercatorProjection(this);
+        }
+    }
+
+}
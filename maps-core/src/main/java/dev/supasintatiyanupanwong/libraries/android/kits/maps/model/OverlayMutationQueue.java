@@ -0,0 +1,454 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import androidx.annotation.AnyThread;
+import androidx.annotation.ColorInt;
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A queue of changes to the properties of overlays, which are applied on the main thread within a
+ * time budget per frame, e.g. to update thousands of markers at once without dropping frames.
+ * <p>
+ * Changes can be posted from any thread. A change to a property of an overlay which is still
+ * pending replaces the previous one in place, so that only the latest value is applied, and only
+ * once. The pending changes are applied in the order they were first posted, from a
+ * {@link Choreographer} frame callback which only runs while there are changes pending.
+ * <p>
+ * Overlays are identified by instance, as returned by {@link MapClient}. Before removing an
+ * overlay from the map, its pending changes should be dropped with {@link #cancel(Object)}.
+ *
+ * @since 2.4.0
+ */
+@AnyThread
+public class OverlayMutationQueue {
+
+    /**
+     * The default time budget per frame for applying changes, in nanoseconds.
+     */
+    public static final long DEFAULT_FRAME_BUDGET_NANOS = 4_000_000L;
+
+    private static final String POSITION = "position";
+    private static final String ICON = "icon";
+    private static final String ROTATION = "rotation";
+    private static final String ALPHA = "alpha";
+    private static final String Z_INDEX = "zIndex";
+    private static final String VISIBLE = "visible";
+    private static final String CENTER = "center";
+    private static final String RADIUS = "radius";
+    private static final String FILL_COLOR = "fillColor";
+    private static final String STROKE_COLOR = "strokeColor";
+    private static final String COLOR = "color";
+    private static final String POINTS = "points";
+
+    private final @NonNull Object mLock = new Object();
+    private final @NonNull LinkedHashMap<Key, Mutation> mMutations = new LinkedHashMap<>();
+    private final @NonNull Handler mHandler = new Handler(Looper.getMainLooper());
+
+    private final @NonNull Runnable mScheduleFrame = new Runnable() {
+        @Override public void run() {
+            Choreographer.getInstance().postFrameCallback(mFrameCallback);
+        }
+    };
+
+    private final @NonNull Choreographer.FrameCallback mFrameCallback =
+            new Choreographer.FrameCallback() {
+                @Override public void doFrame(long frameTimeNanos) {
+                    drain();
+                }
+            };
+
+    private volatile long mFrameBudgetNanos = DEFAULT_FRAME_BUDGET_NANOS;
+
+    // Guarded by mLock.
+    private boolean mScheduled = false;
+    private long mPostedCount = 0;
+    private long mCoalescedCount = 0;
+    private long mAppliedCount = 0;
+    private long mTotalLatencyNanos = 0;
+    private long mMaxLatencyNanos = 0;
+    private int mMaxDepth = 0;
+    private long mLastFrameNanos = 0;
+
+    /**
+     * Sets the time spent applying changes per frame, in nanoseconds. At least one change is
+     * applied per frame. The default is {@link #DEFAULT_FRAME_BUDGET_NANOS}.
+     */
+    public void setFrameBudgetNanos(@IntRange(from = 0) long frameBudgetNanos) {
+        mFrameBudgetNanos = frameBudgetNanos;
+    }
+
+    public long getFrameBudgetNanos() {
+        return mFrameBudgetNanos;
+    }
+
+    public void setPosition(@NonNull Marker marker, @NonNull LatLng latLng) {
+        post(marker, POSITION, () -> marker.setPosition(latLng));
+    }
+
+    public void setIcon(@NonNull Marker marker, @Nullable BitmapDescriptor icon) {
+        post(marker, ICON, () -> marker.setIcon(icon));
+    }
+
+    public void setRotation(@NonNull Marker marker, float rotation) {
+        post(marker, ROTATION, () -> marker.setRotation(rotation));
+    }
+
+    public void setAlpha(@NonNull Marker marker, float alpha) {
+        post(marker, ALPHA, () -> marker.setAlpha(alpha));
+    }
+
+    public void setZIndex(@NonNull Marker marker, float zIndex) {
+        post(marker, Z_INDEX, () -> marker.setZIndex(zIndex));
+    }
+
+    public void setVisible(@NonNull Marker marker, boolean visible) {
+        post(marker, VISIBLE, () -> marker.setVisible(visible));
+    }
+
+    public void setCenter(@NonNull Circle circle, @NonNull LatLng center) {
+        post(circle, CENTER, () -> circle.setCenter(center));
+    }
+
+    public void setRadius(@NonNull Circle circle, double radius) {
+        post(circle, RADIUS, () -> circle.setRadius(radius));
+    }
+
+    public void setFillColor(@NonNull Circle circle, @ColorInt int color) {
+        post(circle, FILL_COLOR, () -> circle.setFillColor(color));
+    }
+
+    public void setStrokeColor(@NonNull Circle circle, @ColorInt int color) {
+        post(circle, STROKE_COLOR, () -> circle.setStrokeColor(color));
+    }
+
+    public void setVisible(@NonNull Circle circle, boolean visible) {
+        post(circle, VISIBLE, () -> circle.setVisible(visible));
+    }
+
+    public void setPackedPoints(@NonNull Polyline polyline, @NonNull double[] latLngs) {
+        post(polyline, POINTS, () -> polyline.setPackedPoints(latLngs));
+    }
+
+    public void setColor(@NonNull Polyline polyline, @ColorInt int color) {
+        post(polyline, COLOR, () -> polyline.setColor(color));
+    }
+
+    public void setVisible(@NonNull Polyline polyline, boolean visible) {
+        post(polyline, VISIBLE, () -> polyline.setVisible(visible));
+    }
+
+    public void setPackedPoints(@NonNull Polygon polygon, @NonNull double[] latLngs) {
+        post(polygon, POINTS, () -> polygon.setPackedPoints(latLngs));
+    }
+
+    public void setFillColor(@NonNull Polygon polygon, @ColorInt int color) {
+        post(polygon, FILL_COLOR, () -> polygon.setFillColor(color));
+    }
+
+    public void setVisible(@NonNull Polygon polygon, boolean visible) {
+        post(polygon, VISIBLE, () -> polygon.setVisible(visible));
+    }
+
+    /**
+     * Posts a change to a property of an overlay, replacing the pending change to the same
+     * property of the same overlay, if any.
+     *
+     * @param overlay  The overlay, compared by instance.
+     * @param property The property, compared with {@link Object#equals(Object)}.
+     * @param mutation The change, run on the main thread.
+     */
+    public void post(
+            @NonNull Object overlay,
+            @NonNull Object property,
+            @NonNull Runnable mutation
+    ) {
+        final Key key = new Key(overlay, property);
+        final boolean schedule;
+        synchronized (mLock) {
+            mPostedCount++;
+            final @Nullable Mutation pending = mMutations.get(key);
+            if (pending != null) {
+                // Keeps the position and the time of the first change, for the latency.
+                pending.mRunnable = mutation;
+                mCoalescedCount++;
+            } else {
+                mMutations.put(key, new Mutation(mutation, System.nanoTime()));
+                mMaxDepth = Math.max(mMaxDepth, mMutations.size());
+            }
+            schedule = !mScheduled;
+            mScheduled = true;
+        }
+        if (schedule) {
+            mHandler.post(mScheduleFrame);
+        }
+    }
+
+    /**
+     * Drops the pending changes to an overlay.
+     *
+     * @param overlay The overlay, compared by instance.
+     */
+    public void cancel(@NonNull Object overlay) {
+        synchronized (mLock) {
+            final Iterator<Key> iterator = mMutations.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().mOverlay == overlay) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops all the pending changes.
+     */
+    public void cancelAll() {
+        synchronized (mLock) {
+            mMutations.clear();
+        }
+    }
+
+    /**
+     * Gets the number of pending changes.
+     */
+    public int getQueueDepth() {
+        synchronized (mLock) {
+            return mMutations.size();
+        }
+    }
+
+    /**
+     * Gets a snapshot of the metrics of the queue since it was created or last reset.
+     */
+    public @NonNull Metrics getMetrics() {
+        synchronized (mLock) {
+            return new Metrics(
+                    mMutations.size(),
+                    mMaxDepth,
+                    mPostedCount,
+                    mCoalescedCount,
+                    mAppliedCount,
+                    mAppliedCount == 0 ? 0 : mTotalLatencyNanos / mAppliedCount,
+                    mMaxLatencyNanos,
+                    mLastFrameNanos
+            );
+        }
+    }
+
+    /**
+     * Resets the metrics of the queue.
+     */
+    public void resetMetrics() {
+        synchronized (mLock) {
+            mMaxDepth = mMutations.size();
+            mPostedCount = 0;
+            mCoalescedCount = 0;
+            mAppliedCount = 0;
+            mTotalLatencyNanos = 0;
+            mMaxLatencyNanos = 0;
+            mLastFrameNanos = 0;
+        }
+    }
+
+
+    private void drain() {
+        final long start = System.nanoTime();
+        final long deadline = start + mFrameBudgetNanos;
+        long now;
+        do {
+            final Mutation mutation;
+            synchronized (mLock) {
+                final Iterator<Map.Entry<Key, Mutation>> iterator =
+                        mMutations.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                mutation = iterator.next().getValue();
+                iterator.remove();
+            }
+
+            mutation.mRunnable.run();
+            now = System.nanoTime();
+
+            synchronized (mLock) {
+                final long latency = now - mutation.mPostedNanos;
+                mAppliedCount++;
+                mTotalLatencyNanos += latency;
+                mMaxLatencyNanos = Math.max(mMaxLatencyNanos, latency);
+            }
+        } while (now < deadline);
+
+        synchronized (mLock) {
+            mLastFrameNanos = System.nanoTime() - start;
+            if (mMutations.isEmpty()) {
+                mScheduled = false;
+                return;
+            }
+        }
+        Choreographer.getInstance().postFrameCallback(mFrameCallback);
+    }
+
+
+    /**
+     * A snapshot of the metrics of an {@link OverlayMutationQueue}.
+     */
+    public static final class Metrics {
+        private final int mQueueDepth;
+        private final int mMaxQueueDepth;
+        private final long mPostedCount;
+        private final long mCoalescedCount;
+        private final long mAppliedCount;
+        private final long mAverageLatencyNanos;
+        private final long mMaxLatencyNanos;
+        private final long mLastFrameNanos;
+
+        Metrics(
+                int queueDepth,
+                int maxQueueDepth,
+                long postedCount,
+                long coalescedCount,
+                long appliedCount,
+                long averageLatencyNanos,
+                long maxLatencyNanos,
+                long lastFrameNanos
+        ) {
+            mQueueDepth = queueDepth;
+            mMaxQueueDepth = maxQueueDepth;
+            mPostedCount = postedCount;
+            mCoalescedCount = coalescedCount;
+            mAppliedCount = appliedCount;
+            mAverageLatencyNanos = averageLatencyNanos;
+            mMaxLatencyNanos = maxLatencyNanos;
+            mLastFrameNanos = lastFrameNanos;
+        }
+
+        /**
+         * Gets the number of pending changes.
+         */
+        public int getQueueDepth() {
+            return mQueueDepth;
+        }
+
+        /**
+         * Gets the largest number of pending changes at once.
+         */
+        public int getMaxQueueDepth() {
+            return mMaxQueueDepth;
+        }
+
+        /**
+         * Gets the number of changes posted, including the coalesced ones.
+         */
+        public long getPostedCount() {
+            return mPostedCount;
+        }
+
+        /**
+         * Gets the number of changes replaced by a later change before being applied.
+         */
+        public long getCoalescedCount() {
+            return mCoalescedCount;
+        }
+
+        /**
+         * Gets the number of changes applied.
+         */
+        public long getAppliedCount() {
+            return mAppliedCount;
+        }
+
+        /**
+         * Gets the average time from the first post of a change to its application, in
+         * nanoseconds.
+         */
+        public long getAverageLatencyNanos() {
+            return mAverageLatencyNanos;
+        }
+
+        /**
+         * Gets the longest time from the first post of a change to its application, in
+         * nanoseconds.
+         */
+        public long getMaxLatencyNanos() {
+            return mMaxLatencyNanos;
+        }
+
+        /**
+         * Gets the time spent applying changes in the last frame, in nanoseconds.
+         */
+        public long getLastFrameNanos() {
+            return mLastFrameNanos;
+        }
+
+        @Override public @NonNull String toString() {
+            return "Metrics{"
+                    + "queueDepth=" + mQueueDepth
+                    + ", maxQueueDepth=" + mMaxQueueDepth
+                    + ", postedCount=" + mPostedCount
+                    + ", coalescedCount=" + mCoalescedCount
+                    + ", appliedCount=" + mAppliedCount
+                    + ", averageLatencyNanos=" + mAverageLatencyNanos
+                    + ", maxLatencyNanos=" + mMaxLatencyNanos
+                    + ", lastFrameNanos=" + mLastFrameNanos
+                    + '}';
+        }
+    }
+
+    private static final class Key {
+        final @NonNull Object mOverlay;
+        final @NonNull Object mProperty;
+
+        Key(@NonNull Object overlay, @NonNull Object property) {
+            mOverlay = overlay;
+            mProperty = property;
+        }
+
+        @Override public boolean equals(@Nullable Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return mOverlay == other.mOverlay && mProperty.equals(other.mProperty);
+        }
+
+        @Override public int hashCode() {
+            return System.identityHashCode(mOverlay) * 31 + mProperty.hashCode();
+        }
+    }
+
+    private static final class Mutation {
+        @NonNull Runnable mRunnable;
+        final long mPostedNanos;
+
+        Mutation(@NonNull Runnable runnable, long postedNanos) {
+            mRunnable = runnable;
+            mPostedNanos = postedNanos;
+        }
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A set of overlay additions, updates and removals to be applied to a {@link MapClient} at once.
+ * <p>
+ * A transaction may be built on any thread, e.g. while diffing a data set in the background, and
+ * then applied on the UI thread. Removals are applied first, then updates, then additions, each
+ * using the batch methods of the {@link MapClient}. Since all changes are applied in a single
+ * pass on the UI thread, they appear on the map in the same frame.
+ * <p>
+ * This class is not thread-safe, and a transaction may only be applied once.
+ *
+ * @since 2.4.0
+ */
+public final class OverlayTransaction {
+
+    private final List<Object> mRemovals = new ArrayList<>();
+    private final List<Runnable> mUpdates = new ArrayList<>();
+    private final List<Marker.Options> mMarkers = new ArrayList<>();
+    private final List<Polyline.Options> mPolylines = new ArrayList<>();
+    private final List<Polygon.Options> mPolygons = new ArrayList<>();
+    private final List<Circle.Options> mCircles = new ArrayList<>();
+
+    private boolean mApplied = false;
+
+    public @NonNull OverlayTransaction addMarker(@NonNull Marker.Options options) {
+        mMarkers.add(options);
+        return this;
+    }
+
+    public @NonNull OverlayTransaction addPolyline(@NonNull Polyline.Options options) {
+        mPolylines.add(options);
+        return this;
+    }
+
+    public @NonNull OverlayTransaction addPolygon(@NonNull Polygon.Options options) {
+        mPolygons.add(options);
+        return this;
+    }
+
+    public @NonNull OverlayTransaction addCircle(@NonNull Circle.Options options) {
+        mCircles.add(options);
+        return this;
+    }
+
+    /**
+     * Adds an update of an existing overlay, to be run on the UI thread when the transaction is
+     * applied.
+     *
+     * @param overlay The overlay to be updated, e.g. a {@link Marker}.
+     * @param updater The update to be made to the overlay.
+     */
+    public <O> @NonNull OverlayTransaction update(
+            final @NonNull O overlay,
+            final @NonNull Updater<? super O> updater
+    ) {
+        mUpdates.add(() -> updater.update(overlay));
+        return this;
+    }
+
+    /**
+     * Adds a removal of an existing overlay.
+     *
+     * @param overlay The overlay to be removed. See {@link MapClient#removeAll} for the supported
+     *                types.
+     */
+    public @NonNull OverlayTransaction remove(@NonNull Object overlay) {
+        mRemovals.add(overlay);
+        return this;
+    }
+
+    /**
+     * Returns whether this transaction has no changes.
+     */
+    public boolean isEmpty() {
+        return mRemovals.isEmpty()
+                && mUpdates.isEmpty()
+                && mMarkers.isEmpty()
+                && mPolylines.isEmpty()
+                && mPolygons.isEmpty()
+                && mCircles.isEmpty();
+    }
+
+    /**
+     * Applies this transaction to the given map.
+     *
+     * @param map The map to apply this transaction to.
+     * @return The overlays added by this transaction.
+     * @throws IllegalStateException if this transaction has already been applied.
+     */
+    @UiThread
+    public @NonNull Result apply(@NonNull MapClient map) {
+        if (mApplied) {
+            throw new IllegalStateException("Transaction has already been applied");
+        }
+        mApplied = true;
+
+        if (!mRemovals.isEmpty()) {
+            map.removeAll(mRemovals);
+        }
+        for (Runnable update : mUpdates) {
+            update.run();
+        }
+        return new Result(
+                mMarkers.isEmpty()
+                        ? Collections.<Marker>emptyList()
+                        : map.addMarkers(mMarkers),
+                mPolylines.isEmpty()
+                        ? Collections.<Polyline>emptyList()
+                        : map.addPolylines(mPolylines),
+                mPolygons.isEmpty()
+                        ? Collections.<Polygon>emptyList()
+                        : map.addPolygons(mPolygons),
+                mCircles.isEmpty()
+                        ? Collections.<Circle>emptyList()
+                        : map.addCircles(mCircles)
+        );
+    }
+
+
+    /**
+     * An update of an existing overlay.
+     *
+     * @param <O> The type of the overlay.
+     */
+    public interface Updater<O> {
+        @UiThread
+        void update(@NonNull O overlay);
+    }
+
+    /**
+     * The overlays added by an {@link OverlayTransaction}, in the order they were added to the
+     * transaction. An element might be {@code null} if there's an error adding the corresponding
+     * overlay.
+     */
+    public static final class Result {
+        private final @NonNull List<Marker> mMarkers;
+        private final @NonNull List<Polyline> mPolylines;
+        private final @NonNull List<Polygon> mPolygons;
+        private final @NonNull List<Circle> mCircles;
+
+        Result(
+                @NonNull List<Marker> markers,
+                @NonNull List<Polyline> polylines,
+                @NonNull List<Polygon> polygons,
+                @NonNull List<Circle> circles
+        ) {
+            mMarkers = markers;
+            mPolylines = polylines;
+            mPolygons = polygons;
+            mCircles = circles;
+        }
+
+        public @NonNull List<Marker> getMarkers() {
+            return mMarkers;
+        }
+
+        public @NonNull List<Polyline> getPolylines() {
+            return mPolylines;
+        }
+
+        public @NonNull List<Polygon> getPolygons() {
+            return mPolygons;
+        }
+
+        public @NonNull List<Circle> getCircles() {
+            return mCircles;
+        }
+    }
+
+}
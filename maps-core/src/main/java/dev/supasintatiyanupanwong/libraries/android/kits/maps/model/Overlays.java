@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.UiThread;
+
+import java.util.Collection;
+
+/**
+ * Removes overlays of any kind, for the backends whose map SDK has no bulk removal.
+ */
+@RestrictTo(LIBRARY_GROUP)
+@UiThread
+public final class Overlays {
+
+    private Overlays() {} // No instances!
+
+    /**
+     * Removes the given overlays one by one, after checking that every one of them is supported,
+     * so that either all of them are removed or none is.
+     *
+     * @see MapClient#removeAll
+     */
+    public static void removeAll(@NonNull Collection<?> overlays) {
+        for (Object overlay : overlays) {
+            if (overlay != null && !isSupported(overlay)) {
+                throw new IllegalArgumentException("Unsupported overlay: " + overlay);
+            }
+        }
+
+        for (Object overlay : overlays) {
+            remove(overlay);
+        }
+    }
+
+    private static boolean isSupported(@NonNull Object overlay) {
+        return overlay instanceof Marker
+                || overlay instanceof Polyline
+                || overlay instanceof Polygon
+                || overlay instanceof Circle
+                || overlay instanceof GroundOverlay
+                || overlay instanceof TileOverlay;
+    }
+
+    private static void remove(@Nullable Object overlay) {
+        if (overlay instanceof Marker) {
+            ((Marker) overlay).remove();
+        } else if (overlay instanceof Polyline) {
+            ((Polyline) overlay).remove();
+        } else if (overlay instanceof Polygon) {
+            ((Polygon) overlay).remove();
+        } else if (overlay instanceof Circle) {
+            ((Circle) overlay).remove();
+        } else if (overlay instanceof GroundOverlay) {
+            ((GroundOverlay) overlay).remove();
+        } else if (overlay instanceof TileOverlay) {
+            ((TileOverlay) overlay).remove();
+        }
+    }
+
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.zip.GZIPInputStream;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+
+/**
+ * A {@link TileProvider} that reads raster tiles from a local
+ * <a href="https://github.com/protomaps/PMTiles">PMTiles</a> version 3 archive, for use without
+ * connectivity.
+ * <p>
+ * The archive is memory-mapped, and its root directory decoded into memory when opened. Leaf
+ * directories are decoded when first needed and cached, so that reading a tile is a lookup in the
+ * decoded directories followed by a single copy of its image out of the mapping.
+ * <p>
+ * Only archives of PNG, JPEG, WebP or AVIF tiles, with no or gzip compression, are supported.
+ * Note that this class requires that all the images have the same dimensions.
+ *
+ * @since 2.4.0
+ */
+public class PMTilesTileProvider implements TileProvider, Closeable {
+
+    private static final int HEADER_LENGTH = 127;
+    private static final int VERSION = 3;
+
+    private static final int COMPRESSION_UNKNOWN = 0;
+    private static final int COMPRESSION_NONE = 1;
+    private static final int COMPRESSION_GZIP = 2;
+
+    private static final int TILE_TYPE_MVT = 1;
+
+    // Leaf directories are nested at most 3 levels deep below the root directory.
+    private static final int MAX_DIRECTORY_DEPTH = 4;
+    private static final int LEAF_CACHE_SIZE = 64;
+
+    // Files larger than a single buffer can address are mapped in several segments.
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    private final int mWidth;
+    private final int mHeight;
+
+    private volatile @Nullable ByteBuffer[] mSegments;
+    private final long mSize;
+
+    private final long mLeafDirectoriesOffset;
+    private final long mTileDataOffset;
+    private final int mInternalCompression;
+    private final int mTileCompression;
+    private final int mMinZoom;
+    private final int mMaxZoom;
+
+    private final @NonNull Directory mRootDirectory;
+    private final @NonNull LruCache<Long, Directory> mLeafDirectories =
+            new LruCache<>(LEAF_CACHE_SIZE);
+
+    /**
+     * Opens a PMTiles archive of 256 by 256 tiles.
+     *
+     * @param file The PMTiles archive.
+     * @throws IOException If the archive cannot be read or is not supported.
+     */
+    public PMTilesTileProvider(@NonNull File file) throws IOException {
+        this(file, 256, 256);
+    }
+
+    /**
+     * Opens a PMTiles archive.
+     *
+     * @param file   The PMTiles archive.
+     * @param width  The width of the images used for tiles.
+     * @param height The height of the images used for tiles.
+     * @throws IOException If the archive cannot be read or is not supported.
+     */
+    public PMTilesTileProvider(@NonNull File file, int width, int height) throws IOException {
+        mWidth = width;
+        mHeight = height;
+
+        // The mapping stays valid once the channel is closed.
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            final FileChannel channel = raf.getChannel();
+            final long size = channel.size();
+            mSize = size;
+            final ByteBuffer[] segments = new ByteBuffer[(int) ((size - 1) / SEGMENT_SIZE) + 1];
+            for (int i = 0; i < segments.length; i++) {
+                final long position = (long) i * SEGMENT_SIZE;
+                segments[i] = channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        position,
+                        Math.min(SEGMENT_SIZE, size - position)
+                );
+            }
+            mSegments = segments;
+        }
+
+        final ByteBuffer header = ByteBuffer.wrap(read(0, HEADER_LENGTH))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        if (header.get(0) != 'P' || header.get(1) != 'M' || header.get(2) != 'T'
+                || header.get(3) != 'i' || header.get(4) != 'l' || header.get(5) != 'e'
+                || header.get(6) != 's') {
+            throw new IOException("Not a PMTiles archive: " + file);
+        }
+        if (header.get(7) != VERSION) {
+            throw new IOException("Unsupported PMTiles version " + header.get(7) + ": " + file);
+        }
+
+        final long rootDirectoryOffset = header.getLong(8);
+        final long rootDirectoryLength = header.getLong(16);
+        mLeafDirectoriesOffset = header.getLong(40);
+        mTileDataOffset = header.getLong(56);
+        mInternalCompression = checkCompression(header.get(97) & 0xFF, file);
+        mTileCompression = checkCompression(header.get(98) & 0xFF, file);
+        if ((header.get(99) & 0xFF) == TILE_TYPE_MVT) {
+            throw new IOException("Vector tiles are not supported: " + file);
+        }
+        mMinZoom = header.get(100) & 0xFF;
+        mMaxZoom = header.get(101) & 0xFF;
+
+        mRootDirectory = readDirectory(rootDirectoryOffset, rootDirectoryLength);
+    }
+
+    /**
+     * @return The minimum zoom level of the tiles in the archive.
+     */
+    public int getMinZoom() {
+        return mMinZoom;
+    }
+
+    /**
+     * @return The maximum zoom level of the tiles in the archive.
+     */
+    public int getMaxZoom() {
+        return mMaxZoom;
+    }
+
+    @Override public @Nullable Tile getTile(int x, int y, int zoom) {
+        if (zoom < mMinZoom || zoom > mMaxZoom) {
+            return NO_TILE;
+        }
+
+        final long tileId = tileId(x, y, zoom);
+        try {
+            Directory directory = mRootDirectory;
+            for (int depth = 0; depth < MAX_DIRECTORY_DEPTH; depth++) {
+                final int index = directory.find(tileId);
+                if (index < 0) {
+                    return NO_TILE;
+                }
+
+                final long offset = directory.offsets[index];
+                final int length = directory.lengths[index];
+                if (directory.runLengths[index] == 0) {
+                    directory = readLeafDirectory(mLeafDirectoriesOffset + offset, length);
+                } else {
+                    final byte[] data = read(mTileDataOffset + offset, length);
+                    return MapKit.newTile(
+                            mWidth,
+                            mHeight,
+                            mTileCompression == COMPRESSION_GZIP ? gunzip(data) : data
+                    );
+                }
+            }
+            return NO_TILE;
+        } catch (IOException | RuntimeException ex) {
+            // The archive is corrupted, or has been closed.
+            return null;
+        }
+    }
+
+    /**
+     * Releases the archive. The mapping itself is released once garbage collected.
+     */
+    @Override public void close() {
+        mSegments = null;
+        mLeafDirectories.evictAll();
+    }
+
+
+    private @NonNull Directory readLeafDirectory(long offset, int length) throws IOException {
+        @Nullable Directory directory = mLeafDirectories.get(offset);
+        if (directory == null) {
+            directory = readDirectory(offset, length);
+            mLeafDirectories.put(offset, directory);
+        }
+        return directory;
+    }
+
+    private @NonNull Directory readDirectory(long offset, long length) throws IOException {
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IOException("Invalid directory length " + length);
+        }
+        byte[] data = read(offset, (int) length);
+        if (mInternalCompression == COMPRESSION_GZIP) {
+            data = gunzip(data);
+        }
+        return Directory.decode(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Copies a range of the archive, which may span several mapped segments.
+     */
+    private @NonNull byte[] read(long offset, int length) throws IOException {
+        final @Nullable ByteBuffer[] segments = mSegments;
+        if (segments == null) {
+            throw new IOException("Closed");
+        }
+        if (offset < 0 || length < 0 || offset + length > mSize) {
+            throw new IOException("Range beyond the end of the archive");
+        }
+
+        final byte[] data = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            final long position = offset + copied;
+            // Duplicated so that concurrent reads do not share a position.
+            final ByteBuffer buffer = segments[(int) (position / SEGMENT_SIZE)].duplicate();
+            buffer.position((int) (position % SEGMENT_SIZE));
+            final int count = Math.min(length - copied, buffer.remaining());
+            buffer.get(data, copied, count);
+            copied += count;
+        }
+        return data;
+    }
+
+
+    private static int checkCompression(int compression, @NonNull File file) throws IOException {
+        if (compression != COMPRESSION_UNKNOWN
+                && compression != COMPRESSION_NONE
+                && compression != COMPRESSION_GZIP) {
+            throw new IOException("Unsupported compression " + compression + ": " + file);
+        }
+        return compression;
+    }
+
+    private static @NonNull byte[] gunzip(@NonNull byte[] data) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return TileStreams.readFully(in, -1);
+        }
+    }
+
+    /**
+     * Gets the ID of a tile: its position along the Hilbert curves of all zoom levels in order.
+     */
+    static long tileId(int x, int y, int zoom) {
+        // Number of tiles of all the lower zoom levels.
+        long id = ((1L << (2 * zoom)) - 1) / 3;
+
+        long tx = x;
+        long ty = y;
+        for (long s = 1L << zoom >> 1; s > 0; s >>= 1) {
+            final long rx = (tx & s) != 0 ? 1 : 0;
+            final long ry = (ty & s) != 0 ? 1 : 0;
+            id += s * s * ((3 * rx) ^ ry);
+            if (ry == 0) {
+                if (rx == 1) {
+                    tx = s - 1 - tx;
+                    ty = s - 1 - ty;
+                }
+                final long t = tx;
+                tx = ty;
+                ty = t;
+            }
+        }
+        return id;
+    }
+
+
+    /**
+     * A decoded directory, with its entries ordered by tile ID.
+     */
+    private static final class Directory {
+        final @NonNull long[] tileIds;
+        final @NonNull long[] offsets;
+        final @NonNull int[] lengths;
+        final @NonNull int[] runLengths;
+
+        private Directory(int size) {
+            tileIds = new long[size];
+            offsets = new long[size];
+            lengths = new int[size];
+            runLengths = new int[size];
+        }
+
+        /**
+         * Finds the entry holding the given tile, or the leaf directory which may hold it.
+         *
+         * @return The index of the entry, or {@code -1} if none.
+         */
+        int find(long tileId) {
+            int low = 0;
+            int high = tileIds.length - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                if (tileIds[mid] <= tileId) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (high < 0) {
+                return -1;
+            }
+
+            final int runLength = runLengths[high];
+            return runLength == 0 || tileId - tileIds[high] < runLength ? high : -1;
+        }
+
+        static @NonNull Directory decode(@NonNull ByteBuffer in) throws IOException {
+            final long size = readVarint(in);
+            if (size < 0 || size > in.remaining()) {
+                throw new IOException("Invalid directory size " + size);
+            }
+
+            final Directory directory = new Directory((int) size);
+            long tileId = 0;
+            for (int i = 0; i < size; i++) {
+                tileId += readVarint(in);
+                directory.tileIds[i] = tileId;
+            }
+            for (int i = 0; i < size; i++) {
+                directory.runLengths[i] = (int) readVarint(in);
+            }
+            for (int i = 0; i < size; i++) {
+                directory.lengths[i] = (int) readVarint(in);
+            }
+            for (int i = 0; i < size; i++) {
+                final long offset = readVarint(in);
+                // Zero means contiguous with the previous entry.
+                directory.offsets[i] = offset == 0 && i > 0
+                        ? directory.offsets[i - 1] + directory.lengths[i - 1]
+                        : offset - 1;
+            }
+            return directory;
+        }
+
+        private static long readVarint(@NonNull ByteBuffer in) throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (!in.hasRemaining()) {
+                    throw new IOException("Truncated directory");
+                }
+                final byte b = in.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+    }
+
+}
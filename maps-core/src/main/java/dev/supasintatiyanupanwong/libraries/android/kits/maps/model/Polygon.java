@@ -82,6 +82,43 @@ public interface Polygon {
      */
     List<List<LatLng>> getHoles();
 
+    /**
+     * Sets the points of this polygon from packed coordinates, where each vertex is stored as a
+     * latitude followed by its longitude, i.e. {@code [lat0, lng0, lat1, lng1, ...]}. This method
+     * will take a copy of the coordinates, so further mutations to {@code latLngs} will have no
+     * effect on this polygon.
+     * <p>
+     * Unlike {@link #setPoints(List)}, this does not require a {@link LatLng} instance per vertex,
+     * which makes it preferable for polygons with a large number of vertices.
+     *
+     * @param latLngs The packed vertices of the polygon.
+     * @throws IllegalArgumentException If the length of {@code latLngs} is odd.
+     * @since 2.4.0
+     */
+    void setPackedPoints(@NonNull double[] latLngs);
+
+    /**
+     * Returns a snapshot of the vertices of this polygon at this time, packed as a latitude
+     * followed by its longitude for each vertex. The array returned is a copy and so changes to
+     * the polygon's vertices will not be reflected by this array, nor will changes to this array
+     * be reflected by the polygon.
+     *
+     * @return A snapshot of the packed vertices of this polygon at this time.
+     * @since 2.4.0
+     */
+    @NonNull double[] getPackedPoints();
+
+    /**
+     * Sets the holes of this polygon from packed coordinates. Each hole is stored as a latitude
+     * followed by its longitude for each vertex. This method will take a copy of the holes, so
+     * further mutations to holes will have no effect on this polygon.
+     *
+     * @param holes A list of holes, where a hole is a packed array of coordinates.
+     * @throws IllegalArgumentException If the length of any hole is odd.
+     * @since 2.4.0
+     */
+    void setPackedHoles(@NonNull List<double[]> holes);
+
     /**
      * Sets the stroke width of this polygon.
      *
@@ -279,6 +316,27 @@ public interface Polygon {
          */
         @NonNull Options addHole(@NonNull Iterable<LatLng> points);
 
+        /**
+         * Adds vertices to the outline of the polygon being built from packed coordinates, where
+         * each vertex is stored as a latitude followed by its longitude, i.e. {@code [lat0, lng0,
+         * lat1, lng1, ...]}.
+         *
+         * @return This {@link Options} object for method chaining.
+         * @throws IllegalArgumentException If the length of {@code latLngs} is odd.
+         * @since 2.4.0
+         */
+        @NonNull Options addPackedPoints(@NonNull double[] latLngs);
+
+        /**
+         * Adds a hole to the polygon being built from packed coordinates, where each vertex is
+         * stored as a latitude followed by its longitude.
+         *
+         * @return This {@link Options} object for method chaining.
+         * @throws IllegalArgumentException If the length of {@code latLngs} is odd.
+         * @since 2.4.0
+         */
+        @NonNull Options addPackedHole(@NonNull double[] latLngs);
+
         /**
          * Specifies the polygon's stroke width, in display pixels. The default width is 10.
          *
@@ -354,6 +412,16 @@ public interface Polygon {
          */
         @NonNull List<LatLng> getPoints();
 
+        /**
+         * Gets the outline set for this {@link Options} object, packed as a latitude followed by
+         * its longitude for each vertex, without wrapping each of them in a {@link LatLng}.
+         *
+         * @return The packed vertices of the outline of the polygon, as in {@code [lat0, lng0,
+         * lat1, lng1, ...]}.
+         * @since 2.4.0
+         */
+        @NonNull double[] getPackedPoints();
+
         /**
          * Gets the holes set for this {@link Options} object.
          *
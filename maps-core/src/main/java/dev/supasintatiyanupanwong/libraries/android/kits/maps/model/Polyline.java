@@ -64,6 +64,32 @@ public interface Polyline {
      */
     List<LatLng> getPoints();
 
+    /**
+     * Sets the points of this polyline from packed coordinates, where each vertex is stored as a
+     * latitude followed by its longitude, i.e. {@code [lat0, lng0, lat1, lng1, ...]}. This method
+     * will take a copy of the coordinates, so further mutations to {@code latLngs} will have no
+     * effect on this polyline.
+     * <p>
+     * Unlike {@link #setPoints(List)}, this does not require a {@link LatLng} instance per vertex,
+     * which makes it preferable for polylines with a large number of vertices.
+     *
+     * @param latLngs The packed vertices of the polyline.
+     * @throws IllegalArgumentException If the length of {@code latLngs} is odd.
+     * @since 2.4.0
+     */
+    void setPackedPoints(@NonNull double[] latLngs);
+
+    /**
+     * Returns a snapshot of the vertices of this polyline at this time, packed as a latitude
+     * followed by its longitude for each vertex. The array returned is a copy and so changes to
+     * the polyline's vertices will not be reflected by this array, nor will changes to this array
+     * be reflected by the polyline.
+     *
+     * @return A snapshot of the packed vertices of this polyline at this time.
+     * @since 2.4.0
+     */
+    @NonNull double[] getPackedPoints();
+
     /**
      * Sets the width of this polyline.
      *
@@ -268,6 +294,17 @@ public interface Polyline {
          */
         @NonNull Options addAll(Iterable<LatLng> points);
 
+        /**
+         * Adds vertices to the end of the polyline being built from packed coordinates, where
+         * each vertex is stored as a latitude followed by its longitude, i.e. {@code [lat0, lng0,
+         * lat1, lng1, ...]}.
+         *
+         * @return This {@link Options} object for method chaining.
+         * @throws IllegalArgumentException If the length of {@code latLngs} is odd.
+         * @since 2.4.0
+         */
+        @NonNull Options addPackedPoints(@NonNull double[] latLngs);
+
         /**
          * Sets the width of the polyline in screen pixels. The default is 10.
          *
@@ -352,6 +389,16 @@ public interface Polyline {
          */
         List<LatLng> getPoints();
 
+        /**
+         * Gets the points set for this {@link Options} object, packed as a latitude followed by
+         * its longitude for each vertex, without wrapping each of them in a {@link LatLng}.
+         *
+         * @return The packed vertices of the polyline, as in {@code [lat0, lng0, lat1, lng1,
+         * ...]}.
+         * @since 2.4.0
+         */
+        @NonNull double[] getPackedPoints();
+
         /**
          * Gets the width set for this {@link Options} object.
          *
@@ -52,6 +52,32 @@ public interface Projection {
      */
     @NonNull Point toScreenLocation(LatLng location);
 
+    /**
+     * Returns the geographic locations that correspond to screen locations, as with
+     * {@link #fromScreenLocation(Point)}, without wrapping each of them in a {@link LatLng}. The
+     * backend may still allocate a native coordinate for each of them.
+     *
+     * @param points The screen locations in screen pixels, as in {@code [x0, y0, x1, y1, ...]}.
+     * @param out    The array to store the geographic locations in, as in
+     *               {@code [lat0, lng0, lat1, lng1, ...]}, at least as long as {@code points}.
+     *               Locations for which the ray does not intersect the ground plane are stored as
+     *               {@link Double#NaN}.
+     * @since 2.4.0
+     */
+    void fromScreenLocations(@NonNull int[] points, @NonNull double[] out);
+
+    /**
+     * Returns the screen locations that correspond to geographical coordinates, as with
+     * {@link #toScreenLocation(LatLng)}, without wrapping each of them in a {@link LatLng}. The
+     * backend may still allocate a native coordinate and a {@link Point} for each of them.
+     *
+     * @param latLngs The geographical coordinates, as in {@code [lat0, lng0, lat1, lng1, ...]}.
+     * @param out     The array to store the screen locations in screen pixels in, as in
+     *                {@code [x0, y0, x1, y1, ...]}, at least as long as {@code latLngs}.
+     * @since 2.4.0
+     */
+    void toScreenLocations(@NonNull double[] latLngs, @NonNull int[] out);
+
     /**
      * Gets a projection of the viewing frustum for converting between screen coordinates and
      * geo-latitude/longitude coordinates.
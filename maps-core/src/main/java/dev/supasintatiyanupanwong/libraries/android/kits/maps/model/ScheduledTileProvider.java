@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link TileProvider} which fetches the tiles of another provider on a bounded number of
+ * threads, nearest to the camera first.
+ * <p>
+ * Map SDKs request tiles from many threads at once and never cancel them. This provider queues
+ * the requests instead, and fetches them on at most a given number of threads in order of their
+ * distance to the camera target. Concurrent requests of the same tile share a single fetch. Once
+ * the camera has moved to another zoom level, queued requests of tiles too far from it are
+ * cancelled without being fetched, and {@code null} is returned for them so that the SDK may
+ * request them again later should they still be needed.
+ * <p>
+ * The camera position must be kept up to date for prioritization and cancellation to work, e.g.:
+ *
+ * <pre>
+ * map.setOnCameraMoveListener(() -&gt; provider.setCameraPosition(map.getCameraPosition()));
+ * </pre>
+ * <p>
+ * To avoid fetching tiles again when they are requested again, wrap a {@link CachingTileProvider}
+ * rather than the other way around.
+ *
+ * @since 2.4.0
+ */
+public class ScheduledTileProvider implements TileProvider {
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 4;
+    private static final int DEFAULT_ZOOM_TOLERANCE = 1;
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static final AtomicInteger sThreadCount = new AtomicInteger();
+
+    private final @NonNull TileProvider mDelegate;
+    private final int mZoomTolerance;
+
+    private final @NonNull PriorityBlockingQueue<Runnable> mQueue = new PriorityBlockingQueue<>();
+    private final @NonNull ThreadPoolExecutor mExecutor;
+    private final @NonNull ConcurrentHashMap<Long, Request> mRequests = new ConcurrentHashMap<>();
+    private final @NonNull AtomicLong mSequence = new AtomicLong();
+
+    // Camera target in normalized world coordinates, and the camera zoom or NaN if unknown.
+    private volatile double mCameraX = .5;
+    private volatile double mCameraY = .5;
+    private volatile float mCameraZoom = Float.NaN;
+
+    /**
+     * Constructs a ScheduledTileProvider fetching on at most 4 threads, and cancelling tiles more
+     * than 1 zoom level away from the camera.
+     *
+     * @param delegate The provider whose tiles are to be fetched.
+     */
+    public ScheduledTileProvider(@NonNull TileProvider delegate) {
+        this(delegate, DEFAULT_MAX_CONCURRENCY, DEFAULT_ZOOM_TOLERANCE);
+    }
+
+    /**
+     * @param delegate The provider whose tiles are to be fetched.
+     * @param maxConcurrency The maximum number of tiles fetched at once.
+     * @param zoomTolerance The number of zoom levels away from the camera beyond which queued
+     *                      tiles are cancelled.
+     */
+    public ScheduledTileProvider(
+            @NonNull TileProvider delegate,
+            @IntRange(from = 1) int maxConcurrency,
+            @IntRange(from = 0) int zoomTolerance
+    ) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        mDelegate = delegate;
+        mZoomTolerance = zoomTolerance;
+
+        mExecutor = new ThreadPoolExecutor(
+                maxConcurrency,
+                maxConcurrency,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                mQueue,
+                runnable -> new Thread(
+                        runnable,
+                        "MapKit-Tiles-" + sThreadCount.incrementAndGet()
+                )
+        );
+        mExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Updates the camera position used to prioritize and cancel requests. Queued requests are
+     * reordered, and those too far from the new zoom level are cancelled.
+     *
+     * @param position The current camera position.
+     */
+    @UiThread
+    public void setCameraPosition(@NonNull CameraPosition position) {
+        final LatLng target = position.getTarget();
+        mCameraX = LatLngMath.mercatorX(target.getLongitude());
+        mCameraY = LatLngMath.mercatorY(target.getLatitude());
+        mCameraZoom = position.getZoom();
+
+        if (mQueue.isEmpty()) {
+            return;
+        }
+
+        final List<Runnable> queued = new ArrayList<>(mQueue.size());
+        mQueue.drainTo(queued);
+        for (Runnable runnable : queued) {
+            final Request request = (Request) runnable;
+            if (isStale(request.zoom)) {
+                request.cancel();
+            } else {
+                request.priority = priorityOf(request.x, request.y, request.zoom);
+                mQueue.offer(request);
+            }
+        }
+    }
+
+    @Override public @Nullable Tile getTile(int x, int y, int zoom) {
+        final Long key = ((long) zoom << 58) | ((long) x << 29) | y;
+
+        Request request = mRequests.get(key);
+        if (request == null) {
+            final Request created = new Request(key, x, y, zoom);
+            request = mRequests.putIfAbsent(key, created);
+            if (request == null) {
+                request = created;
+                request.priority = priorityOf(x, y, zoom);
+                mExecutor.execute(request);
+            }
+        }
+        return request.await();
+    }
+
+
+    private boolean isStale(int zoom) {
+        final float cameraZoom = mCameraZoom;
+        return !Float.isNaN(cameraZoom) && Math.abs(zoom - Math.round(cameraZoom)) > mZoomTolerance;
+    }
+
+    /**
+     * Gets the priority of a tile, lower first, as its distance to the camera target in tiles of
+     * its zoom level, plus a penalty for each zoom level away from the camera.
+     */
+    private double priorityOf(int x, int y, int zoom) {
+        final double scale = 1L << zoom;
+        double dx = Math.abs((x + .5) / scale - mCameraX);
+        dx = Math.min(dx, 1 - dx); // Wrap around the antimeridian.
+        final double dy = (y + .5) / scale - mCameraY;
+        final double distance = Math.sqrt(dx * dx + dy * dy) * scale;
+
+        final float cameraZoom = mCameraZoom;
+        return Float.isNaN(cameraZoom)
+                ? distance
+                : distance + 2 * Math.abs(zoom - Math.round(cameraZoom));
+    }
+
+
+    private final class Request implements Runnable, Comparable<Request> {
+        private static final int STATE_QUEUED = 0;
+        private static final int STATE_RUNNING = 1;
+        private static final int STATE_DONE = 2;
+
+        final @NonNull Long key;
+        final int x;
+        final int y;
+        final int zoom;
+        final long sequence = mSequence.getAndIncrement();
+
+        // Only changed while the request is out of the queue.
+        volatile double priority;
+
+        private int mState = STATE_QUEUED;
+        private @Nullable Tile mResult;
+
+        Request(@NonNull Long key, int x, int y, int zoom) {
+            this.key = key;
+            this.x = x;
+            this.y = y;
+            this.zoom = zoom;
+        }
+
+        @Override public void run() {
+            synchronized (this) {
+                if (mState != STATE_QUEUED) {
+                    return;
+                }
+                mState = STATE_RUNNING;
+            }
+
+            @Nullable Tile result = null;
+            try {
+                if (!isStale(zoom)) {
+                    result = mDelegate.getTile(x, y, zoom);
+                }
+            } finally {
+                complete(result);
+            }
+        }
+
+        void cancel() {
+            synchronized (this) {
+                if (mState != STATE_QUEUED) {
+                    return;
+                }
+            }
+            complete(null);
+        }
+
+        synchronized @Nullable Tile await() {
+            boolean interrupted = false;
+            while (mState != STATE_DONE) {
+                try {
+                    wait();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return mResult;
+        }
+
+        private void complete(@Nullable Tile result) {
+            mRequests.remove(key, this);
+            synchronized (this) {
+                mResult = result;
+                mState = STATE_DONE;
+                notifyAll();
+            }
+        }
+
+        @Override public int compareTo(@NonNull Request other) {
+            final int byPriority = Double.compare(priority, other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+}
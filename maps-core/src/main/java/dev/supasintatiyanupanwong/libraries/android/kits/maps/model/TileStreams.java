@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import androidx.annotation.NonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads tile images from streams with as few allocations and copies as possible.
+ */
+final class TileStreams {
+
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+    // Buffers grown beyond this size are not retained, to bound the memory held per thread.
+    private static final int MAX_RETAINED_BUFFER_SIZE = 512 * 1024;
+
+    private static final ThreadLocal<byte[]> sBuffers = new ThreadLocal<>();
+
+    private TileStreams() {}
+
+    /**
+     * Reads the given stream to its end.
+     *
+     * @param contentLength The length of the stream if known, in which case the data is read
+     *                      directly into an array of that length; or a negative value, in which
+     *                      case the data is read into a buffer reused by the calling thread and
+     *                      then copied once.
+     */
+    static @NonNull byte[] readFully(
+            @NonNull InputStream stream,
+            int contentLength
+    ) throws IOException {
+        if (contentLength >= 0) {
+            final byte[] data = new byte[contentLength];
+            int count = 0;
+            while (count < contentLength) {
+                final int read = stream.read(data, count, contentLength - count);
+                if (read == -1) {
+                    throw new EOFException(
+                            "Expected " + contentLength + " bytes but received " + count
+                    );
+                }
+                count += read;
+            }
+            return data;
+        }
+
+        byte[] buffer = sBuffers.get();
+        if (buffer == null) {
+            buffer = new byte[INITIAL_BUFFER_SIZE];
+        }
+
+        int count = 0;
+        int read;
+        while ((read = stream.read(buffer, count, buffer.length - count)) != -1) {
+            count += read;
+            if (count == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+
+        if (buffer.length <= MAX_RETAINED_BUFFER_SIZE) {
+            sBuffers.set(buffer);
+        }
+        return Arrays.copyOf(buffer, count);
+    }
+
+}
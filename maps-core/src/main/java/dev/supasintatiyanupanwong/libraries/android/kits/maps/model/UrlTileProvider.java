@@ -18,13 +18,17 @@ package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
 
 import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
 
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
+import java.net.URLConnection;
+import java.util.zip.GZIPInputStream;
 
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
 
@@ -33,6 +37,10 @@ import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
  * to an image to be provided.
  * <p>
  * Note that this class requires that all the images have the same dimensions.
+ * <p>
+ * Tiles are downloaded with gzip compression where the server supports it, into a buffer presized
+ * from the {@code Content-Length} of the response when known, or else a buffer reused by the
+ * calling thread, so that each tile costs a single allocation of its data.
  *
  * @since 1.0.0
  */
@@ -41,6 +49,9 @@ public abstract class UrlTileProvider implements TileProvider {
     private final int mWidth;
     private final int mHeight;
 
+    private volatile int mConnectTimeoutMillis = 0;
+    private volatile int mReadTimeoutMillis = 0;
+
     /**
      * Constructs a UrlTileProvider.
      *
@@ -69,24 +80,110 @@ public abstract class UrlTileProvider implements TileProvider {
     public abstract @Nullable URL getTileUrl(int x, int y, int zoom);
 
 
+    /**
+     * Sets the timeout for connecting to the URL of a tile. The default of {@code 0} uses the
+     * platform default.
+     *
+     * @param timeoutMillis The timeout in milliseconds, or {@code 0} to use the platform default.
+     * @since 2.4.0
+     */
+    public final void setConnectTimeout(@IntRange(from = 0) int timeoutMillis) {
+        mConnectTimeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * @since 2.4.0
+     */
+    public final int getConnectTimeout() {
+        return mConnectTimeoutMillis;
+    }
+
+    /**
+     * Sets the timeout for reading the image of a tile. The default of {@code 0} uses the
+     * platform default.
+     *
+     * @param timeoutMillis The timeout in milliseconds, or {@code 0} to use the platform default.
+     * @since 2.4.0
+     */
+    public final void setReadTimeout(@IntRange(from = 0) int timeoutMillis) {
+        mReadTimeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * @since 2.4.0
+     */
+    public final int getReadTimeout() {
+        return mReadTimeoutMillis;
+    }
+
+
     @Override public final @Nullable Tile getTile(int x, int y, int zoom) {
         final URL url = getTileUrl(x, y, zoom);
         if (url == null) {
             return NO_TILE;
         }
 
-        try (InputStream stream = url.openStream()) {
-            final ByteArrayOutputStream arr = new ByteArrayOutputStream();
-            final byte[] buffer = new byte[4096];
+        try {
+            final @Nullable byte[] data = download(url, null, 0).data;
+            return data == null ? null : MapKit.newTile(mWidth, mHeight, data);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
 
-            int read;
-            while ((read = stream.read(buffer)) != -1) {
-                arr.write(buffer, 0, read);
+    /**
+     * Downloads the image at the given URL, as a conditional request if validators are given.
+     *
+     * @param etag The entity tag of the cached image, if any.
+     * @param ifModifiedSince The time the cached image was fetched, or {@code 0} if none.
+     */
+    @NonNull Response download(
+            @NonNull URL url,
+            @Nullable String etag,
+            long ifModifiedSince
+    ) throws IOException {
+        final URLConnection connection = url.openConnection();
+        connection.setConnectTimeout(mConnectTimeoutMillis);
+        connection.setReadTimeout(mReadTimeoutMillis);
+
+        if (!(connection instanceof HttpURLConnection)) {
+            try (InputStream stream = connection.getInputStream()) {
+                return new Response(
+                        HttpURLConnection.HTTP_OK,
+                        TileStreams.readFully(stream, connection.getContentLength()),
+                        null
+                );
             }
+        }
 
-            return MapKit.newTile(mWidth, mHeight, arr.toByteArray());
-        } catch (IOException ex) {
-            return null;
+        final HttpURLConnection http = (HttpURLConnection) connection;
+        http.setRequestProperty("Accept-Encoding", "gzip");
+        if (etag != null) {
+            http.setRequestProperty("If-None-Match", etag);
+        }
+        if (ifModifiedSince > 0) {
+            http.setIfModifiedSince(ifModifiedSince);
+        }
+
+        final int code = http.getResponseCode();
+        if (code < HttpURLConnection.HTTP_OK || code >= HttpURLConnection.HTTP_MULT_CHOICE) {
+            // Release the connection back to the pool.
+            final @Nullable InputStream error = http.getErrorStream();
+            if (error != null) {
+                error.close();
+            }
+            return new Response(code, null, null);
+        }
+
+        try (InputStream stream = http.getInputStream()) {
+            final byte[] data;
+            if ("gzip".equalsIgnoreCase(http.getContentEncoding())) {
+                // Content-Length is the compressed size, hence not usable for presizing.
+                data = TileStreams.readFully(new GZIPInputStream(stream), -1);
+            } else {
+                data = TileStreams.readFully(stream, http.getContentLength());
+            }
+            return new Response(code, data, http.getHeaderField("ETag"));
         }
     }
 
@@ -99,4 +196,17 @@ public abstract class UrlTileProvider implements TileProvider {
     public final int getHeight() {
         return mHeight;
     }
+
+
+    static final class Response {
+        final int code;
+        final @Nullable byte[] data;
+        final @Nullable String etag;
+
+        Response(int code, @Nullable byte[] data, @Nullable String etag) {
+            this.code = code;
+            this.data = data;
+            this.etag = etag;
+        }
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.UiThread;
+
+import org.jetbrains.annotations.Contract;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+
+/**
+ * Maps the native objects of a backend to their wrappers, so that the same wrapper instance is
+ * returned for the same native object, e.g. by {@link MapClient#addMarker} and then by every
+ * listener callback about the marker.
+ * <p>
+ * Wrappers are weakly referenced, and their entries purged once they are garbage collected, so
+ * that the wrapper of an overlay removed from the map need not be unregistered.
+ *
+ * @param <N> The type of the native objects, which must implement {@link Object#equals} and
+ *            {@link Object#hashCode} consistently for the same native object.
+ * @param <W> The type of the wrappers.
+ */
+@RestrictTo(LIBRARY_GROUP)
+@UiThread
+public final class WrapperRegistry<N, W> {
+
+    /**
+     * Creates the wrapper of a native object not yet registered.
+     */
+    public interface Factory<N, W> {
+        @NonNull W wrap(@NonNull N delegate);
+    }
+
+    private final @NonNull Factory<N, W> mFactory;
+    private final @NonNull HashMap<N, Ref<N, W>> mWrappers = new HashMap<>();
+    private final @NonNull ReferenceQueue<W> mQueue = new ReferenceQueue<>();
+
+    public WrapperRegistry(@NonNull Factory<N, W> factory) {
+        mFactory = factory;
+    }
+
+    /**
+     * Gets the wrapper of the given native object, creating and registering it if none is.
+     */
+    @Contract("null -> null; !null -> !null")
+    public @Nullable W get(@Nullable N delegate) {
+        if (delegate == null) {
+            return null;
+        }
+
+        purge();
+
+        final @Nullable Ref<N, W> ref = mWrappers.get(delegate);
+        @Nullable W wrapper = ref == null ? null : ref.get();
+        if (wrapper == null) {
+            wrapper = mFactory.wrap(delegate);
+            mWrappers.put(delegate, new Ref<>(delegate, wrapper, mQueue));
+        }
+        return wrapper;
+    }
+
+    /**
+     * Registers the given wrapper of a native object, replacing any existing one.
+     *
+     * @return The given wrapper.
+     */
+    public @NonNull W put(@NonNull N delegate, @NonNull W wrapper) {
+        purge();
+        mWrappers.put(delegate, new Ref<>(delegate, wrapper, mQueue));
+        return wrapper;
+    }
+
+    /**
+     * Unregisters every wrapper, e.g. once the map has been cleared.
+     */
+    public void clear() {
+        mWrappers.clear();
+        while (mQueue.poll() != null) {
+            // Drain; the entries are already gone.
+        }
+    }
+
+
+    private void purge() {
+        Ref<?, ?> ref;
+        while ((ref = (Ref<?, ?>) mQueue.poll()) != null) {
+            // Only remove the entry if it was not replaced since.
+            if (mWrappers.get(ref.mDelegate) == ref) {
+                mWrappers.remove(ref.mDelegate);
+            }
+        }
+    }
+
+
+    private static final class Ref<N, W> extends WeakReference<W> {
+        final @NonNull N mDelegate;
+
+        Ref(@NonNull N delegate, @NonNull W wrapper, @NonNull ReferenceQueue<W> queue) {
+            super(wrapper, queue);
+            mDelegate = delegate;
+        }
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * An immutable list of values at zoom levels, which are interpolated linearly between the zoom
+ * levels and held beyond the first and the last, e.g. to widen lines as the map is zoomed in.
+ * <p>
+ * The values are either numbers, as with {@link Builder#add}, read with {@link #getValue}, or
+ * ARGB colors, as with {@link Builder#addColor}, read with {@link #getColor}, whose channels are
+ * interpolated separately.
+ *
+ * @see ZoomStyleUpdater
+ * @since 2.4.0
+ */
+public final class ZoomStops {
+
+    private final @NonNull float[] mZooms;
+    private final @NonNull double[] mValues;
+
+    private ZoomStops(@NonNull float[] zooms, @NonNull double[] values) {
+        mZooms = zooms;
+        mValues = values;
+    }
+
+    /**
+     * Returns the number of stops, which is at least 1.
+     */
+    public int getCount() {
+        return mZooms.length;
+    }
+
+    public float getZoomAt(int index) {
+        return mZooms[index];
+    }
+
+    public float getValueAt(int index) {
+        return (float) mValues[index];
+    }
+
+    public @ColorInt int getColorAt(int index) {
+        return (int) mValues[index];
+    }
+
+    /**
+     * Returns the number at the given zoom level, interpolated between the stops around it.
+     */
+    public float getValue(float zoom) {
+        final int upper = upperIndex(zoom);
+        if (upper == 0) {
+            return (float) mValues[0];
+        }
+        if (upper == mZooms.length) {
+            return (float) mValues[upper - 1];
+        }
+
+        final double fraction = fraction(upper, zoom);
+        return (float) (mValues[upper - 1] + (mValues[upper] - mValues[upper - 1]) * fraction);
+    }
+
+    /**
+     * Returns the color at the given zoom level, with each channel interpolated between the stops
+     * around it.
+     */
+    public @ColorInt int getColor(float zoom) {
+        final int upper = upperIndex(zoom);
+        if (upper == 0) {
+            return (int) mValues[0];
+        }
+        if (upper == mZooms.length) {
+            return (int) mValues[upper - 1];
+        }
+
+        final double fraction = fraction(upper, zoom);
+        final int from = (int) mValues[upper - 1];
+        final int to = (int) mValues[upper];
+        int color = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            final int a = (from >>> shift) & 0xFF;
+            final int b = (to >>> shift) & 0xFF;
+            color |= ((int) Math.round(a + (b - a) * fraction) & 0xFF) << shift;
+        }
+        return color;
+    }
+
+    @Override public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ZoomStops that = (ZoomStops) obj;
+
+        return Arrays.equals(mZooms, that.mZooms) && Arrays.equals(mValues, that.mValues);
+    }
+
+    @Override public int hashCode() {
+        return Arrays.hashCode(mZooms) * 31 + Arrays.hashCode(mValues);
+    }
+
+    @Override public @NonNull String toString() {
+        return "ZoomStops(zooms=" + Arrays.toString(mZooms)
+                + ", values=" + Arrays.toString(mValues) + ')';
+    }
+
+
+    // Returns the index of the first stop above the given zoom level.
+    private int upperIndex(float zoom) {
+        int index = 0;
+        while (index < mZooms.length && mZooms[index] <= zoom) {
+            index++;
+        }
+        return index;
+    }
+
+    private double fraction(int upper, float zoom) {
+        return (zoom - mZooms[upper - 1]) / (double) (mZooms[upper] - mZooms[upper - 1]);
+    }
+
+
+    /**
+     * Builds {@link ZoomStops}, from stops added in increasing order of zoom level.
+     */
+    public static final class Builder {
+        private float[] mZooms = new float[4];
+        private double[] mValues = new double[4];
+        private int mCount = 0;
+
+        /**
+         * Adds a number at the given zoom level.
+         *
+         * @throws IllegalArgumentException If the zoom level is not above that of the last stop.
+         */
+        public @NonNull Builder add(float zoom, float value) {
+            return addStop(zoom, value);
+        }
+
+        /**
+         * Adds an ARGB color at the given zoom level.
+         *
+         * @throws IllegalArgumentException If the zoom level is not above that of the last stop.
+         */
+        public @NonNull Builder addColor(float zoom, @ColorInt int color) {
+            return addStop(zoom, color);
+        }
+
+        /**
+         * @throws IllegalStateException If no stop has been added.
+         */
+        public @NonNull ZoomStops build() {
+            if (mCount == 0) {
+                throw new IllegalStateException("no stops");
+            }
+            return new ZoomStops(Arrays.copyOf(mZooms, mCount), Arrays.copyOf(mValues, mCount));
+        }
+
+        private @NonNull Builder addStop(float zoom, double value) {
+            if (mCount > 0 && zoom <= mZooms[mCount - 1]) {
+                throw new IllegalArgumentException(
+                        "zoom " + zoom + " <= " + mZooms[mCount - 1] + " of the last stop");
+            }
+            if (mCount == mZooms.length) {
+                mZooms = Arrays.copyOf(mZooms, mCount * 2);
+                mValues = Arrays.copyOf(mValues, mCount * 2);
+            }
+            mZooms[mCount] = zoom;
+            mValues[mCount] = value;
+            mCount++;
+            return this;
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+
+/**
+ * Implemented by overlays of backends which style lines by zoom level natively, to let
+ * {@link ZoomStyleUpdater} hand {@link ZoomStops} over to the map SDK instead of emulating them.
+ */
+@RestrictTo(LIBRARY_GROUP)
+public interface ZoomStopsSupport {
+
+    /**
+     * Sets the width of the line of this overlay by zoom level.
+     *
+     * @param stops The widths, or {@code null} to go back to a fixed width.
+     * @return Whether the map SDK applies the stops, or {@code false} if they must be emulated.
+     */
+    boolean setWidthStops(@Nullable ZoomStops stops);
+
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.model;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+/**
+ * Styles the widths and colors of many polylines, polygons and circles by the zoom level of the
+ * camera, as given by {@link ZoomStops}.
+ * <p>
+ * Overlays sharing the same {@link ZoomStops} instance are updated together: on each camera move,
+ * the value of every distinct {@link ZoomStops} is interpolated once, and the overlays using it
+ * are only touched when it changes, widths by more than {@link #setWidthTolerance a tolerance}.
+ * On backends which style lines by zoom level natively, widths of polylines are handed over to
+ * the map SDK and cost nothing on camera moves.
+ * <p>
+ * The updater must be notified of the camera, either set as the listener of the map, or called
+ * from listeners already set:
+ *
+ * <pre>
+ * map.setOnCameraMoveListener(updater);
+ * map.setOnCameraIdleListener(updater);
+ * </pre>
+ * <p>
+ * Overlays are identified by instance, as returned by {@link MapClient#addPolyline} and such, and
+ * should be {@link #remove removed} from the updater as they are removed from the map.
+ *
+ * @since 2.4.0
+ */
+@UiThread
+public class ZoomStyleUpdater implements
+        MapClient.OnCameraMoveListener,
+        MapClient.OnCameraIdleListener {
+
+    /**
+     * The default difference in width, in screen pixels, below which widths are not updated
+     * while the camera moves.
+     */
+    public static final float DEFAULT_WIDTH_TOLERANCE = 0.5f;
+
+    private static final int WIDTH = 0;
+    private static final int STROKE_COLOR = 1;
+    private static final int FILL_COLOR = 2;
+    private static final int PROPERTY_COUNT = 3;
+
+    private final @NonNull MapClient mMap;
+    private final @NonNull IdentityHashMap<Object, Binding[]> mBindings = new IdentityHashMap<>();
+    private final @NonNull IdentityHashMap<ZoomStops, Group> mWidthGroups = new IdentityHashMap<>();
+    private final @NonNull IdentityHashMap<ZoomStops, Group> mColorGroups = new IdentityHashMap<>();
+    private final @NonNull ArrayList<Group> mGroups = new ArrayList<>();
+
+    private float mWidthTolerance = DEFAULT_WIDTH_TOLERANCE;
+
+    public ZoomStyleUpdater(@NonNull MapClient map) {
+        mMap = map;
+    }
+
+    /**
+     * Sets the difference in width, in screen pixels, below which widths are not updated while
+     * the camera moves. Widths are updated exactly once the camera is idle.
+     */
+    public void setWidthTolerance(@FloatRange(from = 0) float widthTolerance) {
+        if (widthTolerance < 0) {
+            throw new IllegalArgumentException("widthTolerance < 0");
+        }
+        mWidthTolerance = widthTolerance;
+    }
+
+    public float getWidthTolerance() {
+        return mWidthTolerance;
+    }
+
+    /**
+     * Sets the width of the given polyline by zoom level, or stops updating it if {@code null}.
+     */
+    public void setWidthStops(@NonNull Polyline polyline, @Nullable ZoomStops stops) {
+        if (polyline instanceof ZoomStopsSupport
+                && ((ZoomStopsSupport) polyline).setWidthStops(stops)) {
+            bind(polyline, WIDTH, null);
+        } else {
+            bind(polyline, WIDTH, stops);
+        }
+    }
+
+    /**
+     * Sets the color of the given polyline by zoom level, or stops updating it if {@code null}.
+     */
+    public void setColorStops(@NonNull Polyline polyline, @Nullable ZoomStops stops) {
+        bind(polyline, STROKE_COLOR, stops);
+    }
+
+    /**
+     * Sets the stroke width of the given polygon by zoom level, or stops updating it if
+     * {@code null}.
+     */
+    public void setStrokeWidthStops(@NonNull Polygon polygon, @Nullable ZoomStops stops) {
+        bind(polygon, WIDTH, stops);
+    }
+
+    /**
+     * Sets the stroke color of the given polygon by zoom level, or stops updating it if
+     * {@code null}.
+     */
+    public void setStrokeColorStops(@NonNull Polygon polygon, @Nullable ZoomStops stops) {
+        bind(polygon, STROKE_COLOR, stops);
+    }
+
+    /**
+     * Sets the fill color of the given polygon by zoom level, or stops updating it if
+     * {@code null}.
+     */
+    public void setFillColorStops(@NonNull Polygon polygon, @Nullable ZoomStops stops) {
+        bind(polygon, FILL_COLOR, stops);
+    }
+
+    /**
+     * Sets the stroke width of the given circle by zoom level, or stops updating it if
+     * {@code null}.
+     */
+    public void setStrokeWidthStops(@NonNull Circle circle, @Nullable ZoomStops stops) {
+        bind(circle, WIDTH, stops);
+    }
+
+    /**
+     * Sets the stroke color of the given circle by zoom level, or stops updating it if
+     * {@code null}.
+     */
+    public void setStrokeColorStops(@NonNull Circle circle, @Nullable ZoomStops stops) {
+        bind(circle, STROKE_COLOR, stops);
+    }
+
+    /**
+     * Sets the fill color of the given circle by zoom level, or stops updating it if
+     * {@code null}.
+     */
+    public void setFillColorStops(@NonNull Circle circle, @Nullable ZoomStops stops) {
+        bind(circle, FILL_COLOR, stops);
+    }
+
+    /**
+     * Stops updating the given overlay, leaving it styled as last updated. Widths handed over to
+     * the map SDK are kept; set them to {@code null} to fix them.
+     */
+    public void remove(@NonNull Object overlay) {
+        final @Nullable Binding[] bindings = mBindings.remove(overlay);
+        if (bindings != null) {
+            for (Binding binding : bindings) {
+                if (binding != null) {
+                    detach(binding);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops updating every overlay, leaving them styled as last updated.
+     */
+    public void clear() {
+        mBindings.clear();
+        mWidthGroups.clear();
+        mColorGroups.clear();
+        mGroups.clear();
+    }
+
+    /**
+     * Returns the number of overlays being updated.
+     */
+    public int getOverlayCount() {
+        return mBindings.size();
+    }
+
+    /**
+     * Updates every overlay to the current zoom level of the camera exactly.
+     */
+    public void update() {
+        update(mMap.getCameraPosition().getZoom(), 0);
+    }
+
+    @Override public void onCameraMove() {
+        update(mMap.getCameraPosition().getZoom(), mWidthTolerance);
+    }
+
+    @Override public void onCameraIdle() {
+        update();
+    }
+
+
+    private void update(float zoom, float widthTolerance) {
+        for (int i = 0, size = mGroups.size(); i < size; i++) {
+            mGroups.get(i).update(zoom, widthTolerance);
+        }
+    }
+
+    private void bind(@NonNull Object overlay, int property, @Nullable ZoomStops stops) {
+        @Nullable Binding[] bindings = mBindings.get(overlay);
+        if (bindings != null && bindings[property] != null) {
+            if (bindings[property].mGroup.mStops == stops) {
+                return;
+            }
+            detach(bindings[property]);
+            bindings[property] = null;
+        }
+        if (stops == null) {
+            if (bindings != null && isEmpty(bindings)) {
+                mBindings.remove(overlay);
+            }
+            return;
+        }
+
+        if (bindings == null) {
+            bindings = new Binding[PROPERTY_COUNT];
+            mBindings.put(overlay, bindings);
+        }
+
+        final boolean color = property != WIDTH;
+        final IdentityHashMap<ZoomStops, Group> groups = color ? mColorGroups : mWidthGroups;
+        @Nullable Group group = groups.get(stops);
+        if (group == null) {
+            group = new Group(stops, color, mGroups.size());
+            groups.put(stops, group);
+            mGroups.add(group);
+            group.update(mMap.getCameraPosition().getZoom(), 0);
+        }
+
+        final Binding binding = new Binding(overlay, property, group);
+        bindings[property] = binding;
+        group.add(binding);
+        binding.apply(group.mApplied);
+    }
+
+    private void detach(@NonNull Binding binding) {
+        final Group group = binding.mGroup;
+        group.remove(binding);
+        if (group.mBindings.isEmpty()) {
+            (group.mColor ? mColorGroups : mWidthGroups).remove(group.mStops);
+
+            // Swaps the last group into the place of the removed one.
+            final Group last = mGroups.remove(mGroups.size() - 1);
+            if (last != group) {
+                mGroups.set(group.mIndex, last);
+                last.mIndex = group.mIndex;
+            }
+        }
+    }
+
+    private static boolean isEmpty(@NonNull Binding[] bindings) {
+        for (Binding binding : bindings) {
+            if (binding != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    private static final class Group {
+        final @NonNull ZoomStops mStops;
+        final boolean mColor;
+        final @NonNull ArrayList<Binding> mBindings = new ArrayList<>();
+        int mIndex;
+
+        // The value every overlay of the group was last updated to.
+        double mApplied = Double.NaN;
+
+        Group(@NonNull ZoomStops stops, boolean color, int index) {
+            mStops = stops;
+            mColor = color;
+            mIndex = index;
+        }
+
+        void update(float zoom, float widthTolerance) {
+            final double value = mColor ? mStops.getColor(zoom) : mStops.getValue(zoom);
+            if (mColor ? value == mApplied : Math.abs(value - mApplied) <= widthTolerance) {
+                return;
+            }
+
+            mApplied = value;
+            for (int i = 0, size = mBindings.size(); i < size; i++) {
+                mBindings.get(i).apply(value);
+            }
+        }
+
+        void add(@NonNull Binding binding) {
+            binding.mIndex = mBindings.size();
+            mBindings.add(binding);
+        }
+
+        void remove(@NonNull Binding binding) {
+            // Swaps the last binding into the place of the removed one.
+            final Binding last = mBindings.remove(mBindings.size() - 1);
+            if (last != binding) {
+                mBindings.set(binding.mIndex, last);
+                last.mIndex = binding.mIndex;
+            }
+        }
+    }
+
+    private static final class Binding {
+        final @NonNull Object mOverlay;
+        final int mProperty;
+        final @NonNull Group mGroup;
+        int mIndex;
+
+        Binding(@NonNull Object overlay, int property, @NonNull Group group) {
+            mOverlay = overlay;
+            mProperty = property;
+            mGroup = group;
+        }
+
+        void apply(double value) {
+            if (mOverlay instanceof Polyline) {
+                final Polyline polyline = (Polyline) mOverlay;
+                if (mProperty == WIDTH) {
+                    polyline.setWidth((float) value);
+                } else {
+                    polyline.setColor((int) value);
+                }
+            } else if (mOverlay instanceof Polygon) {
+                final Polygon polygon = (Polygon) mOverlay;
+                if (mProperty == WIDTH) {
+                    polygon.setStrokeWidth((float) value);
+                } else if (mProperty == STROKE_COLOR) {
+                    polygon.setStrokeColor((int) value);
+                } else {
+                    polygon.setFillColor((int) value);
+                }
+            } else if (mOverlay instanceof Circle) {
+                final Circle circle = (Circle) mOverlay;
+                if (mProperty == WIDTH) {
+                    circle.setStrokeWidth((float) value);
+                } else if (mProperty == STROKE_COLOR) {
+                    circle.setStrokeColor((int) value);
+                } else {
+                    circle.setFillColor((int) value);
+                }
+            }
+        }
+    }
+
+}
@@ -30,11 +30,12 @@ import com.google.android.gms.maps.model.BitmapDescriptorFactory;
 import org.jetbrains.annotations.Contract;
 
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.BitmapDescriptor;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.BitmapDescriptorCache;
 
 @RestrictTo(LIBRARY)
 public class GoogleBitmapDescriptor implements BitmapDescriptor {
 
-    public static final BitmapDescriptor.Factory FACTORY = new BitmapDescriptor.Factory() {
+    private static final Factory UNCACHED_FACTORY = new Factory() {
         @Override public @NonNull BitmapDescriptor defaultMarker() {
             return wrap(BitmapDescriptorFactory.defaultMarker());
         }
@@ -99,6 +100,9 @@ public class GoogleBitmapDescriptor implements BitmapDescriptor {
         }
     };
 
+    public static final BitmapDescriptor.Factory FACTORY =
+            BitmapDescriptorCache.wrap(UNCACHED_FACTORY);
+
 
     private final @NonNull com.google.android.gms.maps.model.BitmapDescriptor mDelegate;
 
@@ -120,4 +120,34 @@ public class GoogleLatLng implements LatLng {
         }
         return list;
     }
+
+    static @NonNull List<com.google.android.gms.maps.model.LatLng> unpack(
+            @NonNull double[] latLngs
+    ) {
+        if ((latLngs.length & 1) != 0) {
+            throw new IllegalArgumentException("latLngs must contain latitude-longitude pairs");
+        }
+
+        List<com.google.android.gms.maps.model.LatLng> list = new ArrayList<>(latLngs.length >> 1);
+        for (int i = 0; i < latLngs.length; i += 2) {
+            list.add(new com.google.android.gms.maps.model.LatLng(latLngs[i], latLngs[i + 1]));
+        }
+        return list;
+    }
+
+    static @NonNull double[] pack(
+            @Nullable List<com.google.android.gms.maps.model.LatLng> delegates
+    ) {
+        if (delegates == null) {
+            return new double[0];
+        }
+
+        double[] latLngs = new double[delegates.size() << 1];
+        int i = 0;
+        for (com.google.android.gms.maps.model.LatLng d : delegates) {
+            latLngs[i++] = d.latitude;
+            latLngs[i++] = d.longitude;
+        }
+        return latLngs;
+    }
 }
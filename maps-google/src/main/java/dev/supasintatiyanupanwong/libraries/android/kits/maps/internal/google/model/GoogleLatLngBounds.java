@@ -24,6 +24,7 @@ import androidx.annotation.RestrictTo;
 
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngMath;
 
 @RestrictTo(LIBRARY)
 public class GoogleLatLngBounds implements LatLngBounds {
@@ -108,19 +109,25 @@ public class GoogleLatLngBounds implements LatLngBounds {
 
 
     public static class Builder implements LatLngBounds.Builder {
-        private final com.google.android.gms.maps.model.LatLngBounds.Builder mDelegate;
+        private final LatLngMath.BoundsAccumulator mBounds = new LatLngMath.BoundsAccumulator();
 
-        public Builder() {
-            mDelegate = com.google.android.gms.maps.model.LatLngBounds.builder();
-        }
+        public Builder() {}
 
         @Override public @NonNull LatLngBounds.Builder include(@NonNull LatLng point) {
-            mDelegate.include(GoogleLatLng.unwrap(point));
+            mBounds.include(point.getLatitude(), point.getLongitude());
             return this;
         }
 
         @Override public @NonNull LatLngBounds build() {
-            return GoogleLatLngBounds.wrap(mDelegate.build());
+            if (mBounds.isEmpty()) {
+                throw new IllegalStateException("no included points");
+            }
+            return new GoogleLatLngBounds(new com.google.android.gms.maps.model.LatLngBounds(
+                    new com.google.android.gms.maps.model.LatLng(
+                            mBounds.getSouth(), mBounds.getWest()),
+                    new com.google.android.gms.maps.model.LatLng(
+                            mBounds.getNorth(), mBounds.getEast())
+            ));
         }
     }
 }
@@ -29,6 +29,10 @@ import androidx.annotation.Nullable;
 import androidx.annotation.RequiresPermission;
 import androidx.annotation.RestrictTo;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.CameraPosition;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.CameraUpdate;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Circle;
@@ -39,10 +43,12 @@ import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LocationSour
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapStyle;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Marker;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Overlays;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polygon;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polyline;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Projection;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.TileOverlay;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.WrapperRegistry;
 
 @SuppressWarnings("unused")
 @RestrictTo(LIBRARY)
@@ -51,6 +57,19 @@ public class GoogleMapClient implements MapClient {
     private final com.google.android.gms.maps.GoogleMap mDelegate;
     private final UiSettings mSettings;
 
+    private final @NonNull WrapperRegistry<com.google.android.gms.maps.model.Polyline, Polyline>
+            mPolylines = new WrapperRegistry<>(GooglePolyline::wrap);
+    private final @NonNull WrapperRegistry<com.google.android.gms.maps.model.Polygon, Polygon>
+            mPolygons = new WrapperRegistry<>(GooglePolygon::wrap);
+    private final @NonNull WrapperRegistry<com.google.android.gms.maps.model.Circle, Circle>
+            mCircles = new WrapperRegistry<>(GoogleCircle::wrap);
+    private final @NonNull WrapperRegistry<com.google.android.gms.maps.model.Marker, Marker>
+            mMarkers = new WrapperRegistry<>(GoogleMarker::wrap);
+    private final @NonNull WrapperRegistry<
+            com.google.android.gms.maps.model.GroundOverlay,
+            GroundOverlay
+    > mGroundOverlays = new WrapperRegistry<>(GoogleGroundOverlay::wrap);
+
     public GoogleMapClient(@NonNull com.google.android.gms.maps.GoogleMap map) {
         mDelegate = map;
         mSettings = new UiSettings(map.getUiSettings());
@@ -123,25 +142,25 @@ public class GoogleMapClient implements MapClient {
     }
 
     @Override public @NonNull Polyline addPolyline(@NonNull Polyline.Options options) {
-        return GooglePolyline.wrap(mDelegate.addPolyline(GooglePolyline.Options.unwrap(options)));
+        return mPolylines.get(mDelegate.addPolyline(GooglePolyline.Options.unwrap(options)));
     }
 
     @Override public @NonNull Polygon addPolygon(@NonNull Polygon.Options options) {
-        return GooglePolygon.wrap(mDelegate.addPolygon(GooglePolygon.Options.unwrap(options)));
+        return mPolygons.get(mDelegate.addPolygon(GooglePolygon.Options.unwrap(options)));
     }
 
     @Override public @NonNull Circle addCircle(@NonNull Circle.Options options) {
-        return GoogleCircle.wrap(mDelegate.addCircle(GoogleCircle.Options.unwrap(options)));
+        return mCircles.get(mDelegate.addCircle(GoogleCircle.Options.unwrap(options)));
     }
 
     @Override public @NonNull Marker addMarker(@NonNull Marker.Options options) {
-        return GoogleMarker.wrap(mDelegate.addMarker(GoogleMarker.Options.unwrap(options)));
+        return mMarkers.get(mDelegate.addMarker(GoogleMarker.Options.unwrap(options)));
     }
 
     @Override public @NonNull GroundOverlay addGroundOverlay(
             @NonNull GroundOverlay.Options options
     ) {
-        return GoogleGroundOverlay.wrap(
+        return mGroundOverlays.get(
                 mDelegate.addGroundOverlay(GoogleGroundOverlay.Options.unwrap(options))
         );
     }
@@ -152,8 +171,57 @@ public class GoogleMapClient implements MapClient {
         );
     }
 
+    @Override public @NonNull List<Polyline> addPolylines(@NonNull List<Polyline.Options> options) {
+        final List<Polyline> polylines = new ArrayList<>(options.size());
+        for (Polyline.Options option : options) {
+            polylines.add(mPolylines.get(
+                    mDelegate.addPolyline(GooglePolyline.Options.unwrap(option))
+            ));
+        }
+        return polylines;
+    }
+
+    @Override public @NonNull List<Polygon> addPolygons(@NonNull List<Polygon.Options> options) {
+        final List<Polygon> polygons = new ArrayList<>(options.size());
+        for (Polygon.Options option : options) {
+            polygons.add(mPolygons.get(
+                    mDelegate.addPolygon(GooglePolygon.Options.unwrap(option))
+            ));
+        }
+        return polygons;
+    }
+
+    @Override public @NonNull List<Circle> addCircles(@NonNull List<Circle.Options> options) {
+        final List<Circle> circles = new ArrayList<>(options.size());
+        for (Circle.Options option : options) {
+            circles.add(mCircles.get(
+                    mDelegate.addCircle(GoogleCircle.Options.unwrap(option))
+            ));
+        }
+        return circles;
+    }
+
+    @Override public @NonNull List<Marker> addMarkers(@NonNull List<Marker.Options> options) {
+        final List<Marker> markers = new ArrayList<>(options.size());
+        for (Marker.Options option : options) {
+            markers.add(mMarkers.get(
+                    mDelegate.addMarker(GoogleMarker.Options.unwrap(option))
+            ));
+        }
+        return markers;
+    }
+
+    @Override public void removeAll(@NonNull Collection<?> overlays) {
+        Overlays.removeAll(overlays);
+    }
+
     @Override public void clear() {
         mDelegate.clear();
+        mPolylines.clear();
+        mPolygons.clear();
+        mCircles.clear();
+        mMarkers.clear();
+        mGroundOverlays.clear();
     }
 
     @Override public @Nullable IndoorBuilding getFocusedBuilding() {
@@ -305,7 +373,7 @@ public class GoogleMapClient implements MapClient {
     ) {
         mDelegate.setOnMarkerClickListener(listener == null
                 ? null
-                : marker -> listener.onMarkerClick(GoogleMarker.wrap(marker))
+                : marker -> listener.onMarkerClick(mMarkers.get(marker))
         );
     }
 
@@ -318,19 +386,19 @@ public class GoogleMapClient implements MapClient {
                     @Override public void onMarkerDragStart(
                             @NonNull com.google.android.gms.maps.model.Marker marker
                     ) {
-                        listener.onMarkerDragStart(GoogleMarker.wrap(marker));
+                        listener.onMarkerDragStart(mMarkers.get(marker));
                     }
 
                     @Override public void onMarkerDrag(
                             @NonNull com.google.android.gms.maps.model.Marker marker
                     ) {
-                        listener.onMarkerDrag(GoogleMarker.wrap(marker));
+                        listener.onMarkerDrag(mMarkers.get(marker));
                     }
 
                     @Override public void onMarkerDragEnd(
                             @NonNull com.google.android.gms.maps.model.Marker marker
                     ) {
-                        listener.onMarkerDragEnd(GoogleMarker.wrap(marker));
+                        listener.onMarkerDragEnd(mMarkers.get(marker));
                     }
                 }
         );
@@ -341,7 +409,7 @@ public class GoogleMapClient implements MapClient {
     ) {
         mDelegate.setOnInfoWindowClickListener(listener == null
                 ? null
-                : marker -> listener.onInfoWindowClick(GoogleMarker.wrap(marker))
+                : marker -> listener.onInfoWindowClick(mMarkers.get(marker))
         );
     }
 
@@ -350,7 +418,7 @@ public class GoogleMapClient implements MapClient {
     ) {
         mDelegate.setOnInfoWindowLongClickListener(listener == null
                 ? null
-                : marker -> listener.onInfoWindowLongClick(GoogleMarker.wrap(marker))
+                : marker -> listener.onInfoWindowLongClick(mMarkers.get(marker))
         );
     }
 
@@ -359,7 +427,7 @@ public class GoogleMapClient implements MapClient {
     ) {
         mDelegate.setOnInfoWindowCloseListener(listener == null
                 ? null
-                : marker -> listener.onInfoWindowClose(GoogleMarker.wrap(marker))
+                : marker -> listener.onInfoWindowClose(mMarkers.get(marker))
         );
     }
 
@@ -370,13 +438,13 @@ public class GoogleMapClient implements MapClient {
                     @Override public View getInfoWindow(
                             @NonNull com.google.android.gms.maps.model.Marker marker
                     ) {
-                        return adapter.getInfoWindow(GoogleMarker.wrap(marker));
+                        return adapter.getInfoWindow(mMarkers.get(marker));
                     }
 
                     @Override public View getInfoContents(
                             @NonNull com.google.android.gms.maps.model.Marker marker
                     ) {
-                        return adapter.getInfoContents(GoogleMarker.wrap(marker));
+                        return adapter.getInfoContents(mMarkers.get(marker));
                     }
                 }
         );
@@ -414,7 +482,7 @@ public class GoogleMapClient implements MapClient {
     ) {
         mDelegate.setOnGroundOverlayClickListener(listener == null
                 ? null
-                : overlay -> listener.onGroundOverlayClick(GoogleGroundOverlay.wrap(overlay))
+                : overlay -> listener.onGroundOverlayClick(mGroundOverlays.get(overlay))
         );
     }
 
@@ -423,7 +491,7 @@ public class GoogleMapClient implements MapClient {
     ) {
         mDelegate.setOnCircleClickListener(listener == null
                 ? null
-                : circle -> listener.onCircleClick(GoogleCircle.wrap(circle))
+                : circle -> listener.onCircleClick(mCircles.get(circle))
         );
     }
 
@@ -432,7 +500,7 @@ public class GoogleMapClient implements MapClient {
     ) {
         mDelegate.setOnPolygonClickListener(listener == null
                 ? null
-                : polygon -> listener.onPolygonClick(GooglePolygon.wrap(polygon))
+                : polygon -> listener.onPolygonClick(mPolygons.get(polygon))
         );
     }
 
@@ -441,7 +509,7 @@ public class GoogleMapClient implements MapClient {
     ) {
         mDelegate.setOnPolylineClickListener(listener == null
                 ? null
-                : polyline -> listener.onPolylineClick(GooglePolyline.wrap(polyline))
+                : polyline -> listener.onPolylineClick(mPolylines.get(polyline))
         );
     }
 
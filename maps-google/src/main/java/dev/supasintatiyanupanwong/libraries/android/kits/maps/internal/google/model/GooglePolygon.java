@@ -72,6 +72,22 @@ public class GooglePolygon implements Polygon {
         return holes;
     }
 
+    @Override public void setPackedPoints(@NonNull double[] latLngs) {
+        mDelegate.setPoints(GoogleLatLng.unpack(latLngs));
+    }
+
+    @Override public @NonNull double[] getPackedPoints() {
+        return GoogleLatLng.pack(mDelegate.getPoints());
+    }
+
+    @Override public void setPackedHoles(@NonNull List<double[]> holes) {
+        List<List<com.google.android.gms.maps.model.LatLng>> gHoles = new ArrayList<>(holes.size());
+        for (double[] hole : holes) {
+            gHoles.add(GoogleLatLng.unpack(hole));
+        }
+        mDelegate.setHoles(gHoles);
+    }
+
     @Override public void setStrokeWidth(float width) {
         mDelegate.setStrokeWidth(width);
     }
@@ -207,6 +223,16 @@ public class GooglePolygon implements Polygon {
             return this;
         }
 
+        @Override public @NonNull Polygon.Options addPackedPoints(@NonNull double[] latLngs) {
+            mDelegate.addAll(GoogleLatLng.unpack(latLngs));
+            return this;
+        }
+
+        @Override public @NonNull Polygon.Options addPackedHole(@NonNull double[] latLngs) {
+            mDelegate.addHole(GoogleLatLng.unpack(latLngs));
+            return this;
+        }
+
         @Override public @NonNull Polygon.Options strokeWidth(float width) {
             mDelegate.strokeWidth(width);
             return this;
@@ -258,6 +284,10 @@ public class GooglePolygon implements Polygon {
             return GoogleLatLng.wrap(mDelegate.getPoints());
         }
 
+        @Override public @NonNull double[] getPackedPoints() {
+            return GoogleLatLng.pack(mDelegate.getPoints());
+        }
+
         @Override public @NonNull List<List<LatLng>> getHoles() {
             List<List<LatLng>> holes = new ArrayList<>();
             for (List<com.google.android.gms.maps.model.LatLng> hole : mDelegate.getHoles()) {
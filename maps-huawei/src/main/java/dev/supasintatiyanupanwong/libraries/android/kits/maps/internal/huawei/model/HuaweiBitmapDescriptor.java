@@ -28,11 +28,12 @@ import androidx.annotation.RestrictTo;
 import com.huawei.hms.maps.model.BitmapDescriptorFactory;
 
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.BitmapDescriptor;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.BitmapDescriptorCache;
 
 @RestrictTo(LIBRARY)
 public class HuaweiBitmapDescriptor implements BitmapDescriptor {
 
-    public static final Factory FACTORY = new Factory() {
+    private static final Factory UNCACHED_FACTORY = new Factory() {
         @Override public @NonNull BitmapDescriptor defaultMarker() {
             return wrap(BitmapDescriptorFactory.defaultMarker());
         }
@@ -97,6 +98,8 @@ public class HuaweiBitmapDescriptor implements BitmapDescriptor {
         }
     };
 
+    public static final Factory FACTORY = BitmapDescriptorCache.wrap(UNCACHED_FACTORY);
+
 
     private final com.huawei.hms.maps.model.BitmapDescriptor mDelegate;
 
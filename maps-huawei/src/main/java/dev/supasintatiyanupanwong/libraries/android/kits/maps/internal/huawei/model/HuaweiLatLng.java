@@ -105,4 +105,34 @@ public class HuaweiLatLng implements LatLng {
         return list;
     }
 
+    static @NonNull List<com.huawei.hms.maps.model.LatLng> unpack(
+            @NonNull double[] latLngs
+    ) {
+        if ((latLngs.length & 1) != 0) {
+            throw new IllegalArgumentException("latLngs must contain latitude-longitude pairs");
+        }
+
+        List<com.huawei.hms.maps.model.LatLng> list = new ArrayList<>(latLngs.length >> 1);
+        for (int i = 0; i < latLngs.length; i += 2) {
+            list.add(new com.huawei.hms.maps.model.LatLng(latLngs[i], latLngs[i + 1]));
+        }
+        return list;
+    }
+
+    static @NonNull double[] pack(
+            @Nullable List<com.huawei.hms.maps.model.LatLng> delegates
+    ) {
+        if (delegates == null) {
+            return new double[0];
+        }
+
+        double[] latLngs = new double[delegates.size() << 1];
+        int i = 0;
+        for (com.huawei.hms.maps.model.LatLng d : delegates) {
+            latLngs[i++] = d.latitude;
+            latLngs[i++] = d.longitude;
+        }
+        return latLngs;
+    }
+
 }
@@ -24,6 +24,7 @@ import androidx.annotation.RestrictTo;
 
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngMath;
 
 @RestrictTo(LIBRARY)
 public class HuaweiLatLngBounds implements LatLngBounds {
@@ -104,19 +105,23 @@ public class HuaweiLatLngBounds implements LatLngBounds {
 
 
     public static class Builder implements LatLngBounds.Builder {
-        private final com.huawei.hms.maps.model.LatLngBounds.Builder mDelegate;
+        private final LatLngMath.BoundsAccumulator mBounds = new LatLngMath.BoundsAccumulator();
 
-        public Builder() {
-            mDelegate = com.huawei.hms.maps.model.LatLngBounds.builder();
-        }
+        public Builder() {}
 
         @Override public @NonNull LatLngBounds.Builder include(@NonNull LatLng point) {
-            mDelegate.include(HuaweiLatLng.unwrap(point));
+            mBounds.include(point.getLatitude(), point.getLongitude());
             return this;
         }
 
         @Override public @NonNull LatLngBounds build() {
-            return HuaweiLatLngBounds.wrap(mDelegate.build());
+            if (mBounds.isEmpty()) {
+                throw new IllegalStateException("no included points");
+            }
+            return new HuaweiLatLngBounds(new com.huawei.hms.maps.model.LatLngBounds(
+                    new com.huawei.hms.maps.model.LatLng(mBounds.getSouth(), mBounds.getWest()),
+                    new com.huawei.hms.maps.model.LatLng(mBounds.getNorth(), mBounds.getEast())
+            ));
         }
     }
 
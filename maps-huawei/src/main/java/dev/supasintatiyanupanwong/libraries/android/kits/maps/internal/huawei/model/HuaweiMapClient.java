@@ -30,6 +30,10 @@ import androidx.annotation.Nullable;
 import androidx.annotation.RequiresPermission;
 import androidx.annotation.RestrictTo;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.CameraPosition;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.CameraUpdate;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Circle;
@@ -40,10 +44,12 @@ import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LocationSour
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapStyle;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Marker;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Overlays;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polygon;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polyline;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Projection;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.TileOverlay;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.WrapperRegistry;
 
 @SuppressWarnings("unused")
 @RestrictTo(LIBRARY)
@@ -52,6 +58,17 @@ public class HuaweiMapClient implements MapClient {
     private final com.huawei.hms.maps.HuaweiMap mDelegate;
     private final UiSettings mSettings;
 
+    private final @NonNull WrapperRegistry<com.huawei.hms.maps.model.Polyline, Polyline>
+            mPolylines = new WrapperRegistry<>(HuaweiPolyline::wrap);
+    private final @NonNull WrapperRegistry<com.huawei.hms.maps.model.Polygon, Polygon>
+            mPolygons = new WrapperRegistry<>(HuaweiPolygon::wrap);
+    private final @NonNull WrapperRegistry<com.huawei.hms.maps.model.Circle, Circle>
+            mCircles = new WrapperRegistry<>(HuaweiCircle::wrap);
+    private final @NonNull WrapperRegistry<com.huawei.hms.maps.model.Marker, Marker>
+            mMarkers = new WrapperRegistry<>(HuaweiMarker::wrap);
+    private final @NonNull WrapperRegistry<com.huawei.hms.maps.model.GroundOverlay, GroundOverlay>
+            mGroundOverlays = new WrapperRegistry<>(HuaweiGroundOverlay::wrap);
+
     private Rect mLastPadding;
 
     public HuaweiMapClient(@NonNull com.huawei.hms.maps.HuaweiMap map) {
@@ -126,25 +143,25 @@ public class HuaweiMapClient implements MapClient {
     }
 
     @Override public @NonNull Polyline addPolyline(@NonNull Polyline.Options options) {
-        return HuaweiPolyline.wrap(mDelegate.addPolyline(HuaweiPolyline.Options.unwrap(options)));
+        return mPolylines.get(mDelegate.addPolyline(HuaweiPolyline.Options.unwrap(options)));
     }
 
     @Override public @NonNull Polygon addPolygon(@NonNull Polygon.Options options) {
-        return HuaweiPolygon.wrap(mDelegate.addPolygon(HuaweiPolygon.Options.unwrap(options)));
+        return mPolygons.get(mDelegate.addPolygon(HuaweiPolygon.Options.unwrap(options)));
     }
 
     @Override public @NonNull Circle addCircle(@NonNull Circle.Options options) {
-        return HuaweiCircle.wrap(mDelegate.addCircle(HuaweiCircle.Options.unwrap(options)));
+        return mCircles.get(mDelegate.addCircle(HuaweiCircle.Options.unwrap(options)));
     }
 
     @Override public @NonNull Marker addMarker(@NonNull Marker.Options options) {
-        return HuaweiMarker.wrap(mDelegate.addMarker(HuaweiMarker.Options.unwrap(options)));
+        return mMarkers.get(mDelegate.addMarker(HuaweiMarker.Options.unwrap(options)));
     }
 
     @Override public @NonNull GroundOverlay addGroundOverlay(
             @NonNull GroundOverlay.Options options
     ) {
-        return HuaweiGroundOverlay.wrap(
+        return mGroundOverlays.get(
                 mDelegate.addGroundOverlay(HuaweiGroundOverlay.Options.unwrap(options))
         );
     }
@@ -155,8 +172,57 @@ public class HuaweiMapClient implements MapClient {
         );
     }
 
+    @Override public @NonNull List<Polyline> addPolylines(@NonNull List<Polyline.Options> options) {
+        final List<Polyline> polylines = new ArrayList<>(options.size());
+        for (Polyline.Options option : options) {
+            polylines.add(mPolylines.get(
+                    mDelegate.addPolyline(HuaweiPolyline.Options.unwrap(option))
+            ));
+        }
+        return polylines;
+    }
+
+    @Override public @NonNull List<Polygon> addPolygons(@NonNull List<Polygon.Options> options) {
+        final List<Polygon> polygons = new ArrayList<>(options.size());
+        for (Polygon.Options option : options) {
+            polygons.add(mPolygons.get(
+                    mDelegate.addPolygon(HuaweiPolygon.Options.unwrap(option))
+            ));
+        }
+        return polygons;
+    }
+
+    @Override public @NonNull List<Circle> addCircles(@NonNull List<Circle.Options> options) {
+        final List<Circle> circles = new ArrayList<>(options.size());
+        for (Circle.Options option : options) {
+            circles.add(mCircles.get(
+                    mDelegate.addCircle(HuaweiCircle.Options.unwrap(option))
+            ));
+        }
+        return circles;
+    }
+
+    @Override public @NonNull List<Marker> addMarkers(@NonNull List<Marker.Options> options) {
+        final List<Marker> markers = new ArrayList<>(options.size());
+        for (Marker.Options option : options) {
+            markers.add(mMarkers.get(
+                    mDelegate.addMarker(HuaweiMarker.Options.unwrap(option))
+            ));
+        }
+        return markers;
+    }
+
+    @Override public void removeAll(@NonNull Collection<?> overlays) {
+        Overlays.removeAll(overlays);
+    }
+
     @Override public void clear() {
         mDelegate.clear();
+        mPolylines.clear();
+        mPolygons.clear();
+        mCircles.clear();
+        mMarkers.clear();
+        mGroundOverlays.clear();
     }
 
     @Override public @Nullable IndoorBuilding getFocusedBuilding() {
@@ -306,7 +372,7 @@ public class HuaweiMapClient implements MapClient {
     ) {
         mDelegate.setOnMarkerClickListener(listener == null
                 ? null
-                : marker -> listener.onMarkerClick(HuaweiMarker.wrap(marker))
+                : marker -> listener.onMarkerClick(mMarkers.get(marker))
         );
     }
 
@@ -319,19 +385,19 @@ public class HuaweiMapClient implements MapClient {
                     @Override public void onMarkerDragStart(
                             com.huawei.hms.maps.model.Marker marker
                     ) {
-                        listener.onMarkerDragStart(HuaweiMarker.wrap(marker));
+                        listener.onMarkerDragStart(mMarkers.get(marker));
                     }
 
                     @Override public void onMarkerDrag(
                             com.huawei.hms.maps.model.Marker marker
                     ) {
-                        listener.onMarkerDrag(HuaweiMarker.wrap(marker));
+                        listener.onMarkerDrag(mMarkers.get(marker));
                     }
 
                     @Override public void onMarkerDragEnd(
                             com.huawei.hms.maps.model.Marker marker
                     ) {
-                        listener.onMarkerDragEnd(HuaweiMarker.wrap(marker));
+                        listener.onMarkerDragEnd(mMarkers.get(marker));
                     }
                 }
         );
@@ -342,7 +408,7 @@ public class HuaweiMapClient implements MapClient {
     ) {
         mDelegate.setOnInfoWindowClickListener(listener == null
                 ? null
-                : marker -> listener.onInfoWindowClick(HuaweiMarker.wrap(marker))
+                : marker -> listener.onInfoWindowClick(mMarkers.get(marker))
         );
     }
 
@@ -351,7 +417,7 @@ public class HuaweiMapClient implements MapClient {
     ) {
         mDelegate.setOnInfoWindowLongClickListener(listener == null
                 ? null
-                : marker -> listener.onInfoWindowLongClick(HuaweiMarker.wrap(marker))
+                : marker -> listener.onInfoWindowLongClick(mMarkers.get(marker))
         );
     }
 
@@ -360,7 +426,7 @@ public class HuaweiMapClient implements MapClient {
     ) {
         mDelegate.setOnInfoWindowCloseListener(listener == null
                 ? null
-                : marker -> listener.onInfoWindowClose(HuaweiMarker.wrap(marker))
+                : marker -> listener.onInfoWindowClose(mMarkers.get(marker))
         );
     }
 
@@ -371,13 +437,13 @@ public class HuaweiMapClient implements MapClient {
                     @Override public View getInfoWindow(
                             com.huawei.hms.maps.model.Marker marker
                     ) {
-                        return adapter.getInfoWindow(HuaweiMarker.wrap(marker));
+                        return adapter.getInfoWindow(mMarkers.get(marker));
                     }
 
                     @Override public View getInfoContents(
                             com.huawei.hms.maps.model.Marker marker
                     ) {
-                        return adapter.getInfoContents(HuaweiMarker.wrap(marker));
+                        return adapter.getInfoContents(mMarkers.get(marker));
                     }
                 }
         );
@@ -415,7 +481,7 @@ public class HuaweiMapClient implements MapClient {
     ) {
         mDelegate.setOnGroundOverlayClickListener(listener == null
                 ? null
-                : overlay -> listener.onGroundOverlayClick(HuaweiGroundOverlay.wrap(overlay))
+                : overlay -> listener.onGroundOverlayClick(mGroundOverlays.get(overlay))
         );
     }
 
@@ -424,7 +490,7 @@ public class HuaweiMapClient implements MapClient {
     ) {
         mDelegate.setOnCircleClickListener(listener == null
                 ? null
-                : circle -> listener.onCircleClick(HuaweiCircle.wrap(circle))
+                : circle -> listener.onCircleClick(mCircles.get(circle))
         );
     }
 
@@ -433,7 +499,7 @@ public class HuaweiMapClient implements MapClient {
     ) {
         mDelegate.setOnPolygonClickListener(listener == null
                 ? null
-                : polygon -> listener.onPolygonClick(HuaweiPolygon.wrap(polygon))
+                : polygon -> listener.onPolygonClick(mPolygons.get(polygon))
         );
     }
 
@@ -442,7 +508,7 @@ public class HuaweiMapClient implements MapClient {
     ) {
         mDelegate.setOnPolylineClickListener(listener == null
                 ? null
-                : polyline -> listener.onPolylineClick(HuaweiPolyline.wrap(polyline))
+                : polyline -> listener.onPolylineClick(mPolylines.get(polyline))
         );
     }
 
@@ -71,6 +71,22 @@ public class HuaweiPolygon implements Polygon {
         return holes;
     }
 
+    @Override public void setPackedPoints(@NonNull double[] latLngs) {
+        mDelegate.setPoints(HuaweiLatLng.unpack(latLngs));
+    }
+
+    @Override public @NonNull double[] getPackedPoints() {
+        return HuaweiLatLng.pack(mDelegate.getPoints());
+    }
+
+    @Override public void setPackedHoles(@NonNull List<double[]> holes) {
+        List<List<com.huawei.hms.maps.model.LatLng>> gHoles = new ArrayList<>(holes.size());
+        for (double[] hole : holes) {
+            gHoles.add(HuaweiLatLng.unpack(hole));
+        }
+        mDelegate.setHoles(gHoles);
+    }
+
     @Override public void setStrokeWidth(float width) {
         mDelegate.setStrokeWidth(width);
     }
@@ -205,6 +221,16 @@ public class HuaweiPolygon implements Polygon {
             return this;
         }
 
+        @Override public @NonNull Polygon.Options addPackedPoints(@NonNull double[] latLngs) {
+            mDelegate.addAll(HuaweiLatLng.unpack(latLngs));
+            return this;
+        }
+
+        @Override public @NonNull Polygon.Options addPackedHole(@NonNull double[] latLngs) {
+            mDelegate.addHole(HuaweiLatLng.unpack(latLngs));
+            return this;
+        }
+
         @Override public @NonNull Polygon.Options strokeWidth(float width) {
             mDelegate.strokeWidth(width);
             return this;
@@ -254,6 +280,10 @@ public class HuaweiPolygon implements Polygon {
             return HuaweiLatLng.wrap(mDelegate.getPoints());
         }
 
+        @Override public @NonNull double[] getPackedPoints() {
+            return HuaweiLatLng.pack(mDelegate.getPoints());
+        }
+
         @Override public @NonNull List<List<LatLng>> getHoles() {
             List<List<LatLng>> holes = new ArrayList<>();
             for (List<com.huawei.hms.maps.model.LatLng> hole : mDelegate.getHoles()) {
@@ -55,6 +55,14 @@ public class HuaweiPolyline implements Polyline {
         return HuaweiLatLng.wrap(mDelegate.getPoints());
     }
 
+    @Override public void setPackedPoints(@NonNull double[] latLngs) {
+        mDelegate.setPoints(HuaweiLatLng.unpack(latLngs));
+    }
+
+    @Override public @NonNull double[] getPackedPoints() {
+        return HuaweiLatLng.pack(mDelegate.getPoints());
+    }
+
     @Override public void setWidth(float width) {
         mDelegate.setWidth(width);
     }
@@ -192,6 +200,11 @@ public class HuaweiPolyline implements Polyline {
             return this;
         }
 
+        @Override public @NonNull Polyline.Options addPackedPoints(@NonNull double[] latLngs) {
+            mDelegate.addAll(HuaweiLatLng.unpack(latLngs));
+            return this;
+        }
+
         @Override public @NonNull Polyline.Options width(float width) {
             mDelegate.width(width);
             return this;
@@ -246,6 +259,10 @@ public class HuaweiPolyline implements Polyline {
             return HuaweiLatLng.wrap(mDelegate.getPoints());
         }
 
+        @Override public @NonNull double[] getPackedPoints() {
+            return HuaweiLatLng.pack(mDelegate.getPoints());
+        }
+
         @Override public float getWidth() {
             return mDelegate.getWidth();
         }
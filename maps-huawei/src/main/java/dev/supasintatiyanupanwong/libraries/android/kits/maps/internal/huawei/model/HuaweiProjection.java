@@ -41,6 +41,26 @@ class HuaweiProjection implements Projection {
         return mDelegate.toScreenLocation(HuaweiLatLng.unwrap(location));
     }
 
+    @Override public void fromScreenLocations(@NonNull int[] points, @NonNull double[] out) {
+        final Point point = new Point();
+        for (int i = 0; i + 1 < points.length; i += 2) {
+            point.set(points[i], points[i + 1]);
+            final @Nullable com.huawei.hms.maps.model.LatLng location =
+                    mDelegate.fromScreenLocation(point);
+            out[i] = location == null ? Double.NaN : location.latitude;
+            out[i + 1] = location == null ? Double.NaN : location.longitude;
+        }
+    }
+
+    @Override public void toScreenLocations(@NonNull double[] latLngs, @NonNull int[] out) {
+        for (int i = 0; i + 1 < latLngs.length; i += 2) {
+            final Point point = mDelegate.toScreenLocation(
+                    new com.huawei.hms.maps.model.LatLng(latLngs[i], latLngs[i + 1]));
+            out[i] = point.x;
+            out[i + 1] = point.y;
+        }
+    }
+
     @Override public @NonNull VisibleRegion getVisibleRegion() {
         return HuaweiVisibleRegion.wrap(mDelegate.getVisibleRegion());
     }
@@ -61,6 +61,16 @@ public class NilPolygon {
             return this;
         }
 
+        @Override public @NonNull Polygon.Options addPackedPoints(@NonNull double[] latLngs) {
+            // Not supported, no-op.
+            return this;
+        }
+
+        @Override public @NonNull Polygon.Options addPackedHole(@NonNull double[] latLngs) {
+            // Not supported, no-op.
+            return this;
+        }
+
         @Override public @NonNull Polygon.Options strokeWidth(float width) {
             // Not supported, no-op.
             return this;
@@ -111,6 +121,10 @@ public class NilPolygon {
             return Collections.emptyList(); // Not supported, fallback to default.
         }
 
+        @Override public @NonNull double[] getPackedPoints() {
+            return new double[0]; // Not supported, fallback to default.
+        }
+
         @NonNull @Override public List<List<LatLng>> getHoles() {
             return Collections.emptyList(); // Not supported, fallback to default.
         }
@@ -57,6 +57,11 @@ public class NilPolyline {
             return this;
         }
 
+        @Override public @NonNull Polyline.Options addPackedPoints(@NonNull double[] latLngs) {
+            // Not supported, no-op.
+            return this;
+        }
+
         @Override public @NonNull Polyline.Options width(float width) {
             // Not supported, no-op.
             return this;
@@ -111,6 +116,10 @@ public class NilPolyline {
             return Collections.emptyList(); // Not supported, fallback to default.
         }
 
+        @Override public @NonNull double[] getPackedPoints() {
+            return new double[0]; // Not supported, fallback to default.
+        }
+
         @Override public float getWidth() {
             return 0f; // Not supported, fallback to default.
         }
@@ -34,11 +34,12 @@ import java.io.File;
 
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.internal.tomtom.R;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.BitmapDescriptor;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.BitmapDescriptorCache;
 
 @RestrictTo(LIBRARY)
 public class TomTomBitmapDescriptor implements BitmapDescriptor {
 
-    public static final Factory FACTORY = new Factory() {
+    private static final Factory UNCACHED_FACTORY = new Factory() {
         @Override public @NonNull BitmapDescriptor defaultMarker() {
             //noinspection ConstantConditions
             return fromBitmap(
@@ -108,6 +109,8 @@ public class TomTomBitmapDescriptor implements BitmapDescriptor {
         }
     };
 
+    public static final Factory FACTORY = BitmapDescriptorCache.wrap(UNCACHED_FACTORY);
+
 
     private final com.tomtom.sdk.maps.display.image.Image mDelegate;
 
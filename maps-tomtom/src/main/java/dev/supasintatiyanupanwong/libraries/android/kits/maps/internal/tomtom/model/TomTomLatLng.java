@@ -124,4 +124,35 @@ public class TomTomLatLng implements LatLng {
         return list;
     }
 
+    static @NonNull List<com.tomtom.sdk.common.location.GeoCoordinate> unpack(
+            @NonNull double[] latLngs
+    ) {
+        if ((latLngs.length & 1) != 0) {
+            throw new IllegalArgumentException("latLngs must contain latitude-longitude pairs");
+        }
+
+        List<com.tomtom.sdk.common.location.GeoCoordinate> list =
+                new ArrayList<>(latLngs.length >> 1);
+        for (int i = 0; i < latLngs.length; i += 2) {
+            list.add(new com.tomtom.sdk.common.location.GeoCoordinate(latLngs[i], latLngs[i + 1]));
+        }
+        return list;
+    }
+
+    static @NonNull double[] pack(
+            @Nullable List<com.tomtom.sdk.common.location.GeoCoordinate> delegates
+    ) {
+        if (delegates == null) {
+            return new double[0];
+        }
+
+        double[] latLngs = new double[delegates.size() << 1];
+        int i = 0;
+        for (com.tomtom.sdk.common.location.GeoCoordinate d : delegates) {
+            latLngs[i++] = d.getLatitude();
+            latLngs[i++] = d.getLongitude();
+        }
+        return latLngs;
+    }
+
 }
@@ -27,12 +27,12 @@ import com.tomtom.sdk.common.location.GeoCoordinate;
 
 import org.jetbrains.annotations.Contract;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngMath;
 import kotlin.collections.CollectionsKt;
 
 @RestrictTo(LIBRARY)
@@ -91,21 +91,23 @@ public class TomTomLatLngBounds implements LatLngBounds {
     }
 
     @Override public boolean contains(@NonNull LatLng point) {
-        return point.getLatitude() >= mSouthwest.getLatitude()
-                && point.getLongitude() >= mSouthwest.getLongitude()
-                && point.getLatitude() <= mNortheast.getLatitude()
-                && point.getLongitude() <= mNortheast.getLongitude();
+        return LatLngMath.boundsContains(
+                mSouthwest.getLatitude(), mSouthwest.getLongitude(),
+                mNortheast.getLatitude(), mNortheast.getLongitude(),
+                point.getLatitude(), point.getLongitude()
+        );
     }
 
     @Override public @NonNull LatLngBounds including(@NonNull LatLng point) {
-        return wrapGeoBounds(
-                new com.tomtom.sdk.common.location.GeoBounds(
-                        Arrays.asList(
-                                TomTomLatLng.unwrap(mSouthwest),
-                                TomTomLatLng.unwrap(mNortheast),
-                                TomTomLatLng.unwrap(point)
-                        )
+        final LatLngMath.BoundsAccumulator bounds = new LatLngMath.BoundsAccumulator()
+                .set(
+                        mSouthwest.getLatitude(), mSouthwest.getLongitude(),
+                        mNortheast.getLatitude(), mNortheast.getLongitude()
                 )
+                .include(point.getLatitude(), point.getLongitude());
+        return new TomTomLatLngBounds(
+                new TomTomLatLng(bounds.getSouth(), bounds.getWest()),
+                new TomTomLatLng(bounds.getNorth(), bounds.getEast())
         );
     }
 
@@ -113,7 +115,8 @@ public class TomTomLatLngBounds implements LatLngBounds {
         if (mCenter == null) {
             mCenter = new TomTomLatLng(
                     (mSouthwest.getLatitude() + mNortheast.getLatitude()) * 0.5,
-                    (mSouthwest.getLongitude() + mNortheast.getLongitude()) * 0.5
+                    LatLngMath.longitudeSpanCenter(
+                            mSouthwest.getLongitude(), mNortheast.getLongitude())
             );
         }
         return mCenter;
@@ -175,18 +178,22 @@ public class TomTomLatLngBounds implements LatLngBounds {
 
 
     public static class Builder implements LatLngBounds.Builder {
-        private final @NonNull List<LatLng> mPoints = new ArrayList<>();
+        private final LatLngMath.BoundsAccumulator mBounds = new LatLngMath.BoundsAccumulator();
 
         public Builder() {}
 
         @Override public @NonNull LatLngBounds.Builder include(@NonNull LatLng point) {
-            mPoints.add(point);
+            mBounds.include(point.getLatitude(), point.getLongitude());
             return this;
         }
 
         @Override public @NonNull LatLngBounds build() {
-            return wrapGeoBounds(
-                    new com.tomtom.sdk.common.location.GeoBounds(TomTomLatLng.unwrap(mPoints))
+            if (mBounds.isEmpty()) {
+                throw new IllegalStateException("no included points");
+            }
+            return new TomTomLatLngBounds(
+                    new TomTomLatLng(mBounds.getSouth(), mBounds.getWest()),
+                    new TomTomLatLng(mBounds.getNorth(), mBounds.getEast())
             );
         }
     }
@@ -48,6 +48,10 @@ import com.tomtom.sdk.maps.display.ui.MapView;
 import com.tomtom.sdk.maps.display.ui.zoom.DefaultZoomControlsView;
 import com.tomtom.sdk.maps.display.ui.zoom.ZoomControlsView;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.CameraPosition;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.CameraUpdate;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Circle;
@@ -57,10 +61,12 @@ import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LocationSource;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Marker;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Overlays;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polygon;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polyline;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Projection;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.TileOverlay;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.WrapperRegistry;
 import kotlin.Unit;
 import kotlin.jvm.functions.Function0;
 import kotlin.time.DurationKt;
@@ -105,6 +111,18 @@ public class TomTomMapClient implements MapClient {
     private @Nullable com.tomtom.sdk.maps.display.polyline.OnPolylineClickListener
             mPolylineClickListener;
 
+    private final @NonNull WrapperRegistry<com.tomtom.sdk.maps.display.marker.Marker, Marker>
+            mMarkers = new WrapperRegistry<>(TomTomMarker::wrap);
+    // Overlays not added through this client are only wrapped once clicked, thus clickable.
+    private final @NonNull WrapperRegistry<com.tomtom.sdk.maps.display.circle.Circle, Circle>
+            mCircles = new WrapperRegistry<>(delegate -> TomTomCircle.wrap(delegate, true));
+    private final @NonNull WrapperRegistry<com.tomtom.sdk.maps.display.polygon.Polygon, Polygon>
+            mPolygons = new WrapperRegistry<>(delegate -> TomTomPolygon.wrap(delegate, true));
+    private final @NonNull WrapperRegistry<
+            com.tomtom.sdk.maps.display.polyline.Polyline,
+            Polyline
+    > mPolylines = new WrapperRegistry<>(delegate -> TomTomPolyline.wrap(delegate, true));
+
     @SuppressWarnings("KotlinInternalInJava")
     public TomTomMapClient(@NonNull MapView view, @NonNull TomTomMap map) {
         mView = view;
@@ -303,28 +321,25 @@ public class TomTomMapClient implements MapClient {
     }
 
     @Override public @Nullable Polyline addPolyline(@NonNull Polyline.Options options) {
-        return TomTomPolyline.wrap(
-                mMap.addPolyline(TomTomPolyline.Options.unwrap(options)),
-                options.isClickable()
-        );
+        final com.tomtom.sdk.maps.display.polyline.Polyline polyline =
+                mMap.addPolyline(TomTomPolyline.Options.unwrap(options));
+        return mPolylines.put(polyline, TomTomPolyline.wrap(polyline, options.isClickable()));
     }
 
     @Override public @Nullable Polygon addPolygon(@NonNull Polygon.Options options) {
-        return TomTomPolygon.wrap(
-                mMap.addPolygon(TomTomPolygon.Options.unwrap(options)),
-                options.isClickable()
-        );
+        final com.tomtom.sdk.maps.display.polygon.Polygon polygon =
+                mMap.addPolygon(TomTomPolygon.Options.unwrap(options));
+        return mPolygons.put(polygon, TomTomPolygon.wrap(polygon, options.isClickable()));
     }
 
     @Override public @Nullable Circle addCircle(@NonNull Circle.Options options) {
-        return TomTomCircle.wrap(
-                mMap.addCircle(TomTomCircle.Options.unwrap(options)),
-                options.isClickable()
-        );
+        final com.tomtom.sdk.maps.display.circle.Circle circle =
+                mMap.addCircle(TomTomCircle.Options.unwrap(options));
+        return mCircles.put(circle, TomTomCircle.wrap(circle, options.isClickable()));
     }
 
     @Override public @Nullable Marker addMarker(@NonNull Marker.Options options) {
-        return TomTomMarker.wrap(mMap.addMarker(TomTomMarker.Options.unwrap(options)));
+        return mMarkers.get(mMap.addMarker(TomTomMarker.Options.unwrap(options)));
     }
 
     @Override public @Nullable GroundOverlay addGroundOverlay(
@@ -337,8 +352,64 @@ public class TomTomMapClient implements MapClient {
         return null;
     }
 
+    @Override public @NonNull List<Polyline> addPolylines(@NonNull List<Polyline.Options> options) {
+        final List<Polyline> polylines = new ArrayList<>(options.size());
+        for (Polyline.Options option : options) {
+            final com.tomtom.sdk.maps.display.polyline.Polyline polyline =
+                    mMap.addPolyline(TomTomPolyline.Options.unwrap(option));
+            polylines.add(
+                    mPolylines.put(polyline, TomTomPolyline.wrap(polyline, option.isClickable()))
+            );
+        }
+        return polylines;
+    }
+
+    @Override public @NonNull List<Polygon> addPolygons(@NonNull List<Polygon.Options> options) {
+        final List<Polygon> polygons = new ArrayList<>(options.size());
+        for (Polygon.Options option : options) {
+            final com.tomtom.sdk.maps.display.polygon.Polygon polygon =
+                    mMap.addPolygon(TomTomPolygon.Options.unwrap(option));
+            polygons.add(mPolygons.put(polygon, TomTomPolygon.wrap(polygon, option.isClickable())));
+        }
+        return polygons;
+    }
+
+    @Override public @NonNull List<Circle> addCircles(@NonNull List<Circle.Options> options) {
+        final List<Circle> circles = new ArrayList<>(options.size());
+        for (Circle.Options option : options) {
+            final com.tomtom.sdk.maps.display.circle.Circle circle =
+                    mMap.addCircle(TomTomCircle.Options.unwrap(option));
+            circles.add(mCircles.put(circle, TomTomCircle.wrap(circle, option.isClickable())));
+        }
+        return circles;
+    }
+
+    @Override public @NonNull List<Marker> addMarkers(@NonNull List<Marker.Options> options) {
+        final List<com.tomtom.sdk.maps.display.marker.MarkerOptions> unwrapped =
+                new ArrayList<>(options.size());
+        for (Marker.Options option : options) {
+            unwrapped.add(TomTomMarker.Options.unwrap(option));
+        }
+
+        // Markers are added through the bulk API, which lays out and renders them at once.
+        final List<com.tomtom.sdk.maps.display.marker.Marker> added = mMap.addMarkers(unwrapped);
+        final List<Marker> markers = new ArrayList<>(added.size());
+        for (com.tomtom.sdk.maps.display.marker.Marker marker : added) {
+            markers.add(mMarkers.get(marker));
+        }
+        return markers;
+    }
+
+    @Override public void removeAll(@NonNull Collection<?> overlays) {
+        Overlays.removeAll(overlays);
+    }
+
     @Override public void clear() {
         mMap.clear();
+        mMarkers.clear();
+        mCircles.clear();
+        mPolygons.clear();
+        mPolylines.clear();
     }
 
     @Override public @Nullable IndoorBuilding getFocusedBuilding() {
@@ -513,7 +584,7 @@ public class TomTomMapClient implements MapClient {
                 mMap.removeOnMarkerClickListener(previous);
             }
         } else {
-            mMarkerClickListener = marker -> listener.onMarkerClick(TomTomMarker.wrap(marker));
+            mMarkerClickListener = marker -> listener.onMarkerClick(mMarkers.get(marker));
             mMap.addOnMarkerClickListener(mMarkerClickListener);
         }
     }
@@ -611,7 +682,7 @@ public class TomTomMapClient implements MapClient {
             }
         } else {
             mCircleClickListener = circle ->
-                    listener.onCircleClick(TomTomCircle.wrap(circle, true));
+                    listener.onCircleClick(mCircles.get(circle));
             mMap.addOnCircleClickListener(mCircleClickListener);
         }
     }
@@ -627,7 +698,7 @@ public class TomTomMapClient implements MapClient {
             }
         } else {
             mPolygonClickListener = polygon ->
-                    listener.onPolygonClick(TomTomPolygon.wrap(polygon, true));
+                    listener.onPolygonClick(mPolygons.get(polygon));
             mMap.addOnPolygonClickListener(mPolygonClickListener);
         }
     }
@@ -643,7 +714,7 @@ public class TomTomMapClient implements MapClient {
             }
         } else {
             mPolylineClickListener = polyline ->
-                    listener.onPolylineClick(TomTomPolyline.wrap(polyline, true));
+                    listener.onPolylineClick(mPolylines.get(polyline));
             mMap.addOnPolylineClickListener(mPolylineClickListener);
         }
     }
@@ -74,6 +74,18 @@ public class TomTomPolygon implements Polygon {
         return Collections.emptyList();
     }
 
+    @Override public void setPackedPoints(@NonNull double[] latLngs) {
+        mDelegate.setCoordinates(TomTomLatLng.unpack(latLngs));
+    }
+
+    @Override public @NonNull double[] getPackedPoints() {
+        return TomTomLatLng.pack(mDelegate.getCoordinates());
+    }
+
+    @Override public void setPackedHoles(@NonNull List<double[]> holes) {
+        // No-op on TomTom Map
+    }
+
     @Override public void setStrokeWidth(float width) {
         mDelegate.setOutlineWidth(width);
     }
@@ -185,7 +197,8 @@ public class TomTomPolygon implements Polygon {
 
 
     public static class Options implements Polygon.Options {
-        private final @NonNull List<LatLng> mPoints = new ArrayList<>();
+        private final @NonNull List<com.tomtom.sdk.common.location.GeoCoordinate> mPoints =
+                new ArrayList<>();
         private float mStrokeWidth = 10f;
         private @ColorInt int mStrokeColor = Color.BLACK;
         private @ColorInt int mFillColor = Color.BLACK;
@@ -196,7 +209,7 @@ public class TomTomPolygon implements Polygon {
 
         @Override public @NonNull Polygon.Options add(LatLng point) {
             if (point != null) {
-                mPoints.add(point);
+                mPoints.add(TomTomLatLng.unwrap(point));
             }
             return this;
         }
@@ -220,6 +233,16 @@ public class TomTomPolygon implements Polygon {
             return this;
         }
 
+        @Override public @NonNull Polygon.Options addPackedPoints(@NonNull double[] latLngs) {
+            mPoints.addAll(TomTomLatLng.unpack(latLngs));
+            return this;
+        }
+
+        @Override public @NonNull Polygon.Options addPackedHole(@NonNull double[] latLngs) {
+            // No-op on TomTom Map
+            return this;
+        }
+
         @Override public @NonNull Polygon.Options strokeWidth(float width) {
             mStrokeWidth = width;
             return this;
@@ -266,7 +289,11 @@ public class TomTomPolygon implements Polygon {
         }
 
         @Override @NonNull public List<LatLng> getPoints() {
-            return mPoints;
+            return TomTomLatLng.wrap(mPoints);
+        }
+
+        @Override public @NonNull double[] getPackedPoints() {
+            return TomTomLatLng.pack(mPoints);
         }
 
         @Override public @NonNull List<List<LatLng>> getHoles() {
@@ -316,7 +343,7 @@ public class TomTomPolygon implements Polygon {
                 @NonNull Polygon.Options wrapped
         ) {
             return new com.tomtom.sdk.maps.display.polygon.PolygonOptions(
-                    TomTomLatLng.unwrap(wrapped.getPoints()),
+                    new ArrayList<>(((TomTomPolygon.Options) wrapped).mPoints),
                     TomTomColor.unwrap(wrapped.getStrokeColor()),
                     wrapped.getStrokeWidth(),
                     TomTomColor.unwrap(wrapped.getFillColor()),
@@ -34,9 +34,11 @@ import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.JointType;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.PatternItem;
 import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polyline;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.ZoomStops;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.ZoomStopsSupport;
 
 @RestrictTo(LIBRARY)
-public class TomTomPolyline implements Polyline {
+public class TomTomPolyline implements Polyline, ZoomStopsSupport {
 
     private final @NonNull com.tomtom.sdk.maps.display.polyline.Polyline mDelegate;
     private final boolean mClickable;
@@ -68,6 +70,14 @@ public class TomTomPolyline implements Polyline {
         return TomTomLatLng.wrap(mDelegate.getCoordinates());
     }
 
+    @Override public void setPackedPoints(@NonNull double[] latLngs) {
+        mDelegate.setCoordinates(TomTomLatLng.unpack(latLngs));
+    }
+
+    @Override public @NonNull double[] getPackedPoints() {
+        return TomTomLatLng.pack(mDelegate.getCoordinates());
+    }
+
     @Override public void setWidth(float width) {
         mDelegate.setLineWidths(TomTomWidth.unwrap(width));
     }
@@ -76,6 +86,13 @@ public class TomTomPolyline implements Polyline {
         return TomTomWidth.wrap(mDelegate.getLineWidths());
     }
 
+    @Override public boolean setWidthStops(@Nullable ZoomStops stops) {
+        mDelegate.setLineWidths(stops == null
+                ? TomTomWidth.unwrap(getWidth())
+                : TomTomWidth.unwrap(stops));
+        return true;
+    }
+
     @Override public void setColor(@ColorInt int color) {
         mDelegate.setLineColor(TomTomColor.unwrap(color));
     }
@@ -187,7 +204,8 @@ public class TomTomPolyline implements Polyline {
 
 
     public static class Options implements Polyline.Options {
-        private final @NonNull List<LatLng> mPoints = new ArrayList<>();
+        private final @NonNull List<com.tomtom.sdk.common.location.GeoCoordinate> mPoints =
+                new ArrayList<>();
         private float mWidth = 4.0f;
         private int mColor = Color.BLUE;
         private @NonNull Cap mStartCap = TomTomButtCap.INSTANCE;
@@ -197,22 +215,26 @@ public class TomTomPolyline implements Polyline {
         public Options() {}
 
         @Override public @NonNull Polyline.Options add(LatLng point) {
-            mPoints.add(point);
+            mPoints.add(TomTomLatLng.unwrap(point));
             return this;
         }
 
         @Override public @NonNull Polyline.Options add(LatLng... points) {
-            mPoints.addAll(Arrays.asList(points));
-            return this;
+            return addAll(Arrays.asList(points));
         }
 
         @Override public @NonNull Polyline.Options addAll(Iterable<LatLng> points) {
             for (LatLng point : points) {
-                mPoints.add(point);
+                mPoints.add(TomTomLatLng.unwrap(point));
             }
             return this;
         }
 
+        @Override public @NonNull Polyline.Options addPackedPoints(@NonNull double[] latLngs) {
+            mPoints.addAll(TomTomLatLng.unpack(latLngs));
+            return this;
+        }
+
         @Override public @NonNull Polyline.Options width(float width) {
             mWidth = width;
             return this;
@@ -264,7 +286,11 @@ public class TomTomPolyline implements Polyline {
         }
 
         @Override public List<LatLng> getPoints() {
-            return mPoints;
+            return TomTomLatLng.wrap(mPoints);
+        }
+
+        @Override public @NonNull double[] getPackedPoints() {
+            return TomTomLatLng.pack(mPoints);
         }
 
         @Override public float getWidth() {
@@ -312,7 +338,7 @@ public class TomTomPolyline implements Polyline {
                 @NonNull Polyline.Options wrapped
         ) {
             return new com.tomtom.sdk.maps.display.polyline.PolylineOptions(
-                    TomTomLatLng.unwrap(wrapped.getPoints()),
+                    new ArrayList<>(((TomTomPolyline.Options) wrapped).mPoints),
                     TomTomColor.unwrap(wrapped.getColor()),
                     TomTomWidth.unwrap(wrapped.getWidth()),
                     TomTomColor.unwrap(Color.TRANSPARENT),
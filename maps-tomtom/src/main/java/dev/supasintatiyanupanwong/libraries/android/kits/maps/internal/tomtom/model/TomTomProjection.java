@@ -58,6 +58,32 @@ class TomTomProjection implements Projection {
         return mDelegate.pointForCoordinate(TomTomLatLng.unwrap(location));
     }
 
+    @Override public void fromScreenLocations(@NonNull int[] points, @NonNull double[] out) {
+        final Point point = new Point();
+        for (int i = 0; i + 1 < points.length; i += 2) {
+            point.set(points[i], points[i + 1]);
+            final @NonNull Result<GeoCoordinate, InvalidPointException> result =
+                    mDelegate.coordinateForPoint(point);
+
+            if (result.isSuccess()) {
+                out[i] = result.value().getLatitude();
+                out[i + 1] = result.value().getLongitude();
+            } else {
+                out[i] = Double.NaN;
+                out[i + 1] = Double.NaN;
+            }
+        }
+    }
+
+    @Override public void toScreenLocations(@NonNull double[] latLngs, @NonNull int[] out) {
+        for (int i = 0; i + 1 < latLngs.length; i += 2) {
+            final Point point =
+                    mDelegate.pointForCoordinate(new GeoCoordinate(latLngs[i], latLngs[i + 1]));
+            out[i] = point.x;
+            out[i + 1] = point.y;
+        }
+    }
+
     @Override public @NonNull VisibleRegion getVisibleRegion() {
         return TomTomVisibleRegion.wrap(mDelegate.getVisibleRegion().value());
     }
@@ -20,20 +20,32 @@ import androidx.annotation.NonNull;
 
 import com.tomtom.sdk.maps.display.common.WidthByZoom;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.ZoomStops;
+
 final class TomTomWidth {
 
     private TomTomWidth() {}
 
 
     static float wrap(@NonNull List<WidthByZoom> delegate) {
-        return delegate.isEmpty() ? 0 : (float) delegate.get(0).getZoom();
+        return delegate.isEmpty() ? 0 : (float) delegate.get(0).getWidth();
     }
 
     static @NonNull List<WidthByZoom> unwrap(float wrapped) {
         return Collections.singletonList(new WidthByZoom(wrapped, WidthByZoom.DEFAULT_ZOOM_LEVEL));
     }
 
+    static @NonNull List<WidthByZoom> unwrap(@NonNull ZoomStops stops) {
+        final int count = stops.getCount();
+        final List<WidthByZoom> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(new WidthByZoom(stops.getValueAt(i), stops.getZoomAt(i)));
+        }
+        return list;
+    }
+
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.clustering;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.util.Collection;
+import java.util.Set;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+
+/**
+ * Logic for computing clusters.
+ * <p>
+ * Implementations must be thread-safe, as items may be added or removed from the Android UI
+ * thread while clusters are being computed on a background thread.
+ *
+ * @param <T> The type of the items to be clustered.
+ * @since 2.4.0
+ */
+public interface Algorithm<T extends ClusterItem> {
+
+    /**
+     * Adds an item to be clustered.
+     *
+     * @param item The item to be added.
+     * @return {@code true} if the set of items was modified; {@code false} otherwise.
+     */
+    boolean addItem(@NonNull T item);
+
+    /**
+     * Adds a collection of items to be clustered.
+     *
+     * @param items The items to be added.
+     * @return {@code true} if the set of items was modified; {@code false} otherwise.
+     */
+    boolean addItems(@NonNull Collection<T> items);
+
+    /**
+     * Removes an item from being clustered.
+     *
+     * @param item The item to be removed.
+     * @return {@code true} if the set of items was modified; {@code false} otherwise.
+     */
+    boolean removeItem(@NonNull T item);
+
+    /**
+     * Removes a collection of items from being clustered.
+     *
+     * @param items The items to be removed.
+     * @return {@code true} if the set of items was modified; {@code false} otherwise.
+     */
+    boolean removeItems(@NonNull Collection<T> items);
+
+    /**
+     * Removes all items from being clustered.
+     */
+    void clearItems();
+
+    /**
+     * Returns a snapshot of the items being clustered.
+     *
+     * @return A snapshot of the items being clustered.
+     */
+    @NonNull Collection<T> getItems();
+
+    /**
+     * Computes the clusters for the given zoom level.
+     *
+     * @param zoom   The zoom level to compute the clusters for.
+     * @param bounds The bounds to restrict the computation to, or {@code null} to cluster every
+     *               item.
+     * @return The computed clusters, including single-item clusters.
+     */
+    @WorkerThread
+    @NonNull Set<? extends Cluster<T>> getClusters(float zoom, @Nullable LatLngBounds bounds);
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.clustering;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngMath;
+
+/**
+ * Base of the built-in algorithms, which keeps the items in a {@link PointQuadTree} so that only
+ * the items within the requested bounds need to be visited.
+ */
+abstract class BaseAlgorithm<T extends ClusterItem> implements Algorithm<T> {
+
+    private final @NonNull Object mLock = new Object();
+
+    private final @NonNull Map<T, PointQuadTree.Item<T>> mItems = new LinkedHashMap<>();
+    private final @NonNull PointQuadTree<T> mQuadTree = new PointQuadTree<>();
+
+    @Override public boolean addItem(@NonNull T item) {
+        synchronized (mLock) {
+            return addItemLocked(item);
+        }
+    }
+
+    @Override public boolean addItems(@NonNull Collection<T> items) {
+        boolean modified = false;
+        synchronized (mLock) {
+            for (T item : items) {
+                modified |= addItemLocked(item);
+            }
+        }
+        return modified;
+    }
+
+    @Override public boolean removeItem(@NonNull T item) {
+        synchronized (mLock) {
+            return removeItemLocked(item);
+        }
+    }
+
+    @Override public boolean removeItems(@NonNull Collection<T> items) {
+        boolean modified = false;
+        synchronized (mLock) {
+            for (T item : items) {
+                modified |= removeItemLocked(item);
+            }
+        }
+        return modified;
+    }
+
+    @Override public void clearItems() {
+        synchronized (mLock) {
+            mItems.clear();
+            mQuadTree.clear();
+        }
+    }
+
+    @Override public @NonNull Collection<T> getItems() {
+        synchronized (mLock) {
+            return new ArrayList<>(mItems.keySet());
+        }
+    }
+
+    @Override public @NonNull Set<? extends Cluster<T>> getClusters(
+            float zoom,
+            @Nullable LatLngBounds bounds
+    ) {
+        synchronized (mLock) {
+            final List<PointQuadTree.Item<T>> candidates = new ArrayList<>();
+            if (bounds == null) {
+                candidates.addAll(mItems.values());
+            } else {
+                final double minY = LatLngMath.mercatorY(bounds.getNortheast().getLatitude());
+                final double maxY = LatLngMath.mercatorY(bounds.getSouthwest().getLatitude());
+                final double west = LatLngMath.mercatorX(bounds.getSouthwest().getLongitude());
+                final double east = LatLngMath.mercatorX(bounds.getNortheast().getLongitude());
+                if (west <= east) {
+                    mQuadTree.search(west, minY, east, maxY, candidates);
+                } else { // Crossing the antimeridian
+                    mQuadTree.search(west, minY, 1, maxY, candidates);
+                    mQuadTree.search(0, minY, east, maxY, candidates);
+                }
+            }
+            return cluster(zoom, candidates);
+        }
+    }
+
+    /**
+     * Computes the clusters of the given candidates. This is called while holding the lock of
+     * this algorithm.
+     */
+    abstract @NonNull Set<? extends Cluster<T>> cluster(
+            float zoom,
+            @NonNull List<PointQuadTree.Item<T>> candidates
+    );
+
+    /**
+     * Collects the items within the given rectangle. This must only be called from {@link
+     * #cluster(float, List)}.
+     */
+    final void search(
+            double minX,
+            double minY,
+            double maxX,
+            double maxY,
+            @NonNull Collection<PointQuadTree.Item<T>> out
+    ) {
+        mQuadTree.search(minX, minY, maxX, maxY, out);
+    }
+
+    private boolean addItemLocked(@NonNull T item) {
+        if (mItems.containsKey(item)) {
+            return false;
+        }
+
+        final LatLng position = item.getPosition();
+        final PointQuadTree.Item<T> quadItem = new PointQuadTree.Item<>(
+                item,
+                LatLngMath.mercatorX(position.getLongitude()),
+                LatLngMath.mercatorY(position.getLatitude())
+        );
+        mItems.put(item, quadItem);
+        mQuadTree.add(quadItem);
+        return true;
+    }
+
+    private boolean removeItemLocked(@NonNull T item) {
+        final @Nullable PointQuadTree.Item<T> quadItem = mItems.remove(item);
+        return quadItem != null && mQuadTree.remove(quadItem);
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.clustering;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collection;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
+
+/**
+ * A collection of {@link ClusterItem}s that are nearby each other.
+ *
+ * @param <T> The type of the items in this cluster.
+ * @since 2.4.0
+ */
+public interface Cluster<T extends ClusterItem> {
+
+    /**
+     * Gets the position of this cluster.
+     *
+     * @return The position of this cluster.
+     */
+    @NonNull LatLng getPosition();
+
+    /**
+     * Gets the items in this cluster.
+     *
+     * @return The items in this cluster.
+     */
+    @NonNull Collection<T> getItems();
+
+    /**
+     * Gets the number of items in this cluster.
+     *
+     * @return The number of items in this cluster.
+     */
+    int getSize();
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.clustering;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
+
+/**
+ * An object that can be clustered by a {@link ClusterManager}.
+ * <p>
+ * The position of an item is expected to be stable while it is managed by a {@link
+ * ClusterManager}. To move an item, remove it from the manager and add it again.
+ *
+ * @since 2.4.0
+ */
+public interface ClusterItem {
+
+    /**
+     * The position of this item. This is used to compute the clusters this item belongs to and
+     * the position of its marker when it is not clustered.
+     *
+     * @return The position of this item.
+     */
+    @NonNull LatLng getPosition();
+
+    /**
+     * The title of this item, which is used as the title of its marker.
+     *
+     * @return The title of this item, or {@code null} if none.
+     */
+    @Nullable String getTitle();
+
+    /**
+     * The snippet of this item, which is used as the snippet of its marker.
+     *
+     * @return The snippet of this item, or {@code null} if none.
+     */
+    @Nullable String getSnippet();
+
+}
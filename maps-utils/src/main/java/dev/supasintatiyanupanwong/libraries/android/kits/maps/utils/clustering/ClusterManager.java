@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.clustering;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Marker;
+
+/**
+ * Groups many items on a map based on zoom level.
+ * <p>
+ * Clusters are computed off the main thread for the visible region plus a margin around it, and
+ * are only recomputed when the camera leaves that margin, the zoom level crosses an integer, or
+ * the items have changed. Only the latest computation is ever rendered.
+ * <p>
+ * Since a {@link MapClient} only holds a single listener of each kind, the manager has to be
+ * registered by the caller:
+ *
+ * <pre>
+ * ClusterManager&lt;MyItem&gt; clusterManager = new ClusterManager&lt;&gt;(context, map);
+ * map.setOnCameraIdleListener(clusterManager);
+ * map.setOnMarkerClickListener(clusterManager);
+ * </pre>
+ *
+ * @param <T> The type of the items to be clustered.
+ * @since 2.4.0
+ */
+public class ClusterManager<T extends ClusterItem> implements
+        MapClient.OnCameraIdleListener,
+        MapClient.OnMarkerClickListener {
+
+    // Fraction of the visible span to cluster beyond each edge of the visible region.
+    private static final double BOUNDS_MARGIN = 0.5;
+
+    private static final Executor sExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "MapKit-Clustering");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final @NonNull MapClient mMap;
+    private final @NonNull Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    private @NonNull Algorithm<T> mAlgorithm;
+    private @NonNull ClusterRenderer<T> mRenderer;
+
+    private @Nullable OnClusterClickListener<T> mOnClusterClickListener;
+    private @Nullable OnClusterItemClickListener<T> mOnClusterItemClickListener;
+
+    private int mSequence;
+    private boolean mDirty = true;
+    private int mLastZoom;
+    private @Nullable LatLngBounds mLastBounds;
+
+    public ClusterManager(@NonNull Context context, @NonNull MapClient map) {
+        this(context, map, new DistanceBasedAlgorithm<>());
+    }
+
+    public ClusterManager(
+            @NonNull Context context,
+            @NonNull MapClient map,
+            @NonNull Algorithm<T> algorithm
+    ) {
+        mMap = map;
+        mAlgorithm = algorithm;
+        mRenderer = new DefaultClusterRenderer<>(context, map);
+    }
+
+    /**
+     * Sets the algorithm used to compute clusters. Items of the current algorithm are moved to
+     * the new one.
+     *
+     * @param algorithm The algorithm to be used.
+     */
+    @UiThread
+    public void setAlgorithm(@NonNull Algorithm<T> algorithm) {
+        algorithm.addItems(mAlgorithm.getItems());
+        mAlgorithm = algorithm;
+        mDirty = true;
+        cluster();
+    }
+
+    @UiThread
+    public @NonNull Algorithm<T> getAlgorithm() {
+        return mAlgorithm;
+    }
+
+    /**
+     * Sets the renderer used to show clusters. Everything rendered by the current renderer is
+     * removed.
+     *
+     * @param renderer The renderer to be used.
+     */
+    @UiThread
+    public void setRenderer(@NonNull ClusterRenderer<T> renderer) {
+        mRenderer.onRemove();
+        mRenderer = renderer;
+        mDirty = true;
+        cluster();
+    }
+
+    @UiThread
+    public @NonNull ClusterRenderer<T> getRenderer() {
+        return mRenderer;
+    }
+
+    /**
+     * Adds an item. Call {@link #cluster()} for the change to take effect.
+     */
+    public boolean addItem(@NonNull T item) {
+        return markDirty(mAlgorithm.addItem(item));
+    }
+
+    /**
+     * Adds a collection of items. Call {@link #cluster()} for the change to take effect.
+     */
+    public boolean addItems(@NonNull Collection<T> items) {
+        return markDirty(mAlgorithm.addItems(items));
+    }
+
+    /**
+     * Removes an item. Call {@link #cluster()} for the change to take effect.
+     */
+    public boolean removeItem(@NonNull T item) {
+        return markDirty(mAlgorithm.removeItem(item));
+    }
+
+    /**
+     * Removes a collection of items. Call {@link #cluster()} for the change to take effect.
+     */
+    public boolean removeItems(@NonNull Collection<T> items) {
+        return markDirty(mAlgorithm.removeItems(items));
+    }
+
+    /**
+     * Removes all items. Call {@link #cluster()} for the change to take effect.
+     */
+    public void clearItems() {
+        mAlgorithm.clearItems();
+        mDirty = true;
+    }
+
+    /**
+     * Recomputes the clusters around the current camera position and renders them once ready.
+     */
+    @UiThread
+    public void cluster() {
+        final float zoom = mMap.getCameraPosition().getZoom();
+        final @Nullable LatLngBounds bounds =
+                expand(mMap.getProjection().getVisibleRegion().getLatLngBounds());
+
+        mDirty = false;
+        mLastZoom = (int) zoom;
+        mLastBounds = bounds;
+
+        final int sequence = ++mSequence;
+        final Algorithm<T> algorithm = mAlgorithm;
+        sExecutor.execute(() -> {
+            final Set<? extends Cluster<T>> clusters = algorithm.getClusters(zoom, bounds);
+            mMainHandler.post(() -> {
+                if (sequence == mSequence) {
+                    mRenderer.onClustersChanged(clusters);
+                }
+            });
+        });
+    }
+
+    /**
+     * Sets a callback that's invoked when a cluster is tapped.
+     */
+    @UiThread
+    public void setOnClusterClickListener(@Nullable OnClusterClickListener<T> listener) {
+        mOnClusterClickListener = listener;
+    }
+
+    /**
+     * Sets a callback that's invoked when an individual item is tapped.
+     */
+    @UiThread
+    public void setOnClusterItemClickListener(@Nullable OnClusterItemClickListener<T> listener) {
+        mOnClusterItemClickListener = listener;
+    }
+
+    @Override public void onCameraIdle() {
+        if (!mDirty && (int) mMap.getCameraPosition().getZoom() == mLastZoom) {
+            final @Nullable LatLngBounds last = mLastBounds;
+            if (last == null) {
+                return; // The whole world has been clustered.
+            }
+            final LatLngBounds visible =
+                    mMap.getProjection().getVisibleRegion().getLatLngBounds();
+            if (last.contains(visible.getSouthwest()) && last.contains(visible.getNortheast())) {
+                return;
+            }
+        }
+        cluster();
+    }
+
+    @Override public boolean onMarkerClick(@NonNull Marker marker) {
+        final @Nullable Cluster<T> cluster = mRenderer.getCluster(marker);
+        if (cluster != null) {
+            final @Nullable OnClusterClickListener<T> listener = mOnClusterClickListener;
+            return listener != null && listener.onClusterClick(cluster);
+        }
+
+        final @Nullable T item = mRenderer.getClusterItem(marker);
+        if (item != null) {
+            final @Nullable OnClusterItemClickListener<T> listener = mOnClusterItemClickListener;
+            return listener != null && listener.onClusterItemClick(item);
+        }
+
+        return false;
+    }
+
+
+    private boolean markDirty(boolean modified) {
+        if (modified) {
+            mDirty = true;
+        }
+        return modified;
+    }
+
+    /**
+     * Expands the given bounds by {@link #BOUNDS_MARGIN} on every side, or returns {@code null} if
+     * the expanded bounds would wrap around the world.
+     */
+    private static @Nullable LatLngBounds expand(@NonNull LatLngBounds bounds) {
+        final LatLng southwest = bounds.getSouthwest();
+        final LatLng northeast = bounds.getNortheast();
+
+        double lngSpan = northeast.getLongitude() - southwest.getLongitude();
+        if (lngSpan < 0) {
+            lngSpan += 360;
+        }
+        if (lngSpan * (1 + 2 * BOUNDS_MARGIN) >= 360) {
+            return null;
+        }
+        final double latSpan = northeast.getLatitude() - southwest.getLatitude();
+
+        return MapKit.newLatLngBounds(
+                MapKit.newLatLng(
+                        Math.max(-90, southwest.getLatitude() - latSpan * BOUNDS_MARGIN),
+                        wrapLongitude(southwest.getLongitude() - lngSpan * BOUNDS_MARGIN)
+                ),
+                MapKit.newLatLng(
+                        Math.min(90, northeast.getLatitude() + latSpan * BOUNDS_MARGIN),
+                        wrapLongitude(northeast.getLongitude() + lngSpan * BOUNDS_MARGIN)
+                )
+        );
+    }
+
+    private static double wrapLongitude(double longitude) {
+        return ((longitude + 180) % 360 + 360) % 360 - 180;
+    }
+
+
+    /**
+     * Interface definition for a callback to be invoked when a cluster is tapped.
+     *
+     * @param <T> The type of the clustered items.
+     */
+    public interface OnClusterClickListener<T extends ClusterItem> {
+        /**
+         * Called when a cluster has been tapped.
+         *
+         * @param cluster The cluster that was tapped.
+         * @return {@code true} if the listener has consumed the event; {@code false} otherwise.
+         */
+        @UiThread
+        boolean onClusterClick(@NonNull Cluster<T> cluster);
+    }
+
+    /**
+     * Interface definition for a callback to be invoked when an individual item is tapped.
+     *
+     * @param <T> The type of the clustered items.
+     */
+    public interface OnClusterItemClickListener<T extends ClusterItem> {
+        /**
+         * Called when an individual item has been tapped.
+         *
+         * @param item The item that was tapped.
+         * @return {@code true} if the listener has consumed the event; {@code false} otherwise.
+         */
+        @UiThread
+        boolean onClusterItemClick(@NonNull T item);
+    }
+
+}
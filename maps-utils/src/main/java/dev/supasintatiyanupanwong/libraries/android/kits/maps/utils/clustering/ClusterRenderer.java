@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.clustering;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import java.util.Set;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Marker;
+
+/**
+ * Renders the clusters computed by an {@link Algorithm} onto a map.
+ *
+ * @param <T> The type of the items being clustered.
+ * @since 2.4.0
+ */
+public interface ClusterRenderer<T extends ClusterItem> {
+
+    /**
+     * Called when the set of clusters to be shown has changed.
+     *
+     * @param clusters The clusters to be shown.
+     */
+    @UiThread
+    void onClustersChanged(@NonNull Set<? extends Cluster<T>> clusters);
+
+    /**
+     * Called when the renderer is no longer being used, to remove everything it has added to the
+     * map.
+     */
+    @UiThread
+    void onRemove();
+
+    /**
+     * Gets the cluster represented by the given marker.
+     *
+     * @param marker The marker to look up.
+     * @return The cluster represented by the marker, or {@code null} if the marker does not
+     * represent a cluster rendered by this renderer.
+     */
+    @UiThread
+    @Nullable Cluster<T> getCluster(@NonNull Marker marker);
+
+    /**
+     * Gets the item represented by the given marker.
+     *
+     * @param marker The marker to look up.
+     * @return The item represented by the marker, or {@code null} if the marker does not
+     * represent an item rendered by this renderer.
+     */
+    @UiThread
+    @Nullable T getClusterItem(@NonNull Marker marker);
+
+}
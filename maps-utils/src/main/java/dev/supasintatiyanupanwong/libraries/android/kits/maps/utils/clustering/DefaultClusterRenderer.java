@@ -0,0 +1,367 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.clustering;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.util.SparseArray;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.BitmapDescriptor;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Marker;
+
+/**
+ * The default {@link ClusterRenderer}, which shows each cluster as a colored circle labelled with
+ * the number of its items, and each item of a small cluster as a marker of its own.
+ * <p>
+ * Markers are reused across renders: an item keeps its marker for as long as it is not clustered,
+ * and a cluster marker is moved to a new cluster rather than being removed and added again. This
+ * keeps the number of marker additions and removals proportional to what actually changed on
+ * screen.
+ *
+ * @param <T> The type of the items being clustered.
+ * @since 2.4.0
+ */
+public class DefaultClusterRenderer<T extends ClusterItem> implements ClusterRenderer<T> {
+
+    private static final int[] BUCKETS = { 10, 20, 50, 100, 200, 500, 1000 };
+
+    private static final int DEFAULT_MIN_CLUSTER_SIZE = 4;
+
+    private static final int ICON_SIZE_DP = 40;
+    private static final int ICON_STROKE_DP = 3;
+    private static final int TEXT_SIZE_DP = 14;
+
+    private final @NonNull MapClient mMap;
+    private final float mDensity;
+
+    private final @NonNull Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final @NonNull Paint mTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final @NonNull SparseArray<BitmapDescriptor> mIcons = new SparseArray<>();
+
+    private @NonNull Map<T, Marker> mItemMarkers = new HashMap<>();
+    private final @NonNull Map<Marker, T> mMarkerItems = new HashMap<>();
+    private @NonNull Map<Cluster<T>, Marker> mClusterMarkers = new HashMap<>();
+    private final @NonNull Map<Marker, Cluster<T>> mMarkerClusters = new HashMap<>();
+    private final @NonNull Map<Marker, Integer> mMarkerBuckets = new HashMap<>();
+
+    private int mMinClusterSize = DEFAULT_MIN_CLUSTER_SIZE;
+
+    public DefaultClusterRenderer(@NonNull Context context, @NonNull MapClient map) {
+        mMap = map;
+        mDensity = context.getResources().getDisplayMetrics().density;
+
+        mTextPaint.setColor(Color.WHITE);
+        mTextPaint.setTextAlign(Paint.Align.CENTER);
+        mTextPaint.setTypeface(Typeface.DEFAULT_BOLD);
+        mTextPaint.setTextSize(TEXT_SIZE_DP * mDensity);
+    }
+
+    /**
+     * Sets the minimum number of items for a cluster to be rendered as a cluster. Smaller clusters
+     * have their items rendered individually. The default is 4.
+     *
+     * @param minClusterSize The minimum number of items for a cluster to be rendered as a cluster.
+     */
+    public void setMinClusterSize(int minClusterSize) {
+        mMinClusterSize = minClusterSize;
+    }
+
+    /**
+     * Gets the minimum number of items for a cluster to be rendered as a cluster.
+     *
+     * @return The minimum number of items for a cluster to be rendered as a cluster.
+     */
+    public int getMinClusterSize() {
+        return mMinClusterSize;
+    }
+
+    @Override public void onClustersChanged(@NonNull Set<? extends Cluster<T>> clusters) {
+        final Map<T, Marker> staleItemMarkers = mItemMarkers;
+        final Map<Cluster<T>, Marker> staleClusterMarkers = mClusterMarkers;
+        mItemMarkers = new HashMap<>();
+        mClusterMarkers = new HashMap<>();
+        mMarkerItems.clear();
+        mMarkerClusters.clear();
+
+        // Stale clusters may share a position, e.g. of coincident items.
+        final Map<LatLng, List<Marker>> spareClusterMarkers = new HashMap<>();
+        for (Map.Entry<Cluster<T>, Marker> entry : staleClusterMarkers.entrySet()) {
+            final LatLng position = entry.getKey().getPosition();
+            @Nullable List<Marker> markers = spareClusterMarkers.get(position);
+            if (markers == null) {
+                markers = new ArrayList<>(1);
+                spareClusterMarkers.put(position, markers);
+            }
+            markers.add(entry.getValue());
+        }
+
+        final List<Cluster<T>> unmatchedClusters = new ArrayList<>();
+        for (Cluster<T> cluster : clusters) {
+            if (!shouldRenderAsCluster(cluster)) {
+                for (T item : cluster.getItems()) {
+                    renderClusterItem(item, staleItemMarkers.remove(item));
+                }
+                continue;
+            }
+
+            final @Nullable List<Marker> markers = spareClusterMarkers.get(cluster.getPosition());
+            if (markers != null) {
+                final Marker marker = markers.remove(markers.size() - 1);
+                if (markers.isEmpty()) {
+                    spareClusterMarkers.remove(cluster.getPosition());
+                }
+                onClusterUpdated(cluster, marker);
+                bindCluster(cluster, marker);
+            } else {
+                unmatchedClusters.add(cluster);
+            }
+        }
+
+        final List<Marker> leftoverClusterMarkers = new ArrayList<>();
+        for (List<Marker> markers : spareClusterMarkers.values()) {
+            leftoverClusterMarkers.addAll(markers);
+        }
+        for (Cluster<T> cluster : unmatchedClusters) {
+            if (!leftoverClusterMarkers.isEmpty()) {
+                final Marker marker =
+                        leftoverClusterMarkers.remove(leftoverClusterMarkers.size() - 1);
+                marker.setPosition(cluster.getPosition());
+                onClusterUpdated(cluster, marker);
+                bindCluster(cluster, marker);
+            } else {
+                renderCluster(cluster);
+            }
+        }
+
+        for (Marker marker : leftoverClusterMarkers) {
+            mMarkerBuckets.remove(marker);
+            marker.remove();
+        }
+        for (Marker marker : staleItemMarkers.values()) {
+            marker.remove();
+        }
+    }
+
+    @Override public void onRemove() {
+        for (Marker marker : mItemMarkers.values()) {
+            marker.remove();
+        }
+        for (Marker marker : mClusterMarkers.values()) {
+            marker.remove();
+        }
+        mItemMarkers.clear();
+        mClusterMarkers.clear();
+        mMarkerItems.clear();
+        mMarkerClusters.clear();
+        mMarkerBuckets.clear();
+    }
+
+    @Override public @Nullable Cluster<T> getCluster(@NonNull Marker marker) {
+        return mMarkerClusters.get(marker);
+    }
+
+    @Override public @Nullable T getClusterItem(@NonNull Marker marker) {
+        return mMarkerItems.get(marker);
+    }
+
+    /**
+     * Gets the marker currently representing the given item.
+     *
+     * @param item The item to look up.
+     * @return The marker of the item, or {@code null} if the item is not rendered individually.
+     */
+    @UiThread
+    public @Nullable Marker getMarker(@NonNull T item) {
+        return mItemMarkers.get(item);
+    }
+
+    /**
+     * Gets the marker currently representing the given cluster.
+     *
+     * @param cluster The cluster to look up.
+     * @return The marker of the cluster, or {@code null} if the cluster is not rendered as a
+     * cluster.
+     */
+    @UiThread
+    public @Nullable Marker getMarker(@NonNull Cluster<T> cluster) {
+        return mClusterMarkers.get(cluster);
+    }
+
+
+    /**
+     * Determines whether the given cluster should be rendered as a cluster, or as individual
+     * items.
+     */
+    protected boolean shouldRenderAsCluster(@NonNull Cluster<T> cluster) {
+        return cluster.getSize() >= mMinClusterSize;
+    }
+
+    /**
+     * Called before the marker for an item is added to the map. The default implementation sets
+     * the title and snippet of the item.
+     */
+    protected void onBeforeClusterItemRendered(@NonNull T item, @NonNull Marker.Options options) {
+        options.title(item.getTitle()).snippet(item.getSnippet());
+    }
+
+    /**
+     * Called before the marker for a cluster is added to the map. The default implementation
+     * sets the icon of the bucket of the cluster.
+     */
+    protected void onBeforeClusterRendered(
+            @NonNull Cluster<T> cluster,
+            @NonNull Marker.Options options
+    ) {
+        options.icon(getDescriptorForBucket(getBucket(cluster)));
+    }
+
+    /**
+     * Called when an existing cluster marker is reused for the given cluster. The default
+     * implementation updates the icon if the bucket of the cluster has changed.
+     */
+    protected void onClusterUpdated(@NonNull Cluster<T> cluster, @NonNull Marker marker) {
+        final int bucket = getBucket(cluster);
+        final @Nullable Integer previous = mMarkerBuckets.put(marker, bucket);
+        if (previous == null || previous != bucket) {
+            marker.setIcon(getDescriptorForBucket(bucket));
+        }
+    }
+
+    /**
+     * Gets the bucket of the given cluster. Clusters in the same bucket share the same icon.
+     */
+    protected int getBucket(@NonNull Cluster<T> cluster) {
+        final int size = cluster.getSize();
+        if (size < BUCKETS[0]) {
+            return size;
+        }
+        for (int i = 0; i < BUCKETS.length - 1; i++) {
+            if (size < BUCKETS[i + 1]) {
+                return BUCKETS[i];
+            }
+        }
+        return BUCKETS[BUCKETS.length - 1];
+    }
+
+    /**
+     * Gets the text shown on the icon of the given bucket.
+     */
+    protected @NonNull String getClusterText(int bucket) {
+        return bucket < BUCKETS[0] ? String.valueOf(bucket) : bucket + "+";
+    }
+
+    /**
+     * Gets the color of the icon of the given bucket.
+     */
+    protected @ColorInt int getColor(int bucket) {
+        final float hueRange = 220;
+        final float sizeRange = 300;
+        final float size = Math.min(bucket, sizeRange);
+        final float hue = (sizeRange - size) * (sizeRange - size) / (sizeRange * sizeRange)
+                * hueRange;
+        return Color.HSVToColor(new float[] { hue, 1f, .6f });
+    }
+
+    /**
+     * Gets the icon of the given bucket, creating it on first use.
+     */
+    protected @Nullable BitmapDescriptor getDescriptorForBucket(int bucket) {
+        @Nullable BitmapDescriptor descriptor = mIcons.get(bucket);
+        if (descriptor == null) {
+            descriptor = MapKit.getBitmapDescriptorFactory().fromBitmap(createIcon(bucket));
+            if (descriptor != null) {
+                mIcons.put(bucket, descriptor);
+            }
+        }
+        return descriptor;
+    }
+
+
+    private void renderClusterItem(@NonNull T item, @Nullable Marker marker) {
+        if (marker != null) {
+            final LatLng position = item.getPosition();
+            if (!position.equals(marker.getPosition())) {
+                marker.setPosition(position);
+            }
+        } else {
+            final Marker.Options options = MapKit.newMarkerOptions().position(item.getPosition());
+            onBeforeClusterItemRendered(item, options);
+            marker = mMap.addMarker(options);
+            if (marker == null) {
+                return;
+            }
+        }
+        mItemMarkers.put(item, marker);
+        mMarkerItems.put(marker, item);
+    }
+
+    private void renderCluster(@NonNull Cluster<T> cluster) {
+        final Marker.Options options = MapKit.newMarkerOptions()
+                .position(cluster.getPosition())
+                .anchor(.5f, .5f);
+        onBeforeClusterRendered(cluster, options);
+
+        final @Nullable Marker marker = mMap.addMarker(options);
+        if (marker != null) {
+            mMarkerBuckets.put(marker, getBucket(cluster));
+            bindCluster(cluster, marker);
+        }
+    }
+
+    private void bindCluster(@NonNull Cluster<T> cluster, @NonNull Marker marker) {
+        mClusterMarkers.put(cluster, marker);
+        mMarkerClusters.put(marker, cluster);
+    }
+
+    private @NonNull Bitmap createIcon(int bucket) {
+        final int size = (int) (ICON_SIZE_DP * mDensity);
+        final float center = size / 2f;
+        final float stroke = ICON_STROKE_DP * mDensity;
+
+        final Bitmap bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+        final Canvas canvas = new Canvas(bitmap);
+
+        mPaint.setColor(Color.argb(0x80, 0xFF, 0xFF, 0xFF));
+        canvas.drawCircle(center, center, center, mPaint);
+        mPaint.setColor(getColor(bucket));
+        canvas.drawCircle(center, center, center - stroke, mPaint);
+
+        final float baseline = center - (mTextPaint.descent() + mTextPaint.ascent()) / 2;
+        canvas.drawText(getClusterText(bucket), center, baseline, mTextPaint);
+
+        return bitmap;
+    }
+
+}
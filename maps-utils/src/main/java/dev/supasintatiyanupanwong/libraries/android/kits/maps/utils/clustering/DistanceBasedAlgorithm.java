@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.clustering;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A clustering algorithm which groups items that are within a given distance in screen pixels of
+ * each other.
+ * <p>
+ * Each item not yet clustered becomes the center of a new cluster, which takes every nearby item
+ * that is closer to it than to the center of any cluster created before. The position of a
+ * cluster is the position of its center item, so clusters do not drift as items are added.
+ *
+ * @param <T> The type of the items to be clustered.
+ * @since 2.4.0
+ */
+public class DistanceBasedAlgorithm<T extends ClusterItem> extends BaseAlgorithm<T> {
+
+    private static final int DEFAULT_MAX_DISTANCE = 100;
+
+    private volatile int mMaxDistance;
+
+    public DistanceBasedAlgorithm() {
+        this(DEFAULT_MAX_DISTANCE);
+    }
+
+    /**
+     * @param maxDistance The maximum distance between clustered items in screen pixels.
+     */
+    public DistanceBasedAlgorithm(int maxDistance) {
+        setMaxDistanceBetweenClusteredItems(maxDistance);
+    }
+
+    /**
+     * Sets the maximum distance between clustered items. The default is 100.
+     *
+     * @param maxDistance The maximum distance between clustered items in screen pixels.
+     */
+    public void setMaxDistanceBetweenClusteredItems(int maxDistance) {
+        if (maxDistance <= 0) {
+            throw new IllegalArgumentException("maxDistance must be positive");
+        }
+        mMaxDistance = maxDistance;
+    }
+
+    /**
+     * Gets the maximum distance between clustered items.
+     *
+     * @return The maximum distance between clustered items in screen pixels.
+     */
+    public int getMaxDistanceBetweenClusteredItems() {
+        return mMaxDistance;
+    }
+
+    @Override @NonNull Set<? extends Cluster<T>> cluster(
+            float zoom,
+            @NonNull List<PointQuadTree.Item<T>> candidates
+    ) {
+        final double halfSpan = mMaxDistance / (256 * Math.pow(2, (int) zoom)) / 2;
+
+        final Set<PointQuadTree.Item<T>> visited = new HashSet<>();
+        final Map<PointQuadTree.Item<T>, Double> distances = new HashMap<>();
+        final Map<PointQuadTree.Item<T>, StaticCluster<T>> itemToCluster = new HashMap<>();
+        final Set<StaticCluster<T>> clusters = new HashSet<>();
+        final List<PointQuadTree.Item<T>> nearby = new ArrayList<>();
+
+        for (PointQuadTree.Item<T> candidate : candidates) {
+            if (visited.contains(candidate)) {
+                continue;
+            }
+
+            nearby.clear();
+            search(
+                    candidate.x - halfSpan,
+                    candidate.y - halfSpan,
+                    candidate.x + halfSpan,
+                    candidate.y + halfSpan,
+                    nearby
+            );
+
+            final StaticCluster<T> cluster = new StaticCluster<>(candidate.value.getPosition());
+            clusters.add(cluster);
+
+            for (PointQuadTree.Item<T> item : nearby) {
+                final double distance = distanceSquared(item, candidate);
+                final @Nullable Double existing = distances.get(item);
+                if (existing != null) {
+                    if (existing <= distance) {
+                        continue; // Already belongs to a closer cluster
+                    }
+                    //noinspection ConstantConditions
+                    itemToCluster.get(item).remove(item.value);
+                }
+                distances.put(item, distance);
+                itemToCluster.put(item, cluster);
+                cluster.add(item.value);
+            }
+            visited.addAll(nearby);
+        }
+
+        return clusters;
+    }
+
+    private static double distanceSquared(
+            @NonNull PointQuadTree.Item<?> a,
+            @NonNull PointQuadTree.Item<?> b
+    ) {
+        final double dx = a.x - b.x;
+        final double dy = a.y - b.y;
+        return dx * dx + dy * dy;
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.clustering;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngMath;
+
+/**
+ * A simple clustering algorithm which groups items into square cells of a fixed size in screen
+ * pixels. The position of a cluster is the center of mass of its items.
+ * <p>
+ * This algorithm runs in linear time of the number of items within the requested bounds, but
+ * clusters may appear to be split across the border of two adjacent cells.
+ *
+ * @param <T> The type of the items to be clustered.
+ * @since 2.4.0
+ */
+public class GridBasedAlgorithm<T extends ClusterItem> extends BaseAlgorithm<T> {
+
+    private static final int DEFAULT_GRID_SIZE = 100;
+
+    private volatile int mGridSize;
+
+    public GridBasedAlgorithm() {
+        this(DEFAULT_GRID_SIZE);
+    }
+
+    /**
+     * @param gridSize The size of a grid cell in screen pixels.
+     */
+    public GridBasedAlgorithm(int gridSize) {
+        setGridSize(gridSize);
+    }
+
+    /**
+     * Sets the size of a grid cell. The default is 100.
+     *
+     * @param gridSize The size of a grid cell in screen pixels.
+     */
+    public void setGridSize(int gridSize) {
+        if (gridSize <= 0) {
+            throw new IllegalArgumentException("gridSize must be positive");
+        }
+        mGridSize = gridSize;
+    }
+
+    /**
+     * Gets the size of a grid cell.
+     *
+     * @return The size of a grid cell in screen pixels.
+     */
+    public int getGridSize() {
+        return mGridSize;
+    }
+
+    @Override @NonNull Set<? extends Cluster<T>> cluster(
+            float zoom,
+            @NonNull List<PointQuadTree.Item<T>> candidates
+    ) {
+        final long numCells = (long) Math.ceil(256 * Math.pow(2, (int) zoom) / mGridSize);
+
+        final Map<Long, Cell<T>> cells = new HashMap<>();
+        for (PointQuadTree.Item<T> candidate : candidates) {
+            final long col = Math.min(numCells - 1, (long) (candidate.x * numCells));
+            final long row = Math.min(numCells - 1, (long) (candidate.y * numCells));
+            final Long key = row * numCells + col;
+
+            Cell<T> cell = cells.get(key);
+            if (cell == null) {
+                cell = new Cell<>();
+                cells.put(key, cell);
+            }
+            cell.add(candidate);
+        }
+
+        final Set<Cluster<T>> clusters = new HashSet<>(cells.size() * 4 / 3 + 1);
+        for (Cell<T> cell : cells.values()) {
+            clusters.add(cell.toCluster());
+        }
+        return clusters;
+    }
+
+
+    private static final class Cell<T extends ClusterItem> {
+        private final List<T> mItems = new ArrayList<>();
+        private double mSumX;
+        private double mSumY;
+
+        void add(@NonNull PointQuadTree.Item<T> item) {
+            mItems.add(item.value);
+            mSumX += item.x;
+            mSumY += item.y;
+        }
+
+        @NonNull Cluster<T> toCluster() {
+            final int size = mItems.size();
+            final StaticCluster<T> cluster = new StaticCluster<>(size == 1
+                    ? mItems.get(0).getPosition()
+                    : MapKit.newLatLng(
+                            LatLngMath.mercatorLatitude(mSumY / size),
+                            LatLngMath.mercatorLongitude(mSumX / size)
+                    )
+            );
+            for (T item : mItems) {
+                cluster.add(item);
+            }
+            return cluster;
+        }
+    }
+
+}
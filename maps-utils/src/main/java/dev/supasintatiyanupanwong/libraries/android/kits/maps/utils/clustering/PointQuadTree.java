@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.clustering;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A quad tree which tracks items with a point position on the unit square.
+ */
+final class PointQuadTree<T> {
+
+    private static final int MAX_ELEMENTS = 50;
+    private static final int MAX_DEPTH = 40;
+
+    private final double mMinX;
+    private final double mMinY;
+    private final double mMaxX;
+    private final double mMaxY;
+    private final double mMidX;
+    private final double mMidY;
+    private final int mDepth;
+
+    private @Nullable List<Item<T>> mItems;
+    private @Nullable List<PointQuadTree<T>> mChildren;
+
+    PointQuadTree() {
+        this(0, 0, 1, 1, 0);
+    }
+
+    private PointQuadTree(double minX, double minY, double maxX, double maxY, int depth) {
+        mMinX = minX;
+        mMinY = minY;
+        mMaxX = maxX;
+        mMaxY = maxY;
+        mMidX = (minX + maxX) / 2;
+        mMidY = (minY + maxY) / 2;
+        mDepth = depth;
+    }
+
+    void add(@NonNull Item<T> item) {
+        if (mChildren != null) {
+            childFor(item.x, item.y).add(item);
+            return;
+        }
+
+        if (mItems == null) {
+            mItems = new ArrayList<>();
+        }
+        mItems.add(item);
+        if (mItems.size() > MAX_ELEMENTS && mDepth < MAX_DEPTH) {
+            split();
+        }
+    }
+
+    boolean remove(@NonNull Item<T> item) {
+        if (mChildren != null) {
+            return childFor(item.x, item.y).remove(item);
+        }
+        return mItems != null && mItems.remove(item);
+    }
+
+    void clear() {
+        mChildren = null;
+        mItems = null;
+    }
+
+    void search(
+            double minX,
+            double minY,
+            double maxX,
+            double maxY,
+            @NonNull Collection<Item<T>> out
+    ) {
+        if (minX > mMaxX || maxX < mMinX || minY > mMaxY || maxY < mMinY) {
+            return;
+        }
+
+        if (mChildren != null) {
+            for (PointQuadTree<T> child : mChildren) {
+                child.search(minX, minY, maxX, maxY, out);
+            }
+        } else if (mItems != null) {
+            final boolean contained =
+                    minX <= mMinX && maxX >= mMaxX && minY <= mMinY && maxY >= mMaxY;
+            for (Item<T> item : mItems) {
+                if (contained
+                        || (item.x >= minX && item.x <= maxX && item.y >= minY && item.y <= maxY)) {
+                    out.add(item);
+                }
+            }
+        }
+    }
+
+    private @NonNull PointQuadTree<T> childFor(double x, double y) {
+        //noinspection ConstantConditions
+        return mChildren.get((y < mMidY ? 0 : 2) + (x < mMidX ? 0 : 1));
+    }
+
+    private void split() {
+        final List<PointQuadTree<T>> children = new ArrayList<>(4);
+        children.add(new PointQuadTree<>(mMinX, mMinY, mMidX, mMidY, mDepth + 1));
+        children.add(new PointQuadTree<>(mMidX, mMinY, mMaxX, mMidY, mDepth + 1));
+        children.add(new PointQuadTree<>(mMinX, mMidY, mMidX, mMaxY, mDepth + 1));
+        children.add(new PointQuadTree<>(mMidX, mMidY, mMaxX, mMaxY, mDepth + 1));
+        mChildren = children;
+
+        final @Nullable List<Item<T>> items = mItems;
+        mItems = null;
+        if (items != null) {
+            for (Item<T> item : items) {
+                add(item);
+            }
+        }
+    }
+
+
+    static final class Item<T> {
+        final @NonNull T value;
+        final double x;
+        final double y;
+
+        Item(@NonNull T value, double x, double y) {
+            this.value = value;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.clustering;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
+
+/**
+ * A cluster whose center is determined upon creation.
+ */
+final class StaticCluster<T extends ClusterItem> implements Cluster<T> {
+
+    private final @NonNull LatLng mPosition;
+    private final @NonNull List<T> mItems = new ArrayList<>();
+
+    StaticCluster(@NonNull LatLng position) {
+        mPosition = position;
+    }
+
+    void add(@NonNull T item) {
+        mItems.add(item);
+    }
+
+    boolean remove(@NonNull T item) {
+        return mItems.remove(item);
+    }
+
+    @Override public @NonNull LatLng getPosition() {
+        return mPosition;
+    }
+
+    @Override public @NonNull Collection<T> getItems() {
+        return mItems;
+    }
+
+    @Override public int getSize() {
+        return mItems.size();
+    }
+
+    @Override public @NonNull String toString() {
+        return "StaticCluster{position=" + mPosition + ", size=" + mItems.size() + '}';
+    }
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.index;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Circle;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.GroundOverlay;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngMath;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Marker;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polygon;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polyline;
+
+/**
+ * Keeps a {@link SpatialIndex} of the overlays added to a {@link MapClient}, so that the
+ * overlays within a region, near a point or under a point can be found without iterating all of
+ * them.
+ * <p>
+ * Overlays added through this class are indexed automatically. Overlays whose geometry is changed
+ * afterwards must be passed to the matching {@code update} method to be reindexed, and overlays
+ * must be removed through this class to be dropped from the index.
+ *
+ * @since 2.4.0
+ */
+@UiThread
+public class OverlayIndex {
+
+    private final @NonNull MapClient mMap;
+    private final @NonNull SpatialIndex<Object> mIndex = new SpatialIndex<>();
+    private final @NonNull Map<Object, Shape> mShapes = new HashMap<>();
+
+    public OverlayIndex(@NonNull MapClient map) {
+        mMap = map;
+    }
+
+    public @Nullable Marker addMarker(@NonNull Marker.Options options) {
+        final @Nullable Marker marker = mMap.addMarker(options);
+        if (marker != null) {
+            update(marker);
+        }
+        return marker;
+    }
+
+    public @Nullable Polyline addPolyline(@NonNull Polyline.Options options) {
+        final @Nullable Polyline polyline = mMap.addPolyline(options);
+        if (polyline != null) {
+            update(polyline);
+        }
+        return polyline;
+    }
+
+    public @Nullable Polygon addPolygon(@NonNull Polygon.Options options) {
+        final @Nullable Polygon polygon = mMap.addPolygon(options);
+        if (polygon != null) {
+            update(polygon);
+        }
+        return polygon;
+    }
+
+    public @Nullable Circle addCircle(@NonNull Circle.Options options) {
+        final @Nullable Circle circle = mMap.addCircle(options);
+        if (circle != null) {
+            update(circle);
+        }
+        return circle;
+    }
+
+    public @Nullable GroundOverlay addGroundOverlay(@NonNull GroundOverlay.Options options) {
+        final @Nullable GroundOverlay groundOverlay = mMap.addGroundOverlay(options);
+        if (groundOverlay != null) {
+            update(groundOverlay);
+        }
+        return groundOverlay;
+    }
+
+    /**
+     * Indexes the given marker at its current position.
+     */
+    public void update(@NonNull Marker marker) {
+        mIndex.put(marker, marker.getPosition());
+    }
+
+    /**
+     * Indexes the given polyline at its current points.
+     */
+    public void update(@NonNull Polyline polyline) {
+        mIndex.putPath(polyline, polyline.getPackedPoints());
+    }
+
+    /**
+     * Indexes the given polygon at its current points and holes.
+     */
+    public void update(@NonNull Polygon polygon) {
+        final double[] points = polygon.getPackedPoints();
+        if (!mIndex.putPath(polygon, points)) {
+            mShapes.remove(polygon);
+            return;
+        }
+
+        final @Nullable List<List<LatLng>> holes = polygon.getHoles();
+        final double[][] packedHoles = new double[holes == null ? 0 : holes.size()][];
+        for (int i = 0; i < packedHoles.length; i++) {
+            //noinspection ConstantConditions
+            final List<LatLng> hole = holes.get(i);
+            final double[] packedHole = new double[hole.size() * 2];
+            for (int j = 0, size = hole.size(); j < size; j++) {
+                final LatLng point = hole.get(j);
+                packedHole[j * 2] = point.getLatitude();
+                packedHole[j * 2 + 1] = point.getLongitude();
+            }
+            packedHoles[i] = packedHole;
+        }
+        mShapes.put(polygon, new PolygonShape(points, packedHoles));
+    }
+
+    /**
+     * Indexes the given circle at its current center and radius.
+     */
+    public void update(@NonNull Circle circle) {
+        final LatLng center = circle.getCenter();
+        final double radius = circle.getRadius();
+        mIndex.putCircle(circle, center, radius);
+        mShapes.put(circle, new CircleShape(center.getLatitude(), center.getLongitude(), radius));
+    }
+
+    /**
+     * Indexes the given ground overlay at its current bounds.
+     */
+    public void update(@NonNull GroundOverlay groundOverlay) {
+        final @Nullable LatLngBounds bounds = groundOverlay.getBounds();
+        if (bounds != null) {
+            mIndex.put(groundOverlay, bounds);
+        } else {
+            mIndex.remove(groundOverlay);
+        }
+    }
+
+    public void remove(@NonNull Marker marker) {
+        mIndex.remove(marker);
+        marker.remove();
+    }
+
+    public void remove(@NonNull Polyline polyline) {
+        mIndex.remove(polyline);
+        polyline.remove();
+    }
+
+    public void remove(@NonNull Polygon polygon) {
+        mIndex.remove(polygon);
+        mShapes.remove(polygon);
+        polygon.remove();
+    }
+
+    public void remove(@NonNull Circle circle) {
+        mIndex.remove(circle);
+        mShapes.remove(circle);
+        circle.remove();
+    }
+
+    public void remove(@NonNull GroundOverlay groundOverlay) {
+        mIndex.remove(groundOverlay);
+        groundOverlay.remove();
+    }
+
+    /**
+     * Gets the number of indexed overlays.
+     */
+    public int size() {
+        return mIndex.size();
+    }
+
+    /**
+     * Finds the overlays whose bounds intersect the given bounds.
+     *
+     * @param bounds The bounds to search within.
+     * @return The overlays found, in no particular order.
+     */
+    public @NonNull List<Object> search(@NonNull LatLngBounds bounds) {
+        return mIndex.search(bounds);
+    }
+
+    /**
+     * Finds the overlays of the given type whose bounds intersect the given bounds.
+     *
+     * @param bounds The bounds to search within.
+     * @param type The type of overlays to find, e.g. {@code Marker.class}.
+     * @return The overlays found, in no particular order.
+     */
+    public <T> @NonNull List<T> search(@NonNull LatLngBounds bounds, @NonNull Class<T> type) {
+        final List<Object> found = mIndex.search(bounds);
+        final List<T> out = new ArrayList<>(found.size());
+        for (Object overlay : found) {
+            if (type.isInstance(overlay)) {
+                out.add(type.cast(overlay));
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Finds the overlays nearest to the given point.
+     *
+     * @param point The point to search around.
+     * @param count The maximum number of overlays to find.
+     * @return The overlays found, nearest first.
+     * @see SpatialIndex#nearest(LatLng, int)
+     */
+    public @NonNull List<Object> nearest(@NonNull LatLng point, int count) {
+        return mIndex.nearest(point, count);
+    }
+
+    /**
+     * Finds the polygons, circles and ground overlays which contain the given point. Holes of
+     * polygons are excluded, and polygon edges are treated as straight lines in latitude and
+     * longitude.
+     *
+     * @param point The point to test.
+     * @return The overlays found, in no particular order.
+     */
+    public @NonNull List<Object> hitTest(@NonNull LatLng point) {
+        final double lat = point.getLatitude();
+        final double lng = point.getLongitude();
+
+        final List<Object> candidates = mIndex.search(point);
+        final List<Object> out = new ArrayList<>(candidates.size());
+        for (Object overlay : candidates) {
+            if (overlay instanceof GroundOverlay) {
+                out.add(overlay);
+            } else {
+                final @Nullable Shape shape = mShapes.get(overlay);
+                if (shape != null && shape.contains(lat, lng)) {
+                    out.add(overlay);
+                }
+            }
+        }
+        return out;
+    }
+
+
+    private interface Shape {
+        boolean contains(double lat, double lng);
+    }
+
+    private static final class PolygonShape implements Shape {
+        private final @NonNull double[] mPoints;
+        private final @NonNull double[][] mHoles;
+
+        PolygonShape(@NonNull double[] points, @NonNull double[][] holes) {
+            mPoints = points;
+            mHoles = holes;
+        }
+
+        @Override public boolean contains(double lat, double lng) {
+            if (!LatLngMath.polygonContains(mPoints, lat, lng)) {
+                return false;
+            }
+            for (double[] hole : mHoles) {
+                if (LatLngMath.polygonContains(hole, lat, lng)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class CircleShape implements Shape {
+        private final double mLat;
+        private final double mLng;
+        private final double mRadius;
+
+        CircleShape(double lat, double lng, double radius) {
+            mLat = lat;
+            mLng = lng;
+            mRadius = radius;
+        }
+
+        @Override public boolean contains(double lat, double lng) {
+            return LatLngMath.distance(mLat, mLng, lat, lng) <= mRadius;
+        }
+    }
+
+}
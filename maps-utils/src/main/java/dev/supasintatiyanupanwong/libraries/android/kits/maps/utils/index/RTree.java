@@ -0,0 +1,429 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.index;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * An R-tree of axis-aligned rectangles using quadratic splits, as described by Guttman.
+ * <p>
+ * Coordinates are plain doubles; the caller is responsible for splitting rectangles which wrap
+ * around. This class is not thread-safe.
+ */
+final class RTree<T> {
+
+    private static final int MAX_ENTRIES = 16;
+    private static final int MIN_ENTRIES = 6;
+
+    private @NonNull Node<T> mRoot = new Node<>(true);
+
+    void insert(@NonNull T value, double minX, double minY, double maxX, double maxY) {
+        insertEntry(new Entry<>(value, null, minX, minY, maxX, maxY));
+    }
+
+    boolean remove(@NonNull T value, double minX, double minY, double maxX, double maxY) {
+        final List<Entry<T>> orphans = new ArrayList<>();
+        if (!remove(mRoot, value, minX, minY, maxX, maxY, orphans)) {
+            return false;
+        }
+
+        while (!mRoot.leaf && mRoot.entries.size() == 1) {
+            //noinspection ConstantConditions
+            mRoot = mRoot.entries.get(0).child;
+        }
+        for (Entry<T> orphan : orphans) {
+            insertEntry(orphan);
+        }
+        return true;
+    }
+
+    void clear() {
+        mRoot = new Node<>(true);
+    }
+
+    void search(
+            double minX,
+            double minY,
+            double maxX,
+            double maxY,
+            @NonNull Collection<? super T> out
+    ) {
+        search(mRoot, minX, minY, maxX, maxY, out);
+    }
+
+    /**
+     * Visits entries in ascending order of the given distance function until the visitor asks to
+     * stop.
+     */
+    void nearest(@NonNull Metric metric, @NonNull Visitor<T> visitor) {
+        final PriorityQueue<Candidate<T>> queue = new PriorityQueue<>();
+        for (Entry<T> entry : mRoot.entries) {
+            queue.add(new Candidate<>(entry, metric.distance(entry)));
+        }
+
+        Candidate<T> candidate;
+        while ((candidate = queue.poll()) != null) {
+            final Entry<T> entry = candidate.entry;
+            if (entry.child == null) {
+                //noinspection ConstantConditions
+                if (!visitor.visit(entry.value, candidate.distance)) {
+                    return;
+                }
+            } else {
+                for (Entry<T> childEntry : entry.child.entries) {
+                    queue.add(new Candidate<>(childEntry, metric.distance(childEntry)));
+                }
+            }
+        }
+    }
+
+
+    private void insertEntry(@NonNull Entry<T> entry) {
+        final @Nullable Node<T> sibling = insert(mRoot, entry, height(entry));
+        if (sibling != null) {
+            final Node<T> root = new Node<>(false);
+            root.entries.add(Entry.of(mRoot));
+            root.entries.add(Entry.of(sibling));
+            mRoot = root;
+        }
+    }
+
+    /**
+     * Gets the height of the subtree held by the given entry, where leaf entries are at zero.
+     */
+    private static int height(@NonNull Entry<?> entry) {
+        int height = 0;
+        Node<?> node = entry.child;
+        while (node != null) {
+            height++;
+            node = node.leaf ? null : node.entries.get(0).child;
+        }
+        return height;
+    }
+
+    /**
+     * Inserts the entry into the subtree, returning the new sibling of the node if it was split.
+     */
+    private static <T> @Nullable Node<T> insert(
+            @NonNull Node<T> node,
+            @NonNull Entry<T> entry,
+            int entryHeight
+    ) {
+        if (nodeHeight(node) == entryHeight + 1) {
+            node.entries.add(entry);
+        } else {
+            final Entry<T> best = chooseSubtree(node, entry);
+            //noinspection ConstantConditions
+            final @Nullable Node<T> split = insert(best.child, entry, entryHeight);
+            if (split != null) {
+                best.recompute();
+                node.entries.add(Entry.of(split));
+            } else {
+                best.include(entry);
+            }
+        }
+        return node.entries.size() > MAX_ENTRIES ? split(node) : null;
+    }
+
+    private static int nodeHeight(@NonNull Node<?> node) {
+        int height = 1;
+        while (!node.leaf) {
+            //noinspection ConstantConditions
+            node = node.entries.get(0).child;
+            height++;
+        }
+        return height;
+    }
+
+    private static <T> @NonNull Entry<T> chooseSubtree(
+            @NonNull Node<T> node,
+            @NonNull Entry<T> entry
+    ) {
+        Entry<T> best = null;
+        double bestEnlargement = Double.POSITIVE_INFINITY;
+        double bestArea = Double.POSITIVE_INFINITY;
+        for (Entry<T> candidate : node.entries) {
+            final double area = candidate.area();
+            final double enlargement = candidate.unionArea(entry) - area;
+            if (enlargement < bestEnlargement
+                    || (enlargement == bestEnlargement && area < bestArea)) {
+                best = candidate;
+                bestEnlargement = enlargement;
+                bestArea = area;
+            }
+        }
+        //noinspection ConstantConditions
+        return best;
+    }
+
+    /**
+     * Splits the overflowing node in two, keeping one half in place and returning the other.
+     */
+    private static <T> @NonNull Node<T> split(@NonNull Node<T> node) {
+        final List<Entry<T>> remaining = new ArrayList<>(node.entries);
+
+        // Pick the pair of seeds which would waste the most area if put together.
+        int seed1 = 0;
+        int seed2 = 1;
+        double worstWaste = Double.NEGATIVE_INFINITY;
+        for (int i = 0, size = remaining.size(); i < size; i++) {
+            final Entry<T> a = remaining.get(i);
+            for (int j = i + 1; j < size; j++) {
+                final Entry<T> b = remaining.get(j);
+                final double waste = a.unionArea(b) - a.area() - b.area();
+                if (waste > worstWaste) {
+                    worstWaste = waste;
+                    seed1 = i;
+                    seed2 = j;
+                }
+            }
+        }
+
+        final Node<T> sibling = new Node<>(node.leaf);
+        final Entry<T> group1 = Entry.copyOf(remaining.get(seed1));
+        final Entry<T> group2 = Entry.copyOf(remaining.get(seed2));
+        node.entries.clear();
+        node.entries.add(remaining.get(seed1));
+        sibling.entries.add(remaining.get(seed2));
+        remaining.remove(seed2);
+        remaining.remove(seed1);
+
+        while (!remaining.isEmpty()) {
+            if (node.entries.size() + remaining.size() == MIN_ENTRIES) {
+                node.entries.addAll(remaining);
+                break;
+            }
+            if (sibling.entries.size() + remaining.size() == MIN_ENTRIES) {
+                sibling.entries.addAll(remaining);
+                break;
+            }
+
+            // Pick the entry with the strongest preference for one of the groups.
+            int next = 0;
+            double maxDifference = Double.NEGATIVE_INFINITY;
+            double nextCost1 = 0;
+            double nextCost2 = 0;
+            for (int i = 0, size = remaining.size(); i < size; i++) {
+                final Entry<T> entry = remaining.get(i);
+                final double cost1 = group1.unionArea(entry) - group1.area();
+                final double cost2 = group2.unionArea(entry) - group2.area();
+                final double difference = Math.abs(cost1 - cost2);
+                if (difference > maxDifference) {
+                    maxDifference = difference;
+                    next = i;
+                    nextCost1 = cost1;
+                    nextCost2 = cost2;
+                }
+            }
+
+            final Entry<T> entry = remaining.remove(next);
+            final boolean toFirst;
+            if (nextCost1 != nextCost2) {
+                toFirst = nextCost1 < nextCost2;
+            } else if (group1.area() != group2.area()) {
+                toFirst = group1.area() < group2.area();
+            } else {
+                toFirst = node.entries.size() <= sibling.entries.size();
+            }
+            if (toFirst) {
+                node.entries.add(entry);
+                group1.include(entry);
+            } else {
+                sibling.entries.add(entry);
+                group2.include(entry);
+            }
+        }
+
+        return sibling;
+    }
+
+    private static <T> boolean remove(
+            @NonNull Node<T> node,
+            @NonNull T value,
+            double minX,
+            double minY,
+            double maxX,
+            double maxY,
+            @NonNull List<Entry<T>> orphans
+    ) {
+        final List<Entry<T>> entries = node.entries;
+        for (int i = 0, size = entries.size(); i < size; i++) {
+            final Entry<T> entry = entries.get(i);
+            if (!entry.contains(minX, minY, maxX, maxY)) {
+                continue;
+            }
+
+            if (node.leaf) {
+                if (value.equals(entry.value)) {
+                    entries.remove(i);
+                    return true;
+                }
+            } else {
+                //noinspection ConstantConditions
+                if (remove(entry.child, value, minX, minY, maxX, maxY, orphans)) {
+                    if (entry.child.entries.size() < MIN_ENTRIES) {
+                        entries.remove(i);
+                        orphans.addAll(entry.child.entries);
+                    } else {
+                        entry.recompute();
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static <T> void search(
+            @NonNull Node<T> node,
+            double minX,
+            double minY,
+            double maxX,
+            double maxY,
+            @NonNull Collection<? super T> out
+    ) {
+        for (Entry<T> entry : node.entries) {
+            if (entry.intersects(minX, minY, maxX, maxY)) {
+                if (node.leaf) {
+                    out.add(entry.value);
+                } else {
+                    //noinspection ConstantConditions
+                    search(entry.child, minX, minY, maxX, maxY, out);
+                }
+            }
+        }
+    }
+
+
+    interface Metric {
+        /**
+         * Gets the smallest possible distance to anything within the rectangle of the entry.
+         */
+        double distance(@NonNull Entry<?> entry);
+    }
+
+    interface Visitor<T> {
+        /**
+         * @return {@code true} to continue visiting; {@code false} to stop.
+         */
+        boolean visit(@NonNull T value, double distance);
+    }
+
+    private static final class Node<T> {
+        final boolean leaf;
+        final @NonNull List<Entry<T>> entries = new ArrayList<>(MAX_ENTRIES + 1);
+
+        Node(boolean leaf) {
+            this.leaf = leaf;
+        }
+    }
+
+    static final class Entry<T> {
+        final @Nullable T value;
+        final @Nullable Node<T> child;
+        double minX;
+        double minY;
+        double maxX;
+        double maxY;
+
+        Entry(
+                @Nullable T value,
+                @Nullable Node<T> child,
+                double minX,
+                double minY,
+                double maxX,
+                double maxY
+        ) {
+            this.value = value;
+            this.child = child;
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+
+        static <T> @NonNull Entry<T> of(@NonNull Node<T> child) {
+            final Entry<T> entry = new Entry<>(null, child, 0, 0, 0, 0);
+            entry.recompute();
+            return entry;
+        }
+
+        static <T> @NonNull Entry<T> copyOf(@NonNull Entry<T> entry) {
+            return new Entry<>(null, null, entry.minX, entry.minY, entry.maxX, entry.maxY);
+        }
+
+        void recompute() {
+            //noinspection ConstantConditions
+            final List<Entry<T>> entries = child.entries;
+            final Entry<T> first = entries.get(0);
+            minX = first.minX;
+            minY = first.minY;
+            maxX = first.maxX;
+            maxY = first.maxY;
+            for (int i = 1, size = entries.size(); i < size; i++) {
+                include(entries.get(i));
+            }
+        }
+
+        void include(@NonNull Entry<?> other) {
+            minX = Math.min(minX, other.minX);
+            minY = Math.min(minY, other.minY);
+            maxX = Math.max(maxX, other.maxX);
+            maxY = Math.max(maxY, other.maxY);
+        }
+
+        double area() {
+            return (maxX - minX) * (maxY - minY);
+        }
+
+        double unionArea(@NonNull Entry<?> other) {
+            return (Math.max(maxX, other.maxX) - Math.min(minX, other.minX))
+                    * (Math.max(maxY, other.maxY) - Math.min(minY, other.minY));
+        }
+
+        boolean intersects(double minX, double minY, double maxX, double maxY) {
+            return this.minX <= maxX && minX <= this.maxX
+                    && this.minY <= maxY && minY <= this.maxY;
+        }
+
+        boolean contains(double minX, double minY, double maxX, double maxY) {
+            return this.minX <= minX && maxX <= this.maxX
+                    && this.minY <= minY && maxY <= this.maxY;
+        }
+    }
+
+    private static final class Candidate<T> implements Comparable<Candidate<T>> {
+        final @NonNull Entry<T> entry;
+        final double distance;
+
+        Candidate(@NonNull Entry<T> entry, double distance) {
+            this.entry = entry;
+            this.distance = distance;
+        }
+
+        @Override public int compareTo(@NonNull Candidate<T> other) {
+            return Double.compare(distance, other.distance);
+        }
+    }
+
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.index;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngMath;
+
+/**
+ * An in-memory spatial index of values keyed by their {@link LatLngBounds}, backed by an R-tree.
+ * <p>
+ * Insertion, removal, range and nearest queries run in logarithmic time of the number of values.
+ * Bounds crossing the antimeridian are supported.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> The type of the indexed values.
+ * @since 2.4.0
+ */
+public class SpatialIndex<T> {
+
+    private final @NonNull RTree<T> mTree = new RTree<>();
+    private final @NonNull Map<T, double[]> mBounds = new HashMap<>();
+
+    // Number of values whose bounds cross the antimeridian, and are thus indexed twice.
+    private int mWrappedCount;
+
+    /**
+     * Adds the given value at a point, replacing its previous position if already indexed.
+     *
+     * @param value The value to be indexed.
+     * @param point The position of the value.
+     */
+    public void put(@NonNull T value, @NonNull LatLng point) {
+        put(value,
+                point.getLatitude(), point.getLongitude(),
+                point.getLatitude(), point.getLongitude());
+    }
+
+    /**
+     * Adds the given value with its bounds, replacing its previous bounds if already indexed.
+     *
+     * @param value The value to be indexed.
+     * @param bounds The bounds of the value.
+     */
+    public void put(@NonNull T value, @NonNull LatLngBounds bounds) {
+        final LatLng southwest = bounds.getSouthwest();
+        final LatLng northeast = bounds.getNortheast();
+        put(value,
+                southwest.getLatitude(), southwest.getLongitude(),
+                northeast.getLatitude(), northeast.getLongitude());
+    }
+
+    /**
+     * Adds the given value with its bounds in degrees, replacing its previous bounds if already
+     * indexed. A west longitude greater than the east longitude denotes bounds crossing the
+     * antimeridian.
+     *
+     * @param value The value to be indexed.
+     * @param south The southern latitude of the bounds.
+     * @param west The western longitude of the bounds.
+     * @param north The northern latitude of the bounds.
+     * @param east The eastern longitude of the bounds.
+     */
+    public void put(@NonNull T value, double south, double west, double north, double east) {
+        remove(value);
+
+        final double[] bounds = { south, west, north, east };
+        mBounds.put(value, bounds);
+        if (west <= east) {
+            mTree.insert(value, west, south, east, north);
+        } else {
+            mTree.insert(value, west, south, 180, north);
+            mTree.insert(value, -180, south, east, north);
+            mWrappedCount++;
+        }
+    }
+
+    /**
+     * Adds the given value with the bounding box of a path, replacing its previous bounds if
+     * already indexed. The value is removed from the index if the path is empty.
+     *
+     * @param value The value to be indexed.
+     * @param latLngs The points of the path, as interleaved latitude-longitude pairs.
+     * @return {@code true} if the value was indexed; {@code false} if the path is empty.
+     */
+    public boolean putPath(@NonNull T value, @NonNull double[] latLngs) {
+        if (latLngs.length < 2) {
+            remove(value);
+            return false;
+        }
+
+        double south = latLngs[0];
+        double north = latLngs[0];
+        double west = latLngs[1];
+        double east = latLngs[1];
+        for (int i = 2; i + 1 < latLngs.length; i += 2) {
+            south = Math.min(south, latLngs[i]);
+            north = Math.max(north, latLngs[i]);
+            west = Math.min(west, latLngs[i + 1]);
+            east = Math.max(east, latLngs[i + 1]);
+        }
+        put(value, south, west, north, east);
+        return true;
+    }
+
+    /**
+     * Adds the given value with the bounding box of a path, replacing its previous bounds if
+     * already indexed. The value is removed from the index if the path is empty.
+     *
+     * @param value The value to be indexed.
+     * @param points The points of the path.
+     * @return {@code true} if the value was indexed; {@code false} if the path is empty.
+     */
+    public boolean putPath(@NonNull T value, @NonNull List<LatLng> points) {
+        if (points.isEmpty()) {
+            remove(value);
+            return false;
+        }
+
+        final LatLng first = points.get(0);
+        double south = first.getLatitude();
+        double north = south;
+        double west = first.getLongitude();
+        double east = west;
+        for (int i = 1, size = points.size(); i < size; i++) {
+            final LatLng point = points.get(i);
+            south = Math.min(south, point.getLatitude());
+            north = Math.max(north, point.getLatitude());
+            west = Math.min(west, point.getLongitude());
+            east = Math.max(east, point.getLongitude());
+        }
+        put(value, south, west, north, east);
+        return true;
+    }
+
+    /**
+     * Adds the given value with the bounding box of a circle on the Earth's surface, replacing
+     * its previous bounds if already indexed.
+     *
+     * @param value The value to be indexed.
+     * @param center The center of the circle.
+     * @param radius The radius of the circle in meters.
+     */
+    public void putCircle(@NonNull T value, @NonNull LatLng center, double radius) {
+        final double lat = center.getLatitude();
+        final double lng = center.getLongitude();
+        final double angularRadius = radius / LatLngMath.EARTH_RADIUS;
+
+        final double latDelta = Math.toDegrees(angularRadius);
+        final double south = Math.max(-90, lat - latDelta);
+        final double north = Math.min(90, lat + latDelta);
+
+        final double sinLngDelta = Math.sin(angularRadius) / Math.cos(Math.toRadians(lat));
+        if (south == -90 || north == 90 || sinLngDelta >= 1 || angularRadius >= Math.PI / 2) {
+            // Covers a pole, hence every longitude.
+            put(value, south, -180, north, 180);
+        } else {
+            final double lngDelta = Math.toDegrees(Math.asin(sinLngDelta));
+            put(
+                    value,
+                    south,
+                    LatLngMath.wrapLongitude(lng - lngDelta),
+                    north,
+                    LatLngMath.wrapLongitude(lng + lngDelta)
+            );
+        }
+    }
+
+    /**
+     * Removes the given value from the index.
+     *
+     * @param value The value to be removed.
+     * @return {@code true} if the value was indexed; {@code false} otherwise.
+     */
+    public boolean remove(@NonNull T value) {
+        final double[] bounds = mBounds.remove(value);
+        if (bounds == null) {
+            return false;
+        }
+
+        final double south = bounds[0];
+        final double west = bounds[1];
+        final double north = bounds[2];
+        final double east = bounds[3];
+        if (west <= east) {
+            mTree.remove(value, west, south, east, north);
+        } else {
+            mTree.remove(value, west, south, 180, north);
+            mTree.remove(value, -180, south, east, north);
+            mWrappedCount--;
+        }
+        return true;
+    }
+
+    /**
+     * Removes all values from the index.
+     */
+    public void clear() {
+        mTree.clear();
+        mBounds.clear();
+        mWrappedCount = 0;
+    }
+
+    public boolean contains(@NonNull T value) {
+        return mBounds.containsKey(value);
+    }
+
+    public int size() {
+        return mBounds.size();
+    }
+
+    /**
+     * Finds the values whose bounds intersect the given bounds.
+     *
+     * @param bounds The bounds to search within.
+     * @return The values found, in no particular order.
+     */
+    public @NonNull List<T> search(@NonNull LatLngBounds bounds) {
+        final List<T> out = new ArrayList<>();
+        search(bounds, out);
+        return out;
+    }
+
+    /**
+     * Finds the values whose bounds intersect the given bounds, and adds them to the given
+     * collection.
+     *
+     * @param bounds The bounds to search within.
+     * @param out The collection to add the values found to.
+     */
+    public void search(@NonNull LatLngBounds bounds, @NonNull Collection<? super T> out) {
+        final LatLng southwest = bounds.getSouthwest();
+        final LatLng northeast = bounds.getNortheast();
+        search(southwest.getLatitude(), southwest.getLongitude(),
+                northeast.getLatitude(), northeast.getLongitude(), out);
+    }
+
+    /**
+     * Finds the values whose bounds contain the given point.
+     *
+     * @param point The point to search at.
+     * @return The values found, in no particular order.
+     */
+    public @NonNull List<T> search(@NonNull LatLng point) {
+        final List<T> out = new ArrayList<>();
+        search(point.getLatitude(), point.getLongitude(),
+                point.getLatitude(), point.getLongitude(), out);
+        return out;
+    }
+
+    /**
+     * Finds the values whose bounds intersect the given bounds in degrees, and adds them to the
+     * given collection. A west longitude greater than the east longitude denotes bounds crossing
+     * the antimeridian.
+     *
+     * @param south The southern latitude of the bounds.
+     * @param west The western longitude of the bounds.
+     * @param north The northern latitude of the bounds.
+     * @param east The eastern longitude of the bounds.
+     * @param out The collection to add the values found to.
+     */
+    public void search(
+            double south,
+            double west,
+            double north,
+            double east,
+            @NonNull Collection<? super T> out
+    ) {
+        if (mWrappedCount == 0 && west <= east) {
+            mTree.search(west, south, east, north, out);
+            return;
+        }
+
+        // Values may be found on both sides of the antimeridian.
+        final Set<T> found = new LinkedHashSet<>();
+        if (west <= east) {
+            mTree.search(west, south, east, north, found);
+        } else {
+            mTree.search(west, south, 180, north, found);
+            mTree.search(-180, south, east, north, found);
+        }
+        out.addAll(found);
+    }
+
+    /**
+     * Finds the values whose bounds are nearest to the given point, by approximate distance.
+     * Values whose bounds contain the point are at a distance of zero.
+     *
+     * @param point The point to search around.
+     * @param count The maximum number of values to find.
+     * @return The values found, nearest first.
+     */
+    public @NonNull List<T> nearest(@NonNull LatLng point, int count) {
+        return nearest(point, count, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Finds the values whose bounds are nearest to the given point, by approximate distance,
+     * within a maximum distance.
+     *
+     * @param point The point to search around.
+     * @param count The maximum number of values to find.
+     * @param maxDistance The maximum distance in meters.
+     * @return The values found, nearest first.
+     */
+    public @NonNull List<T> nearest(@NonNull LatLng point, int count, double maxDistance) {
+        final List<T> out = new ArrayList<>(Math.min(count, size()));
+        if (count <= 0) {
+            return out;
+        }
+
+        final double lat = Math.toRadians(point.getLatitude());
+        final double lng = point.getLongitude();
+        final Set<T> seen = mWrappedCount == 0 ? null : new LinkedHashSet<T>();
+
+        mTree.nearest(
+                entry -> distanceToRect(lat, lng, entry),
+                (value, distance) -> {
+                    if (distance > maxDistance) {
+                        return false;
+                    }
+                    if (seen == null || seen.add(value)) {
+                        out.add(value);
+                    }
+                    return out.size() < count;
+                }
+        );
+        return out;
+    }
+
+    /**
+     * Gets the approximate distance in meters from the point to the rectangle of the given entry,
+     * using an equirectangular projection.
+     */
+    private static double distanceToRect(
+            double lat,
+            double lng,
+            @NonNull RTree.Entry<?> entry
+    ) {
+        final double latDelta;
+        final double minLat = Math.toRadians(entry.minY);
+        final double maxLat = Math.toRadians(entry.maxY);
+        if (lat < minLat) {
+            latDelta = minLat - lat;
+        } else if (lat > maxLat) {
+            latDelta = lat - maxLat;
+        } else {
+            latDelta = 0;
+        }
+
+        final double lngDelta;
+        if (lng >= entry.minX && lng <= entry.maxX) {
+            lngDelta = 0;
+        } else {
+            final double toWest = wrap(entry.minX - lng);
+            final double toEast = wrap(lng - entry.maxX);
+            lngDelta = Math.toRadians(Math.min(toWest, toEast));
+        }
+
+        // Scale parallels by the largest cosine between the point and the rectangle, so that a
+        // rectangle is never farther than anything it contains.
+        final double low = Math.min(lat, minLat);
+        final double high = Math.max(lat, maxLat);
+        final double cos = low <= 0 && high >= 0
+                ? 1
+                : Math.cos(Math.min(Math.abs(low), Math.abs(high)));
+        final double x = lngDelta * cos;
+        return LatLngMath.EARTH_RADIUS * Math.sqrt(x * x + latDelta * latDelta);
+    }
+
+    private static double wrap(double degrees) {
+        return ((degrees % 360) + 360) % 360;
+    }
+
+}
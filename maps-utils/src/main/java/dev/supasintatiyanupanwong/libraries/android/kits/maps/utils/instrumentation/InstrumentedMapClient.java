@@ -0,0 +1,501 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.instrumentation;
+
+import static android.Manifest.permission.ACCESS_COARSE_LOCATION;
+import static android.Manifest.permission.ACCESS_FINE_LOCATION;
+
+import android.graphics.Bitmap;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresPermission;
+import androidx.annotation.UiThread;
+
+import java.util.Collection;
+import java.util.List;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.CameraPosition;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.CameraUpdate;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Circle;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.GroundOverlay;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.IndoorBuilding;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LocationSource;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapStyle;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Marker;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polygon;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polyline;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Projection;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.TileOverlay;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.TileProvider;
+
+/**
+ * A {@link MapClient} which records the calls to the costly operations of another map, such as
+ * adding overlays, moving the camera and taking snapshots, to a {@link MapInstrumentation}.
+ * <p>
+ * The overlays returned are those of the decorated map, so the calls to their own methods are not
+ * recorded; they can be recorded with {@link MapInstrumentation#begin} and
+ * {@link MapInstrumentation#end}. Tile providers are recorded by wrapping them with
+ * {@link #instrument(TileProvider)} before adding their tile overlays.
+ *
+ * @since 2.4.0
+ */
+@UiThread
+public class InstrumentedMapClient implements MapClient {
+
+    private final @NonNull MapClient mDelegate;
+    private final @NonNull String mBackend;
+    private final @NonNull MapInstrumentation mInstrumentation;
+    private final @NonNull MapInstrumentation.Recorder mRecorder;
+
+    /**
+     * @param delegate        The map to record the calls of.
+     * @param instrumentation The instrumentation to record the calls to.
+     */
+    public InstrumentedMapClient(
+            @NonNull MapClient delegate,
+            @NonNull MapInstrumentation instrumentation
+    ) {
+        mDelegate = delegate;
+        mBackend = MapInstrumentation.getBackendName(delegate);
+        mRecorder = instrumentation.getRecorder(mBackend);
+        mInstrumentation = instrumentation;
+    }
+
+    public @NonNull MapClient getDelegate() {
+        return mDelegate;
+    }
+
+    /**
+     * Gets the name of the backend of the decorated map.
+     */
+    public @NonNull String getBackendName() {
+        return mBackend;
+    }
+
+    /**
+     * Wraps a tile provider so that its calls are recorded for the backend of this map.
+     */
+    public @NonNull TileProvider instrument(@NonNull TileProvider provider) {
+        return new InstrumentedTileProvider(provider, mInstrumentation, mBackend);
+    }
+
+    @Override public @NonNull CameraPosition getCameraPosition() {
+        return mDelegate.getCameraPosition();
+    }
+
+    @Override public float getMaxZoomLevel() {
+        return mDelegate.getMaxZoomLevel();
+    }
+
+    @Override public float getMinZoomLevel() {
+        return mDelegate.getMinZoomLevel();
+    }
+
+    @Override public void moveCamera(@NonNull CameraUpdate update) {
+        final long token = mRecorder.begin(MapInstrumentation.MOVE_CAMERA, true);
+        try {
+            mDelegate.moveCamera(update);
+        } finally {
+            mRecorder.end(MapInstrumentation.MOVE_CAMERA, token);
+        }
+    }
+
+    @Override public void animateCamera(@NonNull CameraUpdate update) {
+        final long token = mRecorder.begin(MapInstrumentation.ANIMATE_CAMERA, true);
+        try {
+            mDelegate.animateCamera(update);
+        } finally {
+            mRecorder.end(MapInstrumentation.ANIMATE_CAMERA, token);
+        }
+    }
+
+    @Override public void animateCamera(
+            @NonNull CameraUpdate update,
+            @Nullable CancelableCallback callback
+    ) {
+        final long token = mRecorder.begin(MapInstrumentation.ANIMATE_CAMERA, true);
+        try {
+            mDelegate.animateCamera(update, callback);
+        } finally {
+            mRecorder.end(MapInstrumentation.ANIMATE_CAMERA, token);
+        }
+    }
+
+    @Override public void animateCamera(
+            @NonNull CameraUpdate update,
+            int durationMs,
+            @Nullable CancelableCallback callback
+    ) {
+        final long token = mRecorder.begin(MapInstrumentation.ANIMATE_CAMERA, true);
+        try {
+            mDelegate.animateCamera(update, durationMs, callback);
+        } finally {
+            mRecorder.end(MapInstrumentation.ANIMATE_CAMERA, token);
+        }
+    }
+
+    @Override public void stopAnimation() {
+        mDelegate.stopAnimation();
+    }
+
+    @Override public @Nullable Polyline addPolyline(@NonNull Polyline.Options options) {
+        final long token = mRecorder.begin(MapInstrumentation.ADD_POLYLINE, true);
+        try {
+            return mDelegate.addPolyline(options);
+        } finally {
+            mRecorder.end(MapInstrumentation.ADD_POLYLINE, token);
+        }
+    }
+
+    @Override public @Nullable Polygon addPolygon(@NonNull Polygon.Options options) {
+        final long token = mRecorder.begin(MapInstrumentation.ADD_POLYGON, true);
+        try {
+            return mDelegate.addPolygon(options);
+        } finally {
+            mRecorder.end(MapInstrumentation.ADD_POLYGON, token);
+        }
+    }
+
+    @Override public @Nullable Circle addCircle(@NonNull Circle.Options options) {
+        final long token = mRecorder.begin(MapInstrumentation.ADD_CIRCLE, true);
+        try {
+            return mDelegate.addCircle(options);
+        } finally {
+            mRecorder.end(MapInstrumentation.ADD_CIRCLE, token);
+        }
+    }
+
+    @Override public @Nullable Marker addMarker(@NonNull Marker.Options options) {
+        final long token = mRecorder.begin(MapInstrumentation.ADD_MARKER, true);
+        try {
+            return mDelegate.addMarker(options);
+        } finally {
+            mRecorder.end(MapInstrumentation.ADD_MARKER, token);
+        }
+    }
+
+    @Override public @Nullable GroundOverlay addGroundOverlay(
+            @NonNull GroundOverlay.Options options
+    ) {
+        final long token = mRecorder.begin(MapInstrumentation.ADD_GROUND_OVERLAY, true);
+        try {
+            return mDelegate.addGroundOverlay(options);
+        } finally {
+            mRecorder.end(MapInstrumentation.ADD_GROUND_OVERLAY, token);
+        }
+    }
+
+    @Override public @Nullable TileOverlay addTileOverlay(@NonNull TileOverlay.Options options) {
+        final long token = mRecorder.begin(MapInstrumentation.ADD_TILE_OVERLAY, true);
+        try {
+            return mDelegate.addTileOverlay(options);
+        } finally {
+            mRecorder.end(MapInstrumentation.ADD_TILE_OVERLAY, token);
+        }
+    }
+
+    @Override public @NonNull List<Polyline> addPolylines(@NonNull List<Polyline.Options> options) {
+        final long token = mRecorder.begin(MapInstrumentation.ADD_POLYLINES, true);
+        try {
+            return mDelegate.addPolylines(options);
+        } finally {
+            mRecorder.end(MapInstrumentation.ADD_POLYLINES, token);
+        }
+    }
+
+    @Override public @NonNull List<Polygon> addPolygons(@NonNull List<Polygon.Options> options) {
+        final long token = mRecorder.begin(MapInstrumentation.ADD_POLYGONS, true);
+        try {
+            return mDelegate.addPolygons(options);
+        } finally {
+            mRecorder.end(MapInstrumentation.ADD_POLYGONS, token);
+        }
+    }
+
+    @Override public @NonNull List<Circle> addCircles(@NonNull List<Circle.Options> options) {
+        final long token = mRecorder.begin(MapInstrumentation.ADD_CIRCLES, true);
+        try {
+            return mDelegate.addCircles(options);
+        } finally {
+            mRecorder.end(MapInstrumentation.ADD_CIRCLES, token);
+        }
+    }
+
+    @Override public @NonNull List<Marker> addMarkers(@NonNull List<Marker.Options> options) {
+        final long token = mRecorder.begin(MapInstrumentation.ADD_MARKERS, true);
+        try {
+            return mDelegate.addMarkers(options);
+        } finally {
+            mRecorder.end(MapInstrumentation.ADD_MARKERS, token);
+        }
+    }
+
+    @Override public void removeAll(@NonNull Collection<?> overlays) {
+        final long token = mRecorder.begin(MapInstrumentation.REMOVE_ALL, true);
+        try {
+            mDelegate.removeAll(overlays);
+        } finally {
+            mRecorder.end(MapInstrumentation.REMOVE_ALL, token);
+        }
+    }
+
+    @Override public void clear() {
+        final long token = mRecorder.begin(MapInstrumentation.CLEAR, true);
+        try {
+            mDelegate.clear();
+        } finally {
+            mRecorder.end(MapInstrumentation.CLEAR, token);
+        }
+    }
+
+    @Override public @Nullable IndoorBuilding getFocusedBuilding() {
+        return mDelegate.getFocusedBuilding();
+    }
+
+    @Override public void setOnIndoorStateChangeListener(
+            @Nullable OnIndoorStateChangeListener listener
+    ) {
+        mDelegate.setOnIndoorStateChangeListener(listener);
+    }
+
+    @Override public int getMapType() {
+        return mDelegate.getMapType();
+    }
+
+    @Override public void setMapType(int type) {
+        mDelegate.setMapType(type);
+    }
+
+    @Override public boolean isTrafficEnabled() {
+        return mDelegate.isTrafficEnabled();
+    }
+
+    @Override public void setTrafficEnabled(boolean enabled) {
+        mDelegate.setTrafficEnabled(enabled);
+    }
+
+    @Override public boolean isIndoorEnabled() {
+        return mDelegate.isIndoorEnabled();
+    }
+
+    @Override public boolean setIndoorEnabled(boolean enabled) {
+        return mDelegate.setIndoorEnabled(enabled);
+    }
+
+    @Override public boolean isBuildingsEnabled() {
+        return mDelegate.isBuildingsEnabled();
+    }
+
+    @Override public void setBuildingsEnabled(boolean enabled) {
+        mDelegate.setBuildingsEnabled(enabled);
+    }
+
+    @Override public boolean isMyLocationEnabled() {
+        return mDelegate.isMyLocationEnabled();
+    }
+
+    @RequiresPermission(anyOf = {ACCESS_COARSE_LOCATION, ACCESS_FINE_LOCATION})
+    @Override public void setMyLocationEnabled(boolean enabled) {
+        mDelegate.setMyLocationEnabled(enabled);
+    }
+
+    @Override public void setLocationSource(@Nullable LocationSource source) {
+        mDelegate.setLocationSource(source);
+    }
+
+    @Override public @NonNull UiSettings getUiSettings() {
+        return mDelegate.getUiSettings();
+    }
+
+    @Override public @NonNull Projection getProjection() {
+        final long token = mRecorder.begin(MapInstrumentation.GET_PROJECTION, true);
+        try {
+            return mDelegate.getProjection();
+        } finally {
+            mRecorder.end(MapInstrumentation.GET_PROJECTION, token);
+        }
+    }
+
+    @Override public void setOnCameraMoveStartedListener(
+            @Nullable OnCameraMoveStartedListener listener
+    ) {
+        mDelegate.setOnCameraMoveStartedListener(listener);
+    }
+
+    @Override public void setOnCameraMoveListener(@Nullable OnCameraMoveListener listener) {
+        mDelegate.setOnCameraMoveListener(listener);
+    }
+
+    @Override public void setOnCameraMoveCanceledListener(
+            @Nullable OnCameraMoveCanceledListener listener
+    ) {
+        mDelegate.setOnCameraMoveCanceledListener(listener);
+    }
+
+    @Override public void setOnCameraIdleListener(@Nullable OnCameraIdleListener listener) {
+        mDelegate.setOnCameraIdleListener(listener);
+    }
+
+    @Override public void setOnMapClickListener(@Nullable OnMapClickListener listener) {
+        mDelegate.setOnMapClickListener(listener);
+    }
+
+    @Override public void setOnMapLongClickListener(@Nullable OnMapLongClickListener listener) {
+        mDelegate.setOnMapLongClickListener(listener);
+    }
+
+    @Override public void setOnMarkerClickListener(@Nullable OnMarkerClickListener listener) {
+        mDelegate.setOnMarkerClickListener(listener);
+    }
+
+    @Override public void setOnMarkerDragListener(@Nullable OnMarkerDragListener listener) {
+        mDelegate.setOnMarkerDragListener(listener);
+    }
+
+    @Override public void setOnInfoWindowClickListener(
+            @Nullable OnInfoWindowClickListener listener
+    ) {
+        mDelegate.setOnInfoWindowClickListener(listener);
+    }
+
+    @Override public void setOnInfoWindowLongClickListener(
+            @Nullable OnInfoWindowLongClickListener listener
+    ) {
+        mDelegate.setOnInfoWindowLongClickListener(listener);
+    }
+
+    @Override public void setOnInfoWindowCloseListener(
+            @Nullable OnInfoWindowCloseListener listener
+    ) {
+        mDelegate.setOnInfoWindowCloseListener(listener);
+    }
+
+    @Override public void setInfoWindowAdapter(@Nullable InfoWindowAdapter adapter) {
+        mDelegate.setInfoWindowAdapter(adapter);
+    }
+
+    @Override public void setOnMyLocationButtonClickListener(
+            @Nullable OnMyLocationButtonClickListener listener
+    ) {
+        mDelegate.setOnMyLocationButtonClickListener(listener);
+    }
+
+    @Override public void setOnMyLocationClickListener(
+            @Nullable OnMyLocationClickListener listener
+    ) {
+        mDelegate.setOnMyLocationClickListener(listener);
+    }
+
+    @Override public void setOnMapLoadedCallback(@Nullable OnMapLoadedCallback callback) {
+        mDelegate.setOnMapLoadedCallback(callback);
+    }
+
+    @Override public void setOnGroundOverlayClickListener(
+            @Nullable OnGroundOverlayClickListener listener
+    ) {
+        mDelegate.setOnGroundOverlayClickListener(listener);
+    }
+
+    @Override public void setOnCircleClickListener(@Nullable OnCircleClickListener listener) {
+        mDelegate.setOnCircleClickListener(listener);
+    }
+
+    @Override public void setOnPolygonClickListener(@Nullable OnPolygonClickListener listener) {
+        mDelegate.setOnPolygonClickListener(listener);
+    }
+
+    @Override public void setOnPolylineClickListener(@Nullable OnPolylineClickListener listener) {
+        mDelegate.setOnPolylineClickListener(listener);
+    }
+
+    @Override public void snapshot(@NonNull SnapshotReadyCallback callback) {
+        final long token = mRecorder.begin(MapInstrumentation.SNAPSHOT, false);
+        if (token < 0) {
+            mDelegate.snapshot(callback);
+            return;
+        }
+        mDelegate.snapshot(snapshot -> {
+            mRecorder.end(MapInstrumentation.SNAPSHOT, token);
+            callback.onSnapshotReady(snapshot);
+        });
+    }
+
+    @Override public void snapshot(
+            @NonNull SnapshotReadyCallback callback,
+            @Nullable Bitmap bitmap
+    ) {
+        final long token = mRecorder.begin(MapInstrumentation.SNAPSHOT, false);
+        if (token < 0) {
+            mDelegate.snapshot(callback, bitmap);
+            return;
+        }
+        mDelegate.snapshot(snapshot -> {
+            mRecorder.end(MapInstrumentation.SNAPSHOT, token);
+            callback.onSnapshotReady(snapshot);
+        }, bitmap);
+    }
+
+    @Override public void setPadding(int left, int top, int right, int bottom) {
+        mDelegate.setPadding(left, top, right, bottom);
+    }
+
+    @Override public void setContentDescription(String description) {
+        mDelegate.setContentDescription(description);
+    }
+
+    @Override public void setOnPoiClickListener(@Nullable OnPoiClickListener listener) {
+        mDelegate.setOnPoiClickListener(listener);
+    }
+
+    @Override public boolean setMapStyle(@Nullable Style.Options style) {
+        final long token = mRecorder.begin(MapInstrumentation.SET_MAP_STYLE, true);
+        try {
+            return mDelegate.setMapStyle(style);
+        } finally {
+            mRecorder.end(MapInstrumentation.SET_MAP_STYLE, token);
+        }
+    }
+
+    @Override public boolean setMapStyle(@Nullable MapStyle.Options style) {
+        final long token = mRecorder.begin(MapInstrumentation.SET_MAP_STYLE, true);
+        try {
+            return mDelegate.setMapStyle(style);
+        } finally {
+            mRecorder.end(MapInstrumentation.SET_MAP_STYLE, token);
+        }
+    }
+
+    @Override public void setMinZoomPreference(float minZoomPreference) {
+        mDelegate.setMinZoomPreference(minZoomPreference);
+    }
+
+    @Override public void setMaxZoomPreference(float maxZoomPreference) {
+        mDelegate.setMaxZoomPreference(maxZoomPreference);
+    }
+
+    @Override public void resetMinMaxZoomPreference() {
+        mDelegate.resetMinMaxZoomPreference();
+    }
+
+    @Override public void setLatLngBoundsForCameraTarget(@Nullable LatLngBounds bounds) {
+        mDelegate.setLatLngBoundsForCameraTarget(bounds);
+    }
+
+}
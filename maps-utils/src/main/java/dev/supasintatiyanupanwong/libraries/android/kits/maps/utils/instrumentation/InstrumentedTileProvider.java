@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.instrumentation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Tile;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.TileProvider;
+
+/**
+ * A {@link TileProvider} which records the calls to {@link #getTile} of another provider, as the
+ * {@link MapInstrumentation#GET_TILE} operation.
+ *
+ * @since 2.4.0
+ */
+public class InstrumentedTileProvider implements TileProvider {
+
+    private final @NonNull TileProvider mDelegate;
+    private final @NonNull MapInstrumentation.Recorder mRecorder;
+
+    /**
+     * @param delegate        The provider to record the calls of.
+     * @param instrumentation The instrumentation to record the calls to.
+     * @param backend         The name of the backend of the map the tiles are for, as from
+     *                        {@link MapInstrumentation#getBackendName}.
+     */
+    public InstrumentedTileProvider(
+            @NonNull TileProvider delegate,
+            @NonNull MapInstrumentation instrumentation,
+            @NonNull String backend
+    ) {
+        mDelegate = delegate;
+        mRecorder = instrumentation.getRecorder(backend);
+    }
+
+    public @NonNull TileProvider getDelegate() {
+        return mDelegate;
+    }
+
+    @WorkerThread
+    @Override public @Nullable Tile getTile(int x, int y, int zoom) {
+        final long token = mRecorder.begin(MapInstrumentation.GET_TILE, true);
+        try {
+            return mDelegate.getTile(x, y, zoom);
+        } finally {
+            mRecorder.end(MapInstrumentation.GET_TILE, token);
+        }
+    }
+
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.instrumentation;
+
+import android.os.Trace;
+
+import androidx.annotation.AnyThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
+
+/**
+ * Records the call counts, latencies and allocations of the operations of the maps, per backend.
+ * <p>
+ * Calls are recorded through an {@link InstrumentedMapClient} decorating the map, an
+ * {@link InstrumentedTileProvider} decorating a tile provider, or {@link #begin} and {@link #end}
+ * around other calls, such as setting the points of a polyline. While disabled, an instrumented
+ * call costs a single volatile read, so that instrumentation can be shipped and enabled for a
+ * sample of users only.
+ * <p>
+ * The statistics are read with {@link #getStats()}, or received per call through a
+ * {@link Listener}. Calls can also be emitted as {@link Trace} sections, named as in
+ * {@code "MapKit.addMarker"}.
+ *
+ * @since 2.4.0
+ */
+@AnyThread
+public final class MapInstrumentation {
+
+    public static final String ADD_MARKER = "addMarker";
+    public static final String ADD_MARKERS = "addMarkers";
+    public static final String ADD_POLYLINE = "addPolyline";
+    public static final String ADD_POLYLINES = "addPolylines";
+    public static final String ADD_POLYGON = "addPolygon";
+    public static final String ADD_POLYGONS = "addPolygons";
+    public static final String ADD_CIRCLE = "addCircle";
+    public static final String ADD_CIRCLES = "addCircles";
+    public static final String ADD_GROUND_OVERLAY = "addGroundOverlay";
+    public static final String ADD_TILE_OVERLAY = "addTileOverlay";
+    public static final String REMOVE_ALL = "removeAll";
+    public static final String CLEAR = "clear";
+    public static final String MOVE_CAMERA = "moveCamera";
+    public static final String ANIMATE_CAMERA = "animateCamera";
+    public static final String GET_PROJECTION = "getProjection";
+    public static final String SET_MAP_STYLE = "setMapStyle";
+    public static final String SNAPSHOT = "snapshot";
+    public static final String GET_TILE = "getTile";
+    public static final String SET_POINTS = "setPoints";
+
+    /**
+     * The number of buckets of the latency histograms. Bucket {@code 0} counts the calls shorter
+     * than a microsecond, bucket {@code i} those from {@code 2^(i-1)} to {@code 2^i} microseconds,
+     * and the last bucket all the longer ones.
+     */
+    public static final int HISTOGRAM_BUCKETS = 24;
+
+    private static final String TRACE_PREFIX = "MapKit.";
+
+    private static final long FLAG_TRACED = 1;
+    private static final long FLAG_ALLOCATIONS = 2;
+    private static final long FLAGS_MASK = FLAG_TRACED | FLAG_ALLOCATIONS;
+
+    private final @NonNull ConcurrentHashMap<String, Recorder> mRecorders =
+            new ConcurrentHashMap<>();
+
+    private volatile boolean mEnabled;
+    private volatile boolean mTraceEnabled = false;
+    private volatile boolean mAllocationTrackingEnabled = false;
+    private volatile @Nullable Listener mListener;
+
+    /**
+     * @param enabled Whether calls are recorded, e.g. for a sample of users.
+     */
+    public MapInstrumentation(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    /**
+     * Sets whether the recorded calls are emitted as {@link Trace} sections. Disabled by default.
+     * Asynchronous operations, such as {@link #SNAPSHOT}, are not emitted.
+     */
+    public void setTraceEnabled(boolean enabled) {
+        mTraceEnabled = enabled;
+    }
+
+    /**
+     * Sets whether the allocations of the recorded calls are estimated, from the growth of the
+     * used heap during each call. Disabled by default. The estimates are only meaningful over many
+     * calls, since the heap is shared with the other threads and shrinks on garbage collections.
+     * The allocations of asynchronous operations, such as {@link #SNAPSHOT}, are not estimated.
+     */
+    public void setAllocationTrackingEnabled(boolean enabled) {
+        mAllocationTrackingEnabled = enabled;
+    }
+
+    /**
+     * Sets the listener of each recorded call, or {@code null}. The listener is called on the
+     * thread of the call, right after it returns, and should be cheap.
+     */
+    public void setListener(@Nullable Listener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Begins recording a call. Must be followed by {@link #end} with the returned token on the
+     * same thread.
+     *
+     * @param backend   The name of the backend, as from {@link #getBackendName(MapClient)}.
+     * @param operation The name of the operation.
+     * @return The token of the call, or {@code -1} if disabled.
+     */
+    public long begin(@NonNull String backend, @NonNull String operation) {
+        if (!mEnabled) {
+            return -1;
+        }
+        return getRecorder(backend).begin(operation, true);
+    }
+
+    /**
+     * Ends recording a call.
+     *
+     * @param backend   The name of the backend.
+     * @param operation The name of the operation.
+     * @param token     The token returned by {@link #begin}.
+     */
+    public void end(@NonNull String backend, @NonNull String operation, long token) {
+        if (token < 0) {
+            return;
+        }
+        getRecorder(backend).end(operation, token);
+    }
+
+    /**
+     * Gets a snapshot of the statistics of every operation recorded so far.
+     */
+    public @NonNull List<OperationStats> getStats() {
+        final List<OperationStats> stats = new ArrayList<>();
+        for (Recorder recorder : mRecorders.values()) {
+            for (Counter counter : recorder.mCounters.values()) {
+                stats.add(counter.snapshot(recorder.mBackend));
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Clears the statistics recorded so far. The instrumented maps and tile providers keep
+     * recording into the same statistics.
+     */
+    public void reset() {
+        for (Recorder recorder : mRecorders.values()) {
+            recorder.mCounters.clear();
+        }
+    }
+
+    /**
+     * Gets the name of the backend of a map, as in {@code "Google"}.
+     */
+    public static @NonNull String getBackendName(@NonNull MapClient map) {
+        final String name = map.getClass().getSimpleName();
+        return name.endsWith("MapClient") && name.length() > "MapClient".length()
+                ? name.substring(0, name.length() - "MapClient".length())
+                : name;
+    }
+
+
+    @NonNull Recorder getRecorder(@NonNull String backend) {
+        @Nullable Recorder recorder = mRecorders.get(backend);
+        if (recorder == null) {
+            recorder = new Recorder(backend);
+            final @Nullable Recorder previous = mRecorders.putIfAbsent(backend, recorder);
+            if (previous != null) {
+                recorder = previous;
+            }
+        }
+        return recorder;
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+
+    /**
+     * Listener for each recorded call.
+     */
+    public interface Listener {
+        /**
+         * Called when a call has been recorded.
+         *
+         * @param backend        The name of the backend.
+         * @param operation      The name of the operation.
+         * @param durationNanos  The duration of the call, in nanoseconds.
+         * @param allocatedBytes The estimated bytes allocated by the call, or {@code 0} if
+         *                       allocation tracking is disabled.
+         */
+        @AnyThread
+        void onOperation(
+                @NonNull String backend,
+                @NonNull String operation,
+                long durationNanos,
+                long allocatedBytes
+        );
+    }
+
+    /**
+     * A snapshot of the statistics of an operation on a backend.
+     */
+    public static final class OperationStats {
+        private final @NonNull String mBackend;
+        private final @NonNull String mOperation;
+        private final long mCount;
+        private final long mTotalNanos;
+        private final long mMaxNanos;
+        private final long mAllocatedBytes;
+        private final @NonNull long[] mHistogram;
+
+        OperationStats(
+                @NonNull String backend,
+                @NonNull String operation,
+                long count,
+                long totalNanos,
+                long maxNanos,
+                long allocatedBytes,
+                @NonNull long[] histogram
+        ) {
+            mBackend = backend;
+            mOperation = operation;
+            mCount = count;
+            mTotalNanos = totalNanos;
+            mMaxNanos = maxNanos;
+            mAllocatedBytes = allocatedBytes;
+            mHistogram = histogram;
+        }
+
+        public @NonNull String getBackend() {
+            return mBackend;
+        }
+
+        public @NonNull String getOperation() {
+            return mOperation;
+        }
+
+        public long getCount() {
+            return mCount;
+        }
+
+        public long getTotalNanos() {
+            return mTotalNanos;
+        }
+
+        public long getMaxNanos() {
+            return mMaxNanos;
+        }
+
+        /**
+         * Gets the estimated bytes allocated by all the calls, or {@code 0} if allocation
+         * tracking is disabled.
+         */
+        public long getAllocatedBytes() {
+            return mAllocatedBytes;
+        }
+
+        /**
+         * Gets the number of calls per latency bucket, as described in
+         * {@link #HISTOGRAM_BUCKETS}.
+         */
+        public @NonNull long[] getHistogram() {
+            return mHistogram.clone();
+        }
+
+        /**
+         * Gets an upper bound of the given percentile of the latencies, from the histogram.
+         *
+         * @param percentile The percentile, within [0, 100].
+         * @return The upper bound of the bucket of the percentile, in nanoseconds, or the maximum
+         * latency for the last bucket.
+         */
+        public long getPercentileNanos(double percentile) {
+            final double target = mCount * percentile / 100;
+            long count = 0;
+            for (int i = 0; i < HISTOGRAM_BUCKETS - 1; i++) {
+                count += mHistogram[i];
+                if (count > 0 && count >= target) {
+                    return Math.min((1L << i) * 1000, mMaxNanos);
+                }
+            }
+            return mMaxNanos;
+        }
+
+        @Override public @NonNull String toString() {
+            return "OperationStats{"
+                    + "backend=" + mBackend
+                    + ", operation=" + mOperation
+                    + ", count=" + mCount
+                    + ", totalNanos=" + mTotalNanos
+                    + ", maxNanos=" + mMaxNanos
+                    + ", allocatedBytes=" + mAllocatedBytes
+                    + '}';
+        }
+    }
+
+    /**
+     * Records the calls to the operations of a backend.
+     */
+    final class Recorder {
+        final @NonNull String mBackend;
+        final @NonNull ConcurrentHashMap<String, Counter> mCounters = new ConcurrentHashMap<>();
+        private final @NonNull ThreadLocal<long[]> mMemory = new ThreadLocal<>();
+
+        Recorder(@NonNull String backend) {
+            mBackend = backend;
+        }
+
+        /**
+         * @param synchronous Whether the call ends on the same thread, to be traced and have its
+         *                    allocations estimated.
+         * @return The token of the call, or {@code -1} if disabled.
+         */
+        long begin(@NonNull String operation, boolean synchronous) {
+            if (!mEnabled) {
+                return -1;
+            }
+            // The flags are kept in the low bits of the token, in case they change until the end.
+            long flags = 0;
+            if (synchronous && mTraceEnabled) {
+                Trace.beginSection(getCounter(operation).mTraceSection);
+                flags |= FLAG_TRACED;
+            }
+            if (synchronous && mAllocationTrackingEnabled) {
+                @Nullable long[] memory = mMemory.get();
+                if (memory == null) {
+                    memory = new long[1];
+                    mMemory.set(memory);
+                }
+                memory[0] = usedMemory();
+                flags |= FLAG_ALLOCATIONS;
+            }
+            return (System.nanoTime() & ~FLAGS_MASK & Long.MAX_VALUE) | flags;
+        }
+
+        void end(@NonNull String operation, long token) {
+            if (token < 0) {
+                return;
+            }
+            final long duration = Math.max(0, System.nanoTime() - (token & ~FLAGS_MASK));
+            if ((token & FLAG_TRACED) != 0) {
+                Trace.endSection();
+            }
+            long allocated = 0;
+            if ((token & FLAG_ALLOCATIONS) != 0) {
+                final @Nullable long[] memory = mMemory.get();
+                if (memory != null) {
+                    allocated = Math.max(0, usedMemory() - memory[0]);
+                }
+            }
+
+            getCounter(operation).record(duration, allocated);
+
+            final @Nullable Listener listener = mListener;
+            if (listener != null) {
+                listener.onOperation(mBackend, operation, duration, allocated);
+            }
+        }
+
+        private @NonNull Counter getCounter(@NonNull String operation) {
+            @Nullable Counter counter = mCounters.get(operation);
+            if (counter == null) {
+                counter = new Counter(operation);
+                final @Nullable Counter previous = mCounters.putIfAbsent(operation, counter);
+                if (previous != null) {
+                    counter = previous;
+                }
+            }
+            return counter;
+        }
+    }
+
+    private static final class Counter {
+        final @NonNull String mOperation;
+        final @NonNull String mTraceSection;
+        final @NonNull AtomicLong mCount = new AtomicLong();
+        final @NonNull AtomicLong mTotalNanos = new AtomicLong();
+        final @NonNull AtomicLong mMaxNanos = new AtomicLong();
+        final @NonNull AtomicLong mAllocatedBytes = new AtomicLong();
+        final @NonNull AtomicLongArray mHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+        Counter(@NonNull String operation) {
+            mOperation = operation;
+            mTraceSection = TRACE_PREFIX + operation;
+        }
+
+        void record(long durationNanos, long allocatedBytes) {
+            mCount.incrementAndGet();
+            mTotalNanos.addAndGet(durationNanos);
+            mAllocatedBytes.addAndGet(allocatedBytes);
+            long max;
+            do {
+                max = mMaxNanos.get();
+            } while (durationNanos > max && !mMaxNanos.compareAndSet(max, durationNanos));
+
+            final long micros = durationNanos / 1000;
+            final int bucket = micros <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(micros);
+            mHistogram.incrementAndGet(Math.min(bucket, HISTOGRAM_BUCKETS - 1));
+        }
+
+        @NonNull OperationStats snapshot(@NonNull String backend) {
+            final long[] histogram = new long[HISTOGRAM_BUCKETS];
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                histogram[i] = mHistogram.get(i);
+            }
+            return new OperationStats(
+                    backend,
+                    mOperation,
+                    mCount.get(),
+                    mTotalNanos.get(),
+                    mMaxNanos.get(),
+                    mAllocatedBytes.get(),
+                    histogram
+            );
+        }
+    }
+
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.preparation;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+import androidx.annotation.WorkerThread;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Circle;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.GroundOverlay;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Marker;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polygon;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polyline;
+
+/**
+ * A pipeline which prepares the options of overlays from features on a background executor, and
+ * adds the overlays to the map on the main thread within a time budget per frame.
+ * <p>
+ * Everything done by a {@link Preparer} runs off the main thread, such as decoding the features,
+ * rasterizing icons with the {@code BitmapDescriptor.Factory}, and populating the options created
+ * with {@code MapKit.newMarkerOptions()} and the like. Only the calls to the {@link MapClient}
+ * run on the main thread, a few of them per frame, so that adding many overlays at once does not
+ * freeze the UI. The collections of features are iterated off the main thread, and must not be
+ * modified until their tasks are done:
+ *
+ * <pre>
+ * OverlayPipeline pipeline = new OverlayPipeline(map);
+ * pipeline.addMarkers(places, place -&gt; MapKit.newMarkerOptions()
+ *         .position(MapKit.newLatLng(place.lat, place.lng))
+ *         .icon(factory.fromResource(place.iconRes)), null);
+ * </pre>
+ *
+ * @since 2.4.0
+ */
+@UiThread
+public class OverlayPipeline {
+
+    /**
+     * The default time budget per frame for adding overlays, in nanoseconds.
+     */
+    public static final long DEFAULT_FRAME_BUDGET_NANOS = 4_000_000L;
+
+    private static final int MAX_THREADS = 2;
+    private static final int KEEP_ALIVE_SECONDS = 30;
+
+    private static final AtomicInteger sThreadCount = new AtomicInteger();
+    private static @Nullable Executor sDefaultExecutor;
+
+    private final @NonNull MapClient mMap;
+    private final @NonNull Executor mExecutor;
+    private final long mFrameBudgetNanos;
+
+    private final @NonNull Handler mHandler = new Handler(Looper.getMainLooper());
+    private final @NonNull Choreographer mChoreographer = Choreographer.getInstance();
+    private final @NonNull Queue<Prepared<?, ?, ?>> mQueue = new ConcurrentLinkedQueue<>();
+    private final @NonNull AtomicBoolean mScheduled = new AtomicBoolean();
+    private final @NonNull List<Task<?, ?, ?>> mTasks = new ArrayList<>();
+
+    private final @NonNull Runnable mScheduleFrame = new Runnable() {
+        @Override public void run() {
+            mChoreographer.postFrameCallback(mFrameCallback);
+        }
+    };
+
+    private final @NonNull Choreographer.FrameCallback mFrameCallback =
+            new Choreographer.FrameCallback() {
+                @Override public void doFrame(long frameTimeNanos) {
+                    drain();
+                }
+            };
+
+    /**
+     * Creates a pipeline preparing on a shared background executor, with the default time budget
+     * per frame.
+     */
+    public OverlayPipeline(@NonNull MapClient map) {
+        this(map, getDefaultExecutor(), DEFAULT_FRAME_BUDGET_NANOS);
+    }
+
+    /**
+     * @param map              The map to add the overlays to.
+     * @param executor         The executor to prepare the options on.
+     * @param frameBudgetNanos The time spent adding overlays per frame, in nanoseconds. At least
+     *                         one overlay is added per frame.
+     */
+    public OverlayPipeline(
+            @NonNull MapClient map,
+            @NonNull Executor executor,
+            @IntRange(from = 0) long frameBudgetNanos
+    ) {
+        mMap = map;
+        mExecutor = executor;
+        mFrameBudgetNanos = frameBudgetNanos;
+    }
+
+    /**
+     * Prepares and adds a marker per feature.
+     *
+     * @param features The features to add markers for.
+     * @param preparer The preparer of the options of each marker, run off the main thread.
+     * @param callback The callback for each added marker, or {@code null}.
+     * @return The task, which can be cancelled.
+     */
+    public <F> @NonNull Task<F, Marker.Options, Marker> addMarkers(
+            @NonNull Collection<? extends F> features,
+            @NonNull Preparer<? super F, Marker.Options> preparer,
+            @Nullable Callback<? super F, ? super Marker> callback
+    ) {
+        return submit(new Task<>(features, preparer, callback, mMap::addMarker));
+    }
+
+    /**
+     * Prepares and adds a polyline per feature.
+     *
+     * @param features The features to add polylines for.
+     * @param preparer The preparer of the options of each polyline, run off the main thread.
+     * @param callback The callback for each added polyline, or {@code null}.
+     * @return The task, which can be cancelled.
+     */
+    public <F> @NonNull Task<F, Polyline.Options, Polyline> addPolylines(
+            @NonNull Collection<? extends F> features,
+            @NonNull Preparer<? super F, Polyline.Options> preparer,
+            @Nullable Callback<? super F, ? super Polyline> callback
+    ) {
+        return submit(new Task<>(features, preparer, callback, mMap::addPolyline));
+    }
+
+    /**
+     * Prepares and adds a polygon per feature.
+     *
+     * @param features The features to add polygons for.
+     * @param preparer The preparer of the options of each polygon, run off the main thread.
+     * @param callback The callback for each added polygon, or {@code null}.
+     * @return The task, which can be cancelled.
+     */
+    public <F> @NonNull Task<F, Polygon.Options, Polygon> addPolygons(
+            @NonNull Collection<? extends F> features,
+            @NonNull Preparer<? super F, Polygon.Options> preparer,
+            @Nullable Callback<? super F, ? super Polygon> callback
+    ) {
+        return submit(new Task<>(features, preparer, callback, mMap::addPolygon));
+    }
+
+    /**
+     * Prepares and adds a circle per feature.
+     *
+     * @param features The features to add circles for.
+     * @param preparer The preparer of the options of each circle, run off the main thread.
+     * @param callback The callback for each added circle, or {@code null}.
+     * @return The task, which can be cancelled.
+     */
+    public <F> @NonNull Task<F, Circle.Options, Circle> addCircles(
+            @NonNull Collection<? extends F> features,
+            @NonNull Preparer<? super F, Circle.Options> preparer,
+            @Nullable Callback<? super F, ? super Circle> callback
+    ) {
+        return submit(new Task<>(features, preparer, callback, mMap::addCircle));
+    }
+
+    /**
+     * Prepares and adds a ground overlay per feature.
+     *
+     * @param features The features to add ground overlays for.
+     * @param preparer The preparer of the options of each ground overlay, run off the main thread.
+     * @param callback The callback for each added ground overlay, or {@code null}.
+     * @return The task, which can be cancelled.
+     */
+    public <F> @NonNull Task<F, GroundOverlay.Options, GroundOverlay> addGroundOverlays(
+            @NonNull Collection<? extends F> features,
+            @NonNull Preparer<? super F, GroundOverlay.Options> preparer,
+            @Nullable Callback<? super F, ? super GroundOverlay> callback
+    ) {
+        return submit(new Task<>(features, preparer, callback, mMap::addGroundOverlay));
+    }
+
+    /**
+     * Cancels all the unfinished tasks. The overlays already added are left on the map.
+     */
+    public void cancelAll() {
+        for (Task<?, ?, ?> task : mTasks) {
+            task.mCancelled = true;
+        }
+        mTasks.clear();
+        mQueue.clear();
+    }
+
+    /**
+     * Gets the number of prepared overlays waiting to be added.
+     */
+    public int getPendingCount() {
+        int count = 0;
+        for (Prepared<?, ?, ?> prepared : mQueue) {
+            if (prepared.mOptions != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    private <F, O, R> @NonNull Task<F, O, R> submit(@NonNull Task<F, O, R> task) {
+        mTasks.add(task);
+        mExecutor.execute(task);
+        return task;
+    }
+
+    @WorkerThread
+    private void enqueue(@NonNull Prepared<?, ?, ?> prepared) {
+        mQueue.add(prepared);
+        if (mScheduled.compareAndSet(false, true)) {
+            mHandler.post(mScheduleFrame);
+        }
+    }
+
+    private void drain() {
+        final long deadline = System.nanoTime() + mFrameBudgetNanos;
+        do {
+            final @Nullable Prepared<?, ?, ?> prepared = mQueue.poll();
+            if (prepared == null) {
+                break;
+            }
+            prepared.deliver();
+        } while (System.nanoTime() < deadline);
+
+        if (!mQueue.isEmpty()) {
+            mChoreographer.postFrameCallback(mFrameCallback);
+            return;
+        }
+        mScheduled.set(false);
+        // A worker may have enqueued after the queue was found empty, without scheduling.
+        if (!mQueue.isEmpty() && mScheduled.compareAndSet(false, true)) {
+            mChoreographer.postFrameCallback(mFrameCallback);
+        }
+    }
+
+    private static synchronized @NonNull Executor getDefaultExecutor() {
+        if (sDefaultExecutor == null) {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    MAX_THREADS,
+                    MAX_THREADS,
+                    KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(),
+                    runnable -> new Thread(
+                            runnable,
+                            "MapKit-Prepare-" + sThreadCount.incrementAndGet()
+                    )
+            );
+            executor.allowCoreThreadTimeOut(true);
+            sDefaultExecutor = executor;
+        }
+        return sDefaultExecutor;
+    }
+
+
+    /**
+     * Prepares the options of an overlay from a feature.
+     *
+     * @param <F> The type of the features.
+     * @param <O> The type of the options.
+     */
+    public interface Preparer<F, O> {
+        /**
+         * Prepares the options of the overlay of a feature. Called off the main thread.
+         *
+         * @param feature The feature.
+         * @return The options of the overlay, or {@code null} to skip the feature.
+         */
+        @WorkerThread
+        @Nullable O prepare(@NonNull F feature);
+    }
+
+    /**
+     * Callback for the overlays added by a task. Not called after the task is cancelled.
+     *
+     * @param <F> The type of the features.
+     * @param <R> The type of the overlays.
+     */
+    public interface Callback<F, R> {
+        /**
+         * Called when the overlay of a feature has been added.
+         *
+         * @param feature The feature.
+         * @param overlay The overlay, or {@code null} if the map could not add it.
+         */
+        @UiThread
+        void onAdded(@NonNull F feature, @Nullable R overlay);
+
+        /**
+         * Called when the overlays of all the features have been added.
+         */
+        @UiThread
+        void onComplete();
+    }
+
+    /**
+     * A submitted batch of features.
+     *
+     * @param <F> The type of the features.
+     * @param <O> The type of the options.
+     * @param <R> The type of the overlays.
+     */
+    public final class Task<F, O, R> implements Runnable {
+        private final @NonNull Collection<? extends F> mFeatures;
+        private final @NonNull Preparer<? super F, O> mPreparer;
+        private final @Nullable Callback<? super F, ? super R> mCallback;
+        private final @NonNull Adder<O, R> mAdder;
+
+        private volatile boolean mCancelled = false;
+        private boolean mDone = false;
+        private int mAddedCount = 0;
+
+        Task(
+                @NonNull Collection<? extends F> features,
+                @NonNull Preparer<? super F, O> preparer,
+                @Nullable Callback<? super F, ? super R> callback,
+                @NonNull Adder<O, R> adder
+        ) {
+            mFeatures = features;
+            mPreparer = preparer;
+            mCallback = callback;
+            mAdder = adder;
+        }
+
+        /**
+         * Stops preparing and adding the remaining features. The overlays already added are left
+         * on the map.
+         */
+        @UiThread
+        public void cancel() {
+            mCancelled = true;
+            mTasks.remove(this);
+        }
+
+        @UiThread
+        public boolean isCancelled() {
+            return mCancelled;
+        }
+
+        /**
+         * Gets whether the overlays of all the features have been added.
+         */
+        @UiThread
+        public boolean isDone() {
+            return mDone;
+        }
+
+        /**
+         * Gets the number of overlays added so far.
+         */
+        @UiThread
+        public int getAddedCount() {
+            return mAddedCount;
+        }
+
+        @WorkerThread
+        @Override public void run() {
+            for (F feature : mFeatures) {
+                if (mCancelled) {
+                    return;
+                }
+                final @Nullable O options = mPreparer.prepare(feature);
+                if (options != null) {
+                    enqueue(new Prepared<>(this, feature, options));
+                }
+            }
+            enqueue(new Prepared<F, O, R>(this, null, null));
+        }
+
+        void add(@NonNull F feature, @NonNull O options) {
+            final @Nullable R overlay = mAdder.add(options);
+            mAddedCount++;
+            if (mCallback != null) {
+                mCallback.onAdded(feature, overlay);
+            }
+        }
+
+        void complete() {
+            mDone = true;
+            mTasks.remove(this);
+            if (mCallback != null) {
+                mCallback.onComplete();
+            }
+        }
+    }
+
+    private interface Adder<O, R> {
+        @Nullable R add(@NonNull O options);
+    }
+
+    /**
+     * The prepared options of a feature, or the end of a task if there is no options.
+     */
+    private static final class Prepared<F, O, R> {
+        final @NonNull Task<F, O, R> mTask;
+        final @Nullable F mFeature;
+        final @Nullable O mOptions;
+
+        Prepared(@NonNull Task<F, O, R> task, @Nullable F feature, @Nullable O options) {
+            mTask = task;
+            mFeature = feature;
+            mOptions = options;
+        }
+
+        void deliver() {
+            if (mTask.mCancelled) {
+                return;
+            }
+            if (mFeature != null && mOptions != null) {
+                mTask.add(mFeature, mOptions);
+            } else {
+                mTask.complete();
+            }
+        }
+    }
+
+}
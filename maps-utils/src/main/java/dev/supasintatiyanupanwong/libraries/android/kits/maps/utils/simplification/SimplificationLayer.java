@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.simplification;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polygon;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polyline;
+
+/**
+ * A layer of polylines and polygons whose vertices are simplified for the zoom level of the
+ * camera, so that long paths are not fully uploaded and tessellated while zoomed out.
+ * <p>
+ * Each overlay is backed by a {@link SimplifiedPath}, and its vertices are replaced once the
+ * camera settles on another integer zoom level. The holes of polygons are left as they are.
+ * <p>
+ * Since a {@link MapClient} only holds a single listener of each kind, the layer has to be
+ * registered by the caller, or {@link #refresh()} called from an existing camera idle listener:
+ *
+ * <pre>
+ * SimplificationLayer layer = new SimplificationLayer(map);
+ * map.setOnCameraIdleListener(layer);
+ * </pre>
+ *
+ * @since 2.4.0
+ */
+@UiThread
+public class SimplificationLayer implements MapClient.OnCameraIdleListener {
+
+    /**
+     * The default maximum distance in pixels from a simplification to its path.
+     */
+    public static final float DEFAULT_TOLERANCE = 1f;
+
+    private final @NonNull MapClient mMap;
+    private final @NonNull Map<Object, Entry> mEntries = new HashMap<>();
+
+    public SimplificationLayer(@NonNull MapClient map) {
+        mMap = map;
+    }
+
+    /**
+     * Adds a polyline to the map with the given vertices, simplified for the current zoom level.
+     *
+     * @param options The options of the polyline, without any vertex.
+     * @param latLngs The packed vertices of the polyline, as in
+     *                {@code [lat0, lng0, lat1, lng1, ...]}.
+     * @return The polyline, or {@code null} if the map could not add it.
+     */
+    public @Nullable Polyline addPolyline(
+            @NonNull Polyline.Options options,
+            @NonNull double[] latLngs
+    ) {
+        return addPolyline(options, SimplifiedPath.ofPolyline(latLngs, DEFAULT_TOLERANCE));
+    }
+
+    /**
+     * Adds a polyline to the map with the vertices of the given path, simplified for the current
+     * zoom level.
+     *
+     * @param options The options of the polyline, without any vertex.
+     * @param path    The path of the polyline.
+     * @return The polyline, or {@code null} if the map could not add it.
+     */
+    public @Nullable Polyline addPolyline(
+            @NonNull Polyline.Options options,
+            @NonNull SimplifiedPath path
+    ) {
+        final int level = currentLevel();
+        final @Nullable Polyline polyline =
+                mMap.addPolyline(options.addPackedPoints(path.getPackedPoints(level)));
+        if (polyline != null) {
+            mEntries.put(polyline, new Entry(polyline, path, level));
+        }
+        return polyline;
+    }
+
+    /**
+     * Adds a polygon to the map with the given outline, simplified for the current zoom level.
+     *
+     * @param options The options of the polygon, without any outline vertex.
+     * @param latLngs The packed vertices of the outline, as in
+     *                {@code [lat0, lng0, lat1, lng1, ...]}.
+     * @return The polygon, or {@code null} if the map could not add it.
+     */
+    public @Nullable Polygon addPolygon(
+            @NonNull Polygon.Options options,
+            @NonNull double[] latLngs
+    ) {
+        return addPolygon(options, SimplifiedPath.ofRing(latLngs, DEFAULT_TOLERANCE));
+    }
+
+    /**
+     * Adds a polygon to the map with the given path as outline, simplified for the current zoom
+     * level.
+     *
+     * @param options The options of the polygon, without any outline vertex.
+     * @param path    The outline of the polygon.
+     * @return The polygon, or {@code null} if the map could not add it.
+     */
+    public @Nullable Polygon addPolygon(
+            @NonNull Polygon.Options options,
+            @NonNull SimplifiedPath path
+    ) {
+        final int level = currentLevel();
+        final @Nullable Polygon polygon =
+                mMap.addPolygon(options.addPackedPoints(path.getPackedPoints(level)));
+        if (polygon != null) {
+            mEntries.put(polygon, new Entry(polygon, path, level));
+        }
+        return polygon;
+    }
+
+    /**
+     * Simplifies an existing polyline with the given path from now on.
+     */
+    public void track(@NonNull Polyline polyline, @NonNull SimplifiedPath path) {
+        final Entry entry = new Entry(polyline, path, -1);
+        mEntries.put(polyline, entry);
+        entry.update(currentLevel());
+    }
+
+    /**
+     * Simplifies the outline of an existing polygon with the given path from now on.
+     */
+    public void track(@NonNull Polygon polygon, @NonNull SimplifiedPath path) {
+        final Entry entry = new Entry(polygon, path, -1);
+        mEntries.put(polygon, entry);
+        entry.update(currentLevel());
+    }
+
+    /**
+     * Removes the given polyline or polygon from this layer and from the map.
+     *
+     * @return Whether the overlay was in this layer.
+     */
+    public boolean remove(@NonNull Object overlay) {
+        final @Nullable Entry entry = mEntries.remove(overlay);
+        if (entry == null) {
+            return false;
+        }
+        entry.remove();
+        return true;
+    }
+
+    /**
+     * Removes every overlay of this layer from the map.
+     */
+    public void clear() {
+        for (Entry entry : mEntries.values()) {
+            entry.remove();
+        }
+        mEntries.clear();
+    }
+
+    public int size() {
+        return mEntries.size();
+    }
+
+    /**
+     * Replaces the vertices of the overlays not simplified for the current zoom level.
+     */
+    public void refresh() {
+        final int level = currentLevel();
+        for (Entry entry : mEntries.values()) {
+            entry.update(level);
+        }
+    }
+
+    @Override public void onCameraIdle() {
+        refresh();
+    }
+
+
+    private int currentLevel() {
+        return (int) Math.ceil(Math.max(0, mMap.getCameraPosition().getZoom()));
+    }
+
+
+    private static final class Entry {
+        private final @NonNull Object mOverlay;
+        private final @NonNull SimplifiedPath mPath;
+        private int mLevel;
+
+        Entry(@NonNull Object overlay, @NonNull SimplifiedPath path, int level) {
+            mOverlay = overlay;
+            mPath = path;
+            mLevel = Math.min(level, SimplifiedPath.MAX_ZOOM + 1);
+        }
+
+        void update(int level) {
+            // Levels beyond the deepest simplification all hold every vertex.
+            final int effective = Math.min(level, SimplifiedPath.MAX_ZOOM + 1);
+            if (effective == mLevel) {
+                return;
+            }
+            mLevel = effective;
+
+            final double[] latLngs = mPath.getPackedPoints(effective);
+            if (mOverlay instanceof Polyline) {
+                ((Polyline) mOverlay).setPackedPoints(latLngs);
+            } else {
+                ((Polygon) mOverlay).setPackedPoints(latLngs);
+            }
+        }
+
+        void remove() {
+            if (mOverlay instanceof Polyline) {
+                ((Polyline) mOverlay).remove();
+            } else {
+                ((Polygon) mOverlay).remove();
+            }
+        }
+    }
+
+}
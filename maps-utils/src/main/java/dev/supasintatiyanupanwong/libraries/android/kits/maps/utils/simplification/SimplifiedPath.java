@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.simplification;
+
+import androidx.annotation.AnyThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngMath;
+
+/**
+ * A path of vertices ranked by Douglas-Peucker significance, from which a simplification for any
+ * zoom level is obtained without running the simplification again.
+ * <p>
+ * The significance of a vertex is its distance, in Web Mercator world units, to the segment it
+ * would be simplified into, capped by the significance of the vertices it depends on, so that
+ * the vertices kept at a tolerance are exactly those the Douglas-Peucker algorithm would keep.
+ * Ranking costs O(n log n) on average, and may be done on any thread; simplifications are then
+ * cached per integer zoom level.
+ *
+ * @since 2.4.0
+ */
+@AnyThread
+public final class SimplifiedPath {
+
+    /**
+     * The maximum zoom level a simplification is computed for; any higher keeps every vertex.
+     */
+    public static final int MAX_ZOOM = 22;
+
+    private static final int TILE_SIZE = 256;
+
+    private final @NonNull double[] mLatLngs;
+    private final @NonNull double[] mSignificances;
+    private final float mTolerance;
+
+    private final @NonNull double[][] mLevels = new double[MAX_ZOOM + 1][];
+
+    private SimplifiedPath(@NonNull double[] latLngs, boolean closed, float tolerance) {
+        if (latLngs.length % 2 != 0) {
+            throw new IllegalArgumentException("latLngs must hold pairs of coordinates");
+        }
+        mLatLngs = latLngs;
+        mTolerance = tolerance;
+        mSignificances = rank(latLngs, closed);
+    }
+
+    /**
+     * Ranks the vertices of an open path, e.g. of a polyline.
+     *
+     * @param latLngs   The packed vertices, as in {@code [lat0, lng0, lat1, lng1, ...]}, which
+     *                  are copied.
+     * @param tolerance The maximum distance in pixels from the simplification to the path.
+     */
+    public static @NonNull SimplifiedPath ofPolyline(@NonNull double[] latLngs, float tolerance) {
+        return new SimplifiedPath(latLngs.clone(), false, tolerance);
+    }
+
+    /**
+     * @see #ofPolyline(double[], float)
+     */
+    public static @NonNull SimplifiedPath ofPolyline(
+            @NonNull List<LatLng> points,
+            float tolerance
+    ) {
+        return new SimplifiedPath(pack(points), false, tolerance);
+    }
+
+    /**
+     * Ranks the vertices of a ring, e.g. the outline of a polygon. At least a quadrilateral is
+     * kept at every zoom level, so that the ring does not collapse.
+     *
+     * @param latLngs   The packed vertices, as in {@code [lat0, lng0, lat1, lng1, ...]}, which
+     *                  are copied.
+     * @param tolerance The maximum distance in pixels from the simplification to the ring.
+     */
+    public static @NonNull SimplifiedPath ofRing(@NonNull double[] latLngs, float tolerance) {
+        return new SimplifiedPath(latLngs.clone(), true, tolerance);
+    }
+
+    /**
+     * @see #ofRing(double[], float)
+     */
+    public static @NonNull SimplifiedPath ofRing(@NonNull List<LatLng> points, float tolerance) {
+        return new SimplifiedPath(pack(points), true, tolerance);
+    }
+
+    /**
+     * @return The number of vertices of the full path.
+     */
+    public int getPointCount() {
+        return mLatLngs.length / 2;
+    }
+
+    /**
+     * Gets the packed vertices of the simplification for the given zoom level. The returned
+     * array is shared and must not be modified.
+     *
+     * @param zoom The zoom level, rounded up to the next integer zoom level.
+     */
+    public @NonNull double[] getPackedPoints(float zoom) {
+        final int level = (int) Math.ceil(Math.max(0, zoom));
+        if (level > MAX_ZOOM) {
+            return mLatLngs;
+        }
+
+        synchronized (mLevels) {
+            @Nullable double[] latLngs = mLevels[level];
+            if (latLngs == null) {
+                latLngs = simplify(mTolerance / ((double) TILE_SIZE * (1L << level)));
+                mLevels[level] = latLngs;
+            }
+            return latLngs;
+        }
+    }
+
+
+    private @NonNull double[] simplify(double tolerance) {
+        int count = 0;
+        for (double significance : mSignificances) {
+            if (significance > tolerance) {
+                count++;
+            }
+        }
+        if (count == mSignificances.length) {
+            return mLatLngs;
+        }
+
+        final double[] latLngs = new double[count * 2];
+        int j = 0;
+        for (int i = 0; i < mSignificances.length; i++) {
+            if (mSignificances[i] > tolerance) {
+                latLngs[j++] = mLatLngs[i * 2];
+                latLngs[j++] = mLatLngs[i * 2 + 1];
+            }
+        }
+        return latLngs;
+    }
+
+    private static @NonNull double[] rank(@NonNull double[] latLngs, boolean closed) {
+        final int n = latLngs.length / 2;
+        final double[] xs = new double[n];
+        final double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = LatLngMath.mercatorX(latLngs[i * 2 + 1]);
+            ys[i] = LatLngMath.mercatorY(latLngs[i * 2]);
+        }
+
+        final double[] significances = new double[n];
+        if (n == 0) {
+            return significances;
+        }
+        significances[0] = Double.POSITIVE_INFINITY;
+        significances[n - 1] = Double.POSITIVE_INFINITY;
+        if (n <= 2) {
+            return significances;
+        }
+
+        if (!closed) {
+            rank(xs, ys, 0, n - 1, Double.POSITIVE_INFINITY, significances);
+            return significances;
+        }
+
+        // Split the ring at its vertex farthest from the start, then keep the most significant
+        // vertex of each half so that a quadrilateral always remains.
+        int far = 1;
+        double farDistance = -1;
+        for (int i = 1; i < n - 1; i++) {
+            final double dx = xs[i] - xs[0];
+            final double dy = ys[i] - ys[0];
+            final double distance = dx * dx + dy * dy;
+            if (distance > farDistance) {
+                far = i;
+                farDistance = distance;
+            }
+        }
+        significances[far] = Double.POSITIVE_INFINITY;
+        rank(xs, ys, 0, far, Double.POSITIVE_INFINITY, significances);
+        rank(xs, ys, far, n - 1, Double.POSITIVE_INFINITY, significances);
+        keepMostSignificant(significances, 1, far);
+        keepMostSignificant(significances, far + 1, n - 1);
+        return significances;
+    }
+
+    /**
+     * Ranks the vertices strictly between first and last, iteratively so that long paths do not
+     * overflow the stack.
+     */
+    private static void rank(
+            @NonNull double[] xs,
+            @NonNull double[] ys,
+            int first,
+            int last,
+            double cap,
+            @NonNull double[] significances
+    ) {
+        // Segments to rank, as triples of first, last and the significance of their parent.
+        int[] bounds = new int[64 * 2];
+        double[] caps = new double[64];
+        bounds[0] = first;
+        bounds[1] = last;
+        caps[0] = cap;
+        int size = 1;
+
+        while (size > 0) {
+            size--;
+            final int start = bounds[size * 2];
+            final int end = bounds[size * 2 + 1];
+            final double parent = caps[size];
+            if (end - start < 2) {
+                continue;
+            }
+
+            int index = -1;
+            double max = -1;
+            for (int i = start + 1; i < end; i++) {
+                final double distance = distanceToSegment(
+                        xs[i], ys[i], xs[start], ys[start], xs[end], ys[end]
+                );
+                if (distance > max) {
+                    index = i;
+                    max = distance;
+                }
+            }
+
+            final double significance = Math.min(max, parent);
+            significances[index] = significance;
+
+            if (size + 2 > caps.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                caps = Arrays.copyOf(caps, caps.length * 2);
+            }
+            bounds[size * 2] = start;
+            bounds[size * 2 + 1] = index;
+            caps[size] = significance;
+            size++;
+            bounds[size * 2] = index;
+            bounds[size * 2 + 1] = end;
+            caps[size] = significance;
+            size++;
+        }
+    }
+
+    private static void keepMostSignificant(@NonNull double[] significances, int from, int to) {
+        int index = -1;
+        for (int i = from; i < to; i++) {
+            if (index < 0 || significances[i] > significances[index]) {
+                index = i;
+            }
+        }
+        if (index >= 0) {
+            significances[index] = Double.POSITIVE_INFINITY;
+        }
+    }
+
+    private static double distanceToSegment(
+            double px, double py,
+            double ax, double ay,
+            double bx, double by
+    ) {
+        final double dx = bx - ax;
+        final double dy = by - ay;
+        final double lengthSquared = dx * dx + dy * dy;
+        double t = 0;
+        if (lengthSquared > 0) {
+            t = Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        }
+        final double ex = px - (ax + t * dx);
+        final double ey = py - (ay + t * dy);
+        return Math.sqrt(ex * ex + ey * ey);
+    }
+
+    private static @NonNull double[] pack(@NonNull List<LatLng> points) {
+        final double[] latLngs = new double[points.size() * 2];
+        int i = 0;
+        for (LatLng point : points) {
+            latLngs[i++] = point.getLatitude();
+            latLngs[i++] = point.getLongitude();
+        }
+        return latLngs;
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.virtualization;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.index.SpatialIndex;
+
+/**
+ * A lightweight descriptor of an overlay, which is only added to the map while it is near the
+ * visible region. Obtain instances through {@link VirtualOverlayLayer}.
+ * <p>
+ * The overlay is recreated from its options every time it becomes visible again; changes made
+ * directly to the overlay are not retained once it leaves the visible region.
+ *
+ * @param <O> The type of the overlay, e.g. {@code Marker}.
+ * @since 2.4.0
+ */
+public abstract class VirtualOverlay<O> {
+
+    private @Nullable O mOverlay;
+    private @Nullable Object mTag;
+
+    VirtualOverlay() {}
+
+    /**
+     * Gets the overlay currently on the map.
+     *
+     * @return The overlay, or {@code null} if the overlay is not currently on the map.
+     */
+    public @Nullable O getOverlay() {
+        return mOverlay;
+    }
+
+    /**
+     * Returns whether the overlay is currently on the map.
+     */
+    public boolean isMaterialized() {
+        return mOverlay != null;
+    }
+
+    /**
+     * Sets the tag for the descriptor. Unlike the tag of the overlay, this is retained while the
+     * overlay is not on the map.
+     *
+     * @param tag If {@code null}, the tag is cleared.
+     */
+    public void setTag(@Nullable Object tag) {
+        mTag = tag;
+    }
+
+    /**
+     * Gets the tag for the descriptor.
+     *
+     * @return The tag if a tag was set with {@code setTag}; {@code null} if no tag has been set.
+     */
+    public @Nullable Object getTag() {
+        return mTag;
+    }
+
+
+    /**
+     * Adds the overlay to the index at its bounds.
+     */
+    abstract void index(@NonNull SpatialIndex<VirtualOverlay<?>> index);
+
+    abstract @Nullable O onMaterialize(@NonNull MapClient map);
+
+    abstract void onDematerialize(@NonNull O overlay);
+
+    final @Nullable O materialize(@NonNull MapClient map) {
+        if (mOverlay == null) {
+            mOverlay = onMaterialize(map);
+        }
+        return mOverlay;
+    }
+
+    final void dematerialize() {
+        final @Nullable O overlay = mOverlay;
+        if (overlay != null) {
+            mOverlay = null;
+            onDematerialize(overlay);
+        }
+    }
+
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.virtualization;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Circle;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLng;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.LatLngBounds;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.MapClient;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Marker;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polygon;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Polyline;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.utils.index.SpatialIndex;
+
+/**
+ * A layer of overlays which are only added to the map while they are near the visible region,
+ * so that the number of live overlays in the map SDK stays proportional to what is on screen
+ * rather than to the number of features held by the app.
+ * <p>
+ * Overlays are added once they come within the margin around the visible region, and removed
+ * once they leave the margin plus the hysteresis, so that small camera movements do not cause
+ * overlays to be removed and added back repeatedly. Both are fractions of the visible span.
+ * <p>
+ * Since a {@link MapClient} only holds a single listener of each kind, the layer has to be
+ * registered by the caller, or {@link #refresh()} called from an existing camera idle listener:
+ *
+ * <pre>
+ * VirtualOverlayLayer layer = new VirtualOverlayLayer(map);
+ * map.setOnCameraIdleListener(layer);
+ * </pre>
+ *
+ * @since 2.4.0
+ */
+@UiThread
+public class VirtualOverlayLayer implements MapClient.OnCameraIdleListener {
+
+    private static final float DEFAULT_MARGIN = 0.5f;
+    private static final float DEFAULT_HYSTERESIS = 0.5f;
+
+    private final @NonNull MapClient mMap;
+    private final @NonNull SpatialIndex<VirtualOverlay<?>> mIndex = new SpatialIndex<>();
+    private final @NonNull Set<VirtualOverlay<?>> mMaterialized = new HashSet<>();
+    private final @NonNull Map<Object, VirtualOverlay<?>> mOverlays = new HashMap<>();
+
+    private float mMargin = DEFAULT_MARGIN;
+    private float mHysteresis = DEFAULT_HYSTERESIS;
+
+    public VirtualOverlayLayer(@NonNull MapClient map) {
+        mMap = map;
+    }
+
+    /**
+     * Sets the margin around the visible region within which overlays are added to the map. The
+     * default is 0.5.
+     *
+     * @param margin The margin as a fraction of the visible span on each side.
+     */
+    public void setMargin(float margin) {
+        if (margin < 0) {
+            throw new IllegalArgumentException("margin must not be negative");
+        }
+        mMargin = margin;
+    }
+
+    public float getMargin() {
+        return mMargin;
+    }
+
+    /**
+     * Sets the additional margin beyond which overlays are removed from the map. The default is
+     * 0.5.
+     *
+     * @param hysteresis The additional margin as a fraction of the visible span on each side.
+     */
+    public void setHysteresis(float hysteresis) {
+        if (hysteresis < 0) {
+            throw new IllegalArgumentException("hysteresis must not be negative");
+        }
+        mHysteresis = hysteresis;
+    }
+
+    public float getHysteresis() {
+        return mHysteresis;
+    }
+
+    /**
+     * Adds a marker to the layer. Call {@link #refresh()} for the change to take effect.
+     */
+    public @NonNull VirtualOverlay<Marker> addMarker(@NonNull Marker.Options options) {
+        return add(new VirtualMarker(options));
+    }
+
+    /**
+     * Adds a polyline to the layer. Call {@link #refresh()} for the change to take effect.
+     */
+    public @NonNull VirtualOverlay<Polyline> addPolyline(@NonNull Polyline.Options options) {
+        return add(new VirtualPolyline(options));
+    }
+
+    /**
+     * Adds a polygon to the layer. Call {@link #refresh()} for the change to take effect.
+     */
+    public @NonNull VirtualOverlay<Polygon> addPolygon(@NonNull Polygon.Options options) {
+        return add(new VirtualPolygon(options));
+    }
+
+    /**
+     * Adds a circle to the layer. Call {@link #refresh()} for the change to take effect.
+     */
+    public @NonNull VirtualOverlay<Circle> addCircle(@NonNull Circle.Options options) {
+        return add(new VirtualCircle(options));
+    }
+
+    /**
+     * Removes an overlay from the layer, and from the map if it is currently on the map.
+     */
+    public void remove(@NonNull VirtualOverlay<?> overlay) {
+        if (mIndex.remove(overlay)) {
+            dematerialize(overlay);
+        }
+    }
+
+    /**
+     * Removes all overlays from the layer and from the map.
+     */
+    public void clear() {
+        for (VirtualOverlay<?> overlay : mMaterialized) {
+            overlay.dematerialize();
+        }
+        mMaterialized.clear();
+        mOverlays.clear();
+        mIndex.clear();
+    }
+
+    /**
+     * Gets the number of overlays in the layer.
+     */
+    public int size() {
+        return mIndex.size();
+    }
+
+    /**
+     * Gets the number of overlays currently on the map.
+     */
+    public int getMaterializedCount() {
+        return mMaterialized.size();
+    }
+
+    /**
+     * Gets the descriptor of an overlay currently on the map, e.g. to handle a click on it.
+     *
+     * @param overlay The overlay on the map, e.g. a {@link Marker}.
+     * @return The descriptor, or {@code null} if the overlay does not belong to this layer.
+     */
+    public @Nullable VirtualOverlay<?> getVirtualOverlay(@NonNull Object overlay) {
+        return mOverlays.get(overlay);
+    }
+
+    /**
+     * Adds the overlays near the visible region to the map, and removes those far from it.
+     */
+    public void refresh() {
+        final LatLngBounds visible = mMap.getProjection().getVisibleRegion().getLatLngBounds();
+
+        final Set<VirtualOverlay<?>> retained = new HashSet<>();
+        search(visible, mMargin + mHysteresis, retained);
+
+        final List<VirtualOverlay<?>> removed = new ArrayList<>();
+        for (VirtualOverlay<?> overlay : mMaterialized) {
+            if (!retained.contains(overlay)) {
+                removed.add(overlay);
+            }
+        }
+        for (VirtualOverlay<?> overlay : removed) {
+            dematerialize(overlay);
+        }
+
+        final List<VirtualOverlay<?>> wanted = new ArrayList<>();
+        search(visible, mMargin, wanted);
+        for (VirtualOverlay<?> overlay : wanted) {
+            if (!mMaterialized.contains(overlay)) {
+                final @Nullable Object materialized = overlay.materialize(mMap);
+                if (materialized != null) {
+                    mMaterialized.add(overlay);
+                    mOverlays.put(materialized, overlay);
+                }
+            }
+        }
+    }
+
+    @Override public void onCameraIdle() {
+        refresh();
+    }
+
+
+    private <V extends VirtualOverlay<?>> @NonNull V add(@NonNull V overlay) {
+        overlay.index(mIndex);
+        return overlay;
+    }
+
+    private void dematerialize(@NonNull VirtualOverlay<?> overlay) {
+        if (mMaterialized.remove(overlay)) {
+            //noinspection ConstantConditions
+            mOverlays.remove(overlay.getOverlay());
+            overlay.dematerialize();
+        }
+    }
+
+    /**
+     * Finds the overlays within the given bounds expanded by the given fraction of its span on
+     * every side.
+     */
+    private void search(
+            @NonNull LatLngBounds bounds,
+            float margin,
+            @NonNull Collection<VirtualOverlay<?>> out
+    ) {
+        final LatLng southwest = bounds.getSouthwest();
+        final LatLng northeast = bounds.getNortheast();
+
+        double lngSpan = northeast.getLongitude() - southwest.getLongitude();
+        if (lngSpan < 0) {
+            lngSpan += 360;
+        }
+        final double latSpan = northeast.getLatitude() - southwest.getLatitude();
+        final double south = Math.max(-90, southwest.getLatitude() - latSpan * margin);
+        final double north = Math.min(90, northeast.getLatitude() + latSpan * margin);
+
+        if (lngSpan * (1 + 2 * margin) >= 360) {
+            mIndex.search(south, -180, north, 180, out);
+        } else {
+            mIndex.search(
+                    south,
+                    wrapLongitude(southwest.getLongitude() - lngSpan * margin),
+                    north,
+                    wrapLongitude(northeast.getLongitude() + lngSpan * margin),
+                    out
+            );
+        }
+    }
+
+    private static double wrapLongitude(double longitude) {
+        return ((longitude + 180) % 360 + 360) % 360 - 180;
+    }
+
+
+    private static final class VirtualMarker extends VirtualOverlay<Marker> {
+        private final @NonNull Marker.Options mOptions;
+
+        VirtualMarker(@NonNull Marker.Options options) {
+            mOptions = options;
+        }
+
+        @Override void index(@NonNull SpatialIndex<VirtualOverlay<?>> index) {
+            index.put(this, mOptions.getPosition());
+        }
+
+        @Override @Nullable Marker onMaterialize(@NonNull MapClient map) {
+            return map.addMarker(mOptions);
+        }
+
+        @Override void onDematerialize(@NonNull Marker overlay) {
+            overlay.remove();
+        }
+    }
+
+    private static final class VirtualPolyline extends VirtualOverlay<Polyline> {
+        private final @NonNull Polyline.Options mOptions;
+
+        VirtualPolyline(@NonNull Polyline.Options options) {
+            mOptions = options;
+        }
+
+        @Override void index(@NonNull SpatialIndex<VirtualOverlay<?>> index) {
+            index.putPath(this, mOptions.getPackedPoints());
+        }
+
+        @Override @Nullable Polyline onMaterialize(@NonNull MapClient map) {
+            return map.addPolyline(mOptions);
+        }
+
+        @Override void onDematerialize(@NonNull Polyline overlay) {
+            overlay.remove();
+        }
+    }
+
+    private static final class VirtualPolygon extends VirtualOverlay<Polygon> {
+        private final @NonNull Polygon.Options mOptions;
+
+        VirtualPolygon(@NonNull Polygon.Options options) {
+            mOptions = options;
+        }
+
+        @Override void index(@NonNull SpatialIndex<VirtualOverlay<?>> index) {
+            index.putPath(this, mOptions.getPackedPoints());
+        }
+
+        @Override @Nullable Polygon onMaterialize(@NonNull MapClient map) {
+            return map.addPolygon(mOptions);
+        }
+
+        @Override void onDematerialize(@NonNull Polygon overlay) {
+            overlay.remove();
+        }
+    }
+
+    private static final class VirtualCircle extends VirtualOverlay<Circle> {
+        private final @NonNull Circle.Options mOptions;
+
+        VirtualCircle(@NonNull Circle.Options options) {
+            mOptions = options;
+        }
+
+        @Override void index(@NonNull SpatialIndex<VirtualOverlay<?>> index) {
+            index.putCircle(this, mOptions.getCenter(), mOptions.getRadius());
+        }
+
+        @Override @Nullable Circle onMaterialize(@NonNull MapClient map) {
+            return map.addCircle(mOptions);
+        }
+
+        @Override void onDematerialize(@NonNull Circle overlay) {
+            overlay.remove();
+        }
+    }
+
+}
@@ -0,0 +1,491 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.vector;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A decoded Mapbox Vector Tile, as specified by version 2.1 of the Mapbox Vector Tile
+ * Specification. Geometries are kept in the coordinates of their layer extent.
+ */
+final class VectorTile {
+
+    static final int GEOMETRY_POINT = 1;
+    static final int GEOMETRY_LINESTRING = 2;
+    static final int GEOMETRY_POLYGON = 3;
+
+    static final VectorTile EMPTY = new VectorTile(new Layer[0], 0);
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+    private static final int WIRE_FIXED32 = 5;
+
+    private static final int COMMAND_MOVE_TO = 1;
+    private static final int COMMAND_LINE_TO = 2;
+    private static final int COMMAND_CLOSE_PATH = 7;
+
+    final @NonNull Layer[] layers;
+
+    // An estimate of the memory held by the tile, in bytes.
+    final int size;
+
+    private VectorTile(@NonNull Layer[] layers, int size) {
+        this.layers = layers;
+        this.size = size;
+    }
+
+    @Nullable Layer getLayer(@NonNull String name) {
+        for (Layer layer : layers) {
+            if (layer.name.equals(name)) {
+                return layer;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * Decodes a tile from its protocol buffer encoding.
+     *
+     * @throws IOException If the data is not a valid tile.
+     */
+    static @NonNull VectorTile decode(@NonNull byte[] data) throws IOException {
+        final Reader reader = new Reader(data, 0, data.length);
+        final Scratch scratch = new Scratch();
+        final ArrayList<Layer> layers = new ArrayList<>();
+        while (reader.hasRemaining()) {
+            final int tag = reader.readTag();
+            if (tag == (3 << 3 | WIRE_LENGTH_DELIMITED)) {
+                layers.add(decodeLayer(reader.readMessage(), scratch));
+            } else {
+                reader.skip(tag);
+            }
+        }
+
+        int size = 0;
+        for (Layer layer : layers) {
+            size += layer.size;
+        }
+        return new VectorTile(layers.toArray(new Layer[0]), size);
+    }
+
+    private static @NonNull Layer decodeLayer(
+            @NonNull Reader reader,
+            @NonNull Scratch scratch
+    ) throws IOException {
+        String name = "";
+        int extent = 4096;
+        final ArrayList<String> keys = new ArrayList<>();
+        final ArrayList<Object> values = new ArrayList<>();
+        final ArrayList<Feature> features = new ArrayList<>();
+
+        while (reader.hasRemaining()) {
+            final int tag = reader.readTag();
+            switch (tag) {
+                case 1 << 3 | WIRE_LENGTH_DELIMITED:
+                    name = reader.readString();
+                    break;
+                case 2 << 3 | WIRE_LENGTH_DELIMITED:
+                    features.add(decodeFeature(reader.readMessage(), scratch));
+                    break;
+                case 3 << 3 | WIRE_LENGTH_DELIMITED:
+                    keys.add(reader.readString());
+                    break;
+                case 4 << 3 | WIRE_LENGTH_DELIMITED:
+                    values.add(decodeValue(reader.readMessage()));
+                    break;
+                case 5 << 3 | WIRE_VARINT:
+                    extent = (int) reader.readVarint();
+                    break;
+                default:
+                    reader.skip(tag);
+                    break;
+            }
+        }
+        if (extent <= 0) {
+            throw new IOException("Invalid extent " + extent + " of layer " + name);
+        }
+
+        int size = 64;
+        for (Feature feature : features) {
+            size += 64 + (feature.tags.length + feature.coords.length + feature.parts.length) * 4;
+        }
+        return new Layer(
+                name,
+                extent,
+                keys.toArray(new String[0]),
+                values.toArray(),
+                features.toArray(new Feature[0]),
+                size
+        );
+    }
+
+    private static @NonNull Feature decodeFeature(
+            @NonNull Reader reader,
+            @NonNull Scratch scratch
+    ) throws IOException {
+        int type = 0;
+        int[] tags = new int[0];
+        scratch.coordCount = 0;
+        scratch.partCount = 0;
+
+        while (reader.hasRemaining()) {
+            final int tag = reader.readTag();
+            switch (tag) {
+                case 2 << 3 | WIRE_LENGTH_DELIMITED:
+                    tags = reader.readMessage().readPackedVarints();
+                    break;
+                case 3 << 3 | WIRE_VARINT:
+                    type = (int) reader.readVarint();
+                    break;
+                case 4 << 3 | WIRE_LENGTH_DELIMITED:
+                    decodeGeometry(reader.readMessage(), scratch);
+                    break;
+                default:
+                    reader.skip(tag);
+                    break;
+            }
+        }
+        if (tags.length % 2 != 0) {
+            throw new IOException("Odd number of feature tags");
+        }
+
+        final float[] coords = Arrays.copyOf(scratch.coords, scratch.coordCount);
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < coords.length; i += 2) {
+            minX = Math.min(minX, coords[i]);
+            minY = Math.min(minY, coords[i + 1]);
+            maxX = Math.max(maxX, coords[i]);
+            maxY = Math.max(maxY, coords[i + 1]);
+        }
+        return new Feature(
+                type,
+                tags,
+                coords,
+                Arrays.copyOf(scratch.parts, scratch.partCount),
+                minX, minY, maxX, maxY
+        );
+    }
+
+    /**
+     * Decodes the commands of a geometry into the scratch buffers, starting a part at each
+     * MoveTo command.
+     */
+    private static void decodeGeometry(
+            @NonNull Reader reader,
+            @NonNull Scratch scratch
+    ) throws IOException {
+        int x = 0;
+        int y = 0;
+        while (reader.hasRemaining()) {
+            final int command = (int) reader.readVarint();
+            final int id = command & 0x7;
+            final int count = command >>> 3;
+            switch (id) {
+                case COMMAND_MOVE_TO:
+                case COMMAND_LINE_TO:
+                    for (int i = 0; i < count; i++) {
+                        x += zigZag((int) reader.readVarint());
+                        y += zigZag((int) reader.readVarint());
+                        if (id == COMMAND_MOVE_TO) {
+                            scratch.addPart(scratch.coordCount / 2);
+                        }
+                        scratch.addCoord(x, y);
+                    }
+                    break;
+                case COMMAND_CLOSE_PATH:
+                    break;
+                default:
+                    throw new IOException("Unknown geometry command " + id);
+            }
+        }
+    }
+
+    private static @Nullable Object decodeValue(@NonNull Reader reader) throws IOException {
+        @Nullable Object value = null;
+        while (reader.hasRemaining()) {
+            final int tag = reader.readTag();
+            switch (tag) {
+                case 1 << 3 | WIRE_LENGTH_DELIMITED:
+                    value = reader.readString();
+                    break;
+                case 2 << 3 | WIRE_FIXED32:
+                    value = (double) Float.intBitsToFloat(reader.readFixed32());
+                    break;
+                case 3 << 3 | WIRE_FIXED64:
+                    value = Double.longBitsToDouble(reader.readFixed64());
+                    break;
+                case 4 << 3 | WIRE_VARINT:
+                case 5 << 3 | WIRE_VARINT:
+                    value = reader.readVarint();
+                    break;
+                case 6 << 3 | WIRE_VARINT: {
+                    final long raw = reader.readVarint();
+                    value = (raw >>> 1) ^ -(raw & 1);
+                    break;
+                }
+                case 7 << 3 | WIRE_VARINT:
+                    value = reader.readVarint() != 0;
+                    break;
+                default:
+                    reader.skip(tag);
+                    break;
+            }
+        }
+        return value;
+    }
+
+    private static int zigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+
+    static final class Layer {
+        final @NonNull String name;
+        final int extent;
+        final @NonNull String[] keys;
+        final @NonNull Object[] values;
+        final @NonNull Feature[] features;
+        final int size;
+
+        Layer(
+                @NonNull String name,
+                int extent,
+                @NonNull String[] keys,
+                @NonNull Object[] values,
+                @NonNull Feature[] features,
+                int size
+        ) {
+            this.name = name;
+            this.extent = extent;
+            this.keys = keys;
+            this.values = values;
+            this.features = features;
+            this.size = size;
+        }
+
+        int indexOfKey(@NonNull String key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the value of the given key on the given feature, or {@code null} if it has none.
+         */
+        @Nullable Object getValue(@NonNull Feature feature, int keyIndex) {
+            final int[] tags = feature.tags;
+            for (int i = 0; i < tags.length; i += 2) {
+                if (tags[i] == keyIndex) {
+                    final int valueIndex = tags[i + 1];
+                    return valueIndex < values.length ? values[valueIndex] : null;
+                }
+            }
+            return null;
+        }
+    }
+
+    static final class Feature {
+        final int type;
+        // Pairs of key and value indices.
+        final @NonNull int[] tags;
+        // Packed coordinates, as in [x0, y0, x1, y1, ...].
+        final @NonNull float[] coords;
+        // Index of the first point of each ring or line.
+        final @NonNull int[] parts;
+        final float minX;
+        final float minY;
+        final float maxX;
+        final float maxY;
+
+        Feature(
+                int type,
+                @NonNull int[] tags,
+                @NonNull float[] coords,
+                @NonNull int[] parts,
+                float minX, float minY, float maxX, float maxY
+        ) {
+            this.type = type;
+            this.tags = tags;
+            this.coords = coords;
+            this.parts = parts;
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+    }
+
+
+    /**
+     * The growable buffers the geometries of a tile are decoded into.
+     */
+    private static final class Scratch {
+        float[] coords = new float[256];
+        int coordCount;
+        int[] parts = new int[16];
+        int partCount;
+
+        void addCoord(float x, float y) {
+            if (coordCount + 2 > coords.length) {
+                coords = Arrays.copyOf(coords, coords.length * 2);
+            }
+            coords[coordCount++] = x;
+            coords[coordCount++] = y;
+        }
+
+        void addPart(int start) {
+            if (partCount == parts.length) {
+                parts = Arrays.copyOf(parts, parts.length * 2);
+            }
+            parts[partCount++] = start;
+        }
+    }
+
+    /**
+     * Reads the fields of a protocol buffer message from a range of bytes.
+     */
+    private static final class Reader {
+        private final @NonNull byte[] mData;
+        private int mPosition;
+        private final int mLimit;
+
+        Reader(@NonNull byte[] data, int offset, int limit) {
+            mData = data;
+            mPosition = offset;
+            mLimit = limit;
+        }
+
+        boolean hasRemaining() {
+            return mPosition < mLimit;
+        }
+
+        int readTag() throws IOException {
+            return (int) readVarint();
+        }
+
+        long readVarint() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (mPosition >= mLimit) {
+                    throw new IOException("Truncated varint");
+                }
+                final byte b = mData[mPosition++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        int readFixed32() throws IOException {
+            require(4);
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value |= (mData[mPosition++] & 0xFF) << (i * 8);
+            }
+            return value;
+        }
+
+        long readFixed64() throws IOException {
+            require(8);
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value |= (long) (mData[mPosition++] & 0xFF) << (i * 8);
+            }
+            return value;
+        }
+
+        @NonNull Reader readMessage() throws IOException {
+            final int length = readLength();
+            final Reader message = new Reader(mData, mPosition, mPosition + length);
+            mPosition += length;
+            return message;
+        }
+
+        @NonNull String readString() throws IOException {
+            final int length = readLength();
+            final String value = new String(mData, mPosition, length, UTF_8);
+            mPosition += length;
+            return value;
+        }
+
+        @NonNull int[] readPackedVarints() throws IOException {
+            int[] values = new int[8];
+            int count = 0;
+            while (hasRemaining()) {
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, count * 2);
+                }
+                values[count++] = (int) readVarint();
+            }
+            return Arrays.copyOf(values, count);
+        }
+
+        void skip(int tag) throws IOException {
+            switch (tag & 0x7) {
+                case WIRE_VARINT:
+                    readVarint();
+                    break;
+                case WIRE_FIXED64:
+                    require(8);
+                    mPosition += 8;
+                    break;
+                case WIRE_LENGTH_DELIMITED:
+                    mPosition += readLength();
+                    break;
+                case WIRE_FIXED32:
+                    require(4);
+                    mPosition += 4;
+                    break;
+                default:
+                    throw new IOException("Unsupported wire type " + (tag & 0x7));
+            }
+        }
+
+        private int readLength() throws IOException {
+            final long length = readVarint();
+            if (length < 0 || length > mLimit - mPosition) {
+                throw new IOException("Truncated field of length " + length);
+            }
+            return (int) length;
+        }
+
+        private void require(int length) throws IOException {
+            if (mLimit - mPosition < length) {
+                throw new IOException("Truncated field");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,425 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.vector;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.util.LruCache;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.MapKit;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.PMTilesTileProvider;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.Tile;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.TileOverlay;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.TileProvider;
+import dev.supasintatiyanupanwong.libraries.android.kits.maps.model.UrlTileProvider;
+
+/**
+ * A {@link TileProvider} which renders Mapbox Vector Tiles on the device, styled by a
+ * {@link VectorTileStyle}.
+ * <p>
+ * The encoded tiles are read from another {@link TileProvider}, such as an
+ * {@link UrlTileProvider} or a {@link PMTilesTileProvider}, whose tile data may be gzipped. They
+ * are decoded and rendered on the threads of the map SDK, into a bitmap and canvas reused by each
+ * thread. Decoded tiles are kept in a memory cache, so that the tiles beyond the maximum zoom
+ * level of the source are rendered from the same decoded tile, scaled up.
+ * <p>
+ * After the style is changed, {@link TileOverlay#clearTileCache()} must be called for the map to
+ * request the tiles again.
+ *
+ * @since 2.4.0
+ */
+public class VectorTileProvider implements TileProvider {
+
+    /**
+     * The default size of the rendered tiles, in pixels.
+     */
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    /**
+     * The default maximum zoom level of the source, that of most published vector tiles.
+     */
+    public static final int DEFAULT_MAX_SOURCE_ZOOM = 14;
+
+    private static final int DEFAULT_CACHE_SIZE = 8 * 1024 * 1024;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final @NonNull TileProvider mSource;
+    private final int mTileSize;
+    private final int mMaxSourceZoom;
+    private final @NonNull LruCache<Long, VectorTile> mCache;
+    private final @NonNull ThreadLocal<Renderer> mRenderers = new ThreadLocal<>();
+
+    private volatile @NonNull VectorTileStyle mStyle;
+
+    private VectorTileProvider(@NonNull Builder builder) {
+        mSource = builder.mSource;
+        mStyle = builder.mStyle;
+        mTileSize = builder.mTileSize;
+        mMaxSourceZoom = builder.mMaxSourceZoom;
+        mCache = new LruCache<Long, VectorTile>(builder.mCacheSize) {
+            @Override protected int sizeOf(@NonNull Long key, @NonNull VectorTile tile) {
+                return Math.max(1, tile.size);
+            }
+        };
+    }
+
+    /**
+     * Replaces the style of the tiles rendered from now on.
+     */
+    public void setStyle(@NonNull VectorTileStyle style) {
+        mStyle = style;
+    }
+
+    public @NonNull VectorTileStyle getStyle() {
+        return mStyle;
+    }
+
+    /**
+     * Releases the decoded tiles kept in memory.
+     */
+    public void clearCache() {
+        mCache.evictAll();
+    }
+
+    @WorkerThread
+    @Override public @Nullable Tile getTile(int x, int y, int zoom) {
+        final int overzoom = Math.max(0, zoom - mMaxSourceZoom);
+        final @Nullable VectorTile tile =
+                loadTile(x >> overzoom, y >> overzoom, zoom - overzoom);
+        if (tile == null) {
+            return null;
+        }
+        if (tile == VectorTile.EMPTY) {
+            return NO_TILE;
+        }
+
+        final byte[] data = render(tile, mStyle, x, y, zoom, overzoom);
+        return data == EMPTY ? NO_TILE : MapKit.newTile(mTileSize, mTileSize, data);
+    }
+
+
+    /**
+     * Gets the decoded tile of the source at the given coordinate.
+     *
+     * @return The tile, {@link VectorTile#EMPTY} if there is none, or {@code null} if the source
+     * could not provide it at this point in time.
+     */
+    private @Nullable VectorTile loadTile(int x, int y, int zoom) {
+        final Long key = ((long) zoom << 58) | ((long) x << 29) | y;
+        @Nullable VectorTile tile = mCache.get(key);
+        if (tile != null) {
+            return tile;
+        }
+
+        final @Nullable Tile source = mSource.getTile(x, y, zoom);
+        if (source == null) {
+            return null;
+        }
+
+        final @Nullable byte[] data = source.getData();
+        if (source == NO_TILE || data == null || data.length == 0) {
+            tile = VectorTile.EMPTY;
+        } else {
+            try {
+                tile = VectorTile.decode(isGzipped(data) ? gunzip(data) : data);
+            } catch (IOException | RuntimeException ex) {
+                // The tile is malformed, and would be on every request.
+                tile = VectorTile.EMPTY;
+            }
+        }
+        mCache.put(key, tile);
+        return tile;
+    }
+
+    private @NonNull byte[] render(
+            @NonNull VectorTile tile,
+            @NonNull VectorTileStyle style,
+            int x, int y, int zoom, int overzoom
+    ) {
+        @Nullable Renderer renderer = mRenderers.get();
+        if (renderer == null) {
+            renderer = new Renderer(mTileSize);
+            mRenderers.set(renderer);
+        }
+
+        renderer.bitmap.eraseColor(style.getBackgroundColor());
+        boolean painted = Color.alpha(style.getBackgroundColor()) != 0;
+
+        // The part of the source tile covered by this tile, when zoomed beyond the source.
+        final int span = 1 << overzoom;
+        final float offsetX = -(x & (span - 1)) * mTileSize;
+        final float offsetY = -(y & (span - 1)) * mTileSize;
+
+        for (VectorTileStyle.Rule rule : style.getRules()) {
+            if (zoom < rule.getMinZoom() || zoom > rule.getMaxZoom()) {
+                continue;
+            }
+            final @Nullable VectorTile.Layer layer = tile.getLayer(rule.getLayer());
+            if (layer == null) {
+                continue;
+            }
+
+            final @Nullable String filterKey = rule.getFilterKey();
+            final int keyIndex = filterKey == null ? -1 : layer.indexOfKey(filterKey);
+            if (filterKey != null && keyIndex < 0) {
+                continue;
+            }
+
+            final float scale = (float) mTileSize * span / layer.extent;
+            final float margin = Math.max(rule.getStrokeWidth(), rule.getPointRadius() * 2) + 1;
+            for (VectorTile.Feature feature : layer.features) {
+                if (feature.coords.length == 0
+                        || feature.minX * scale + offsetX > mTileSize + margin
+                        || feature.minY * scale + offsetY > mTileSize + margin
+                        || feature.maxX * scale + offsetX < -margin
+                        || feature.maxY * scale + offsetY < -margin) {
+                    continue;
+                }
+                if (keyIndex >= 0 && !rule.matches(layer.getValue(feature, keyIndex))) {
+                    continue;
+                }
+
+                painted |= renderer.draw(feature, rule, scale, offsetX, offsetY);
+            }
+        }
+        if (!painted) {
+            return EMPTY;
+        }
+
+        renderer.stream.reset();
+        renderer.bitmap.compress(Bitmap.CompressFormat.PNG, 100, renderer.stream);
+        return renderer.stream.toByteArray();
+    }
+
+
+    private static boolean isGzipped(@NonNull byte[] data) {
+        return data.length >= 2 && (data[0] & 0xFF) == 0x1F && (data[1] & 0xFF) == 0x8B;
+    }
+
+    private static @NonNull byte[] gunzip(@NonNull byte[] data) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+
+    /**
+     * The bitmap, canvas and paint a thread renders tiles with.
+     */
+    private static final class Renderer {
+        final @NonNull Bitmap bitmap;
+        final @NonNull Canvas canvas;
+        final @NonNull Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        final @NonNull Path path = new Path();
+        final @NonNull ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        Renderer(int tileSize) {
+            bitmap = Bitmap.createBitmap(tileSize, tileSize, Bitmap.Config.ARGB_8888);
+            canvas = new Canvas(bitmap);
+            paint.setStrokeCap(Paint.Cap.ROUND);
+            paint.setStrokeJoin(Paint.Join.ROUND);
+        }
+
+        /**
+         * Draws a feature as styled by a rule.
+         *
+         * @return Whether anything was drawn.
+         */
+        boolean draw(
+                @NonNull VectorTile.Feature feature,
+                @NonNull VectorTileStyle.Rule rule,
+                float scale, float offsetX, float offsetY
+        ) {
+            final boolean fill = Color.alpha(rule.getFillColor()) != 0;
+            final boolean stroke =
+                    Color.alpha(rule.getStrokeColor()) != 0 && rule.getStrokeWidth() > 0;
+            final float[] coords = feature.coords;
+
+            switch (feature.type) {
+                case VectorTile.GEOMETRY_POINT: {
+                    final float radius = rule.getPointRadius();
+                    if ((!fill && !stroke) || radius <= 0) {
+                        return false;
+                    }
+                    for (int i = 0; i < coords.length; i += 2) {
+                        final float cx = coords[i] * scale + offsetX;
+                        final float cy = coords[i + 1] * scale + offsetY;
+                        if (fill) {
+                            setFill(rule);
+                            canvas.drawCircle(cx, cy, radius, paint);
+                        }
+                        if (stroke) {
+                            setStroke(rule);
+                            canvas.drawCircle(cx, cy, radius, paint);
+                        }
+                    }
+                    return true;
+                }
+
+                case VectorTile.GEOMETRY_LINESTRING:
+                    if (!stroke) {
+                        return false;
+                    }
+                    buildPath(feature, scale, offsetX, offsetY, false);
+                    setStroke(rule);
+                    canvas.drawPath(path, paint);
+                    return true;
+
+                case VectorTile.GEOMETRY_POLYGON:
+                    if (!fill && !stroke) {
+                        return false;
+                    }
+                    buildPath(feature, scale, offsetX, offsetY, true);
+                    if (fill) {
+                        setFill(rule);
+                        canvas.drawPath(path, paint);
+                    }
+                    if (stroke) {
+                        setStroke(rule);
+                        canvas.drawPath(path, paint);
+                    }
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        private void buildPath(
+                @NonNull VectorTile.Feature feature,
+                float scale, float offsetX, float offsetY,
+                boolean close
+        ) {
+            final float[] coords = feature.coords;
+            final int[] parts = feature.parts;
+            final int pointCount = coords.length / 2;
+
+            path.rewind();
+            for (int part = 0; part < parts.length; part++) {
+                final int start = parts[part];
+                final int end = part + 1 < parts.length ? parts[part + 1] : pointCount;
+                for (int i = start; i < end; i++) {
+                    final float px = coords[i * 2] * scale + offsetX;
+                    final float py = coords[i * 2 + 1] * scale + offsetY;
+                    if (i == start) {
+                        path.moveTo(px, py);
+                    } else {
+                        path.lineTo(px, py);
+                    }
+                }
+                if (close) {
+                    path.close();
+                }
+            }
+        }
+
+        private void setFill(@NonNull VectorTileStyle.Rule rule) {
+            paint.setStyle(Paint.Style.FILL);
+            paint.setColor(rule.getFillColor());
+        }
+
+        private void setStroke(@NonNull VectorTileStyle.Rule rule) {
+            paint.setStyle(Paint.Style.STROKE);
+            paint.setColor(rule.getStrokeColor());
+            paint.setStrokeWidth(rule.getStrokeWidth());
+        }
+    }
+
+
+    /**
+     * Builds a {@link VectorTileProvider}.
+     */
+    public static final class Builder {
+        private final @NonNull TileProvider mSource;
+        private final @NonNull VectorTileStyle mStyle;
+        private int mTileSize = DEFAULT_TILE_SIZE;
+        private int mMaxSourceZoom = DEFAULT_MAX_SOURCE_ZOOM;
+        private int mCacheSize = DEFAULT_CACHE_SIZE;
+
+        /**
+         * Creates a builder rendering the tiles of the given source.
+         *
+         * @param source The provider of the encoded vector tiles.
+         * @param style  The style to render the tiles with.
+         */
+        public Builder(@NonNull TileProvider source, @NonNull VectorTileStyle style) {
+            mSource = source;
+            mStyle = style;
+        }
+
+        /**
+         * Sets the size of the rendered tiles, in pixels. Defaults to
+         * {@link #DEFAULT_TILE_SIZE}; larger tiles look sharper on dense displays.
+         */
+        public @NonNull Builder tileSize(@IntRange(from = 1) int tileSize) {
+            if (tileSize < 1) {
+                throw new IllegalArgumentException("tileSize < 1");
+            }
+            mTileSize = tileSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum zoom level of the source, beyond which its tiles are scaled up.
+         * Defaults to {@link #DEFAULT_MAX_SOURCE_ZOOM}.
+         */
+        public @NonNull Builder maxSourceZoom(@IntRange(from = 0) int maxSourceZoom) {
+            if (maxSourceZoom < 0) {
+                throw new IllegalArgumentException("maxSourceZoom < 0");
+            }
+            mMaxSourceZoom = maxSourceZoom;
+            return this;
+        }
+
+        /**
+         * Sets the estimated memory, in bytes, to keep decoded tiles in. Defaults to 8 MiB.
+         */
+        public @NonNull Builder cacheSize(@IntRange(from = 1) int cacheSize) {
+            if (cacheSize < 1) {
+                throw new IllegalArgumentException("cacheSize < 1");
+            }
+            mCacheSize = cacheSize;
+            return this;
+        }
+
+        public @NonNull VectorTileProvider build() {
+            return new VectorTileProvider(this);
+        }
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Supasin Tatiyanupanwong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.supasintatiyanupanwong.libraries.android.kits.maps.vector;
+
+import android.graphics.Color;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.FloatRange;
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+
+/**
+ * A compact style of Mapbox Vector Tiles, as an ordered list of rules drawn one over another.
+ * <p>
+ * Each rule draws the features of a layer, optionally only those with a given value of a
+ * property, within a range of zoom levels. Points are drawn as circles, lines are stroked, and
+ * polygons are filled and outlined. Widths and radii are in pixels of the rendered tiles.
+ *
+ * <pre>
+ * VectorTileStyle style = new VectorTileStyle.Builder()
+ *         .add(new VectorTileStyle.Rule("water").fillColor(0xFFAAD3DF))
+ *         .add(new VectorTileStyle.Rule("transportation")
+ *                 .filter("class", "motorway")
+ *                 .strokeColor(0xFFE892A2)
+ *                 .strokeWidth(3f))
+ *         .build();
+ * </pre>
+ *
+ * @since 2.4.0
+ */
+public final class VectorTileStyle {
+
+    private final @ColorInt int mBackgroundColor;
+    private final @NonNull Rule[] mRules;
+
+    private VectorTileStyle(@NonNull Builder builder) {
+        mBackgroundColor = builder.mBackgroundColor;
+        mRules = builder.mRules.toArray(new Rule[0]);
+    }
+
+    public @ColorInt int getBackgroundColor() {
+        return mBackgroundColor;
+    }
+
+    @NonNull Rule[] getRules() {
+        return mRules;
+    }
+
+
+    /**
+     * Draws the features of a layer which match its filter.
+     * <p>
+     * A rule is copied as it is added to a {@link Builder}, so changing it afterward does not
+     * change the styles already built.
+     */
+    public static final class Rule {
+        private final @NonNull String mLayer;
+        private @Nullable String mFilterKey;
+        private @Nullable Object mFilterValue;
+        private int mMinZoom = 0;
+        private int mMaxZoom = Integer.MAX_VALUE;
+        private @ColorInt int mFillColor = Color.TRANSPARENT;
+        private @ColorInt int mStrokeColor = Color.TRANSPARENT;
+        private float mStrokeWidth = 1f;
+        private float mPointRadius = 4f;
+
+        /**
+         * Creates a rule drawing every feature of the given layer, with no colors set.
+         */
+        public Rule(@NonNull String layer) {
+            mLayer = layer;
+        }
+
+        private Rule(@NonNull Rule other) {
+            mLayer = other.mLayer;
+            mFilterKey = other.mFilterKey;
+            mFilterValue = other.mFilterValue;
+            mMinZoom = other.mMinZoom;
+            mMaxZoom = other.mMaxZoom;
+            mFillColor = other.mFillColor;
+            mStrokeColor = other.mStrokeColor;
+            mStrokeWidth = other.mStrokeWidth;
+            mPointRadius = other.mPointRadius;
+        }
+
+        /**
+         * Only draws the features whose property of the given key equals the given value. Numbers
+         * are compared by value, whatever their type.
+         *
+         * @param key   The key of the property.
+         * @param value The value, a {@link String}, {@link Number} or {@link Boolean}.
+         */
+        public @NonNull Rule filter(@NonNull String key, @NonNull Object value) {
+            mFilterKey = key;
+            mFilterValue = value;
+            return this;
+        }
+
+        /**
+         * Only draws the features on tiles of the given zoom levels, inclusive.
+         */
+        public @NonNull Rule zoomRange(
+                @IntRange(from = 0) int minZoom,
+                @IntRange(from = 0) int maxZoom
+        ) {
+            if (minZoom < 0 || maxZoom < minZoom) {
+                throw new IllegalArgumentException(
+                        "Invalid zoom range [" + minZoom + ", " + maxZoom + "]");
+            }
+            mMinZoom = minZoom;
+            mMaxZoom = maxZoom;
+            return this;
+        }
+
+        /**
+         * Sets the color filling polygons and points. Transparent by default.
+         */
+        public @NonNull Rule fillColor(@ColorInt int color) {
+            mFillColor = color;
+            return this;
+        }
+
+        /**
+         * Sets the color stroking lines and the outlines of polygons and points. Transparent by
+         * default.
+         */
+        public @NonNull Rule strokeColor(@ColorInt int color) {
+            mStrokeColor = color;
+            return this;
+        }
+
+        /**
+         * Sets the width of strokes, in pixels. Defaults to 1.
+         */
+        public @NonNull Rule strokeWidth(@FloatRange(from = 0) float width) {
+            mStrokeWidth = width;
+            return this;
+        }
+
+        /**
+         * Sets the radius of the circles drawn for points, in pixels. Defaults to 4.
+         */
+        public @NonNull Rule pointRadius(@FloatRange(from = 0) float radius) {
+            mPointRadius = radius;
+            return this;
+        }
+
+        public @NonNull String getLayer() {
+            return mLayer;
+        }
+
+        public @Nullable String getFilterKey() {
+            return mFilterKey;
+        }
+
+        public @Nullable Object getFilterValue() {
+            return mFilterValue;
+        }
+
+        public int getMinZoom() {
+            return mMinZoom;
+        }
+
+        public int getMaxZoom() {
+            return mMaxZoom;
+        }
+
+        public @ColorInt int getFillColor() {
+            return mFillColor;
+        }
+
+        public @ColorInt int getStrokeColor() {
+            return mStrokeColor;
+        }
+
+        public float getStrokeWidth() {
+            return mStrokeWidth;
+        }
+
+        public float getPointRadius() {
+            return mPointRadius;
+        }
+
+        /**
+         * Returns whether the given value of the filter property of a feature matches the filter.
+         */
+        boolean matches(@Nullable Object value) {
+            if (value instanceof Number && mFilterValue instanceof Number) {
+                return ((Number) value).doubleValue() == ((Number) mFilterValue).doubleValue();
+            }
+            return value != null && value.equals(mFilterValue);
+        }
+    }
+
+
+    /**
+     * Builds a {@link VectorTileStyle}.
+     */
+    public static final class Builder {
+        private @ColorInt int mBackgroundColor = Color.TRANSPARENT;
+        private final @NonNull ArrayList<Rule> mRules = new ArrayList<>();
+
+        /**
+         * Sets the color filling every tile below the rules. Transparent by default, so that the
+         * map shows through.
+         */
+        public @NonNull Builder backgroundColor(@ColorInt int color) {
+            mBackgroundColor = color;
+            return this;
+        }
+
+        /**
+         * Adds a rule, drawn over the rules added before.
+         */
+        public @NonNull Builder add(@NonNull Rule rule) {
+            mRules.add(new Rule(rule));
+            return this;
+        }
+
+        public @NonNull VectorTileStyle build() {
+            return new VectorTileStyle(this);
+        }
+    }
+
+}